@@ -0,0 +1,194 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the {@code META-INF/mybatis.index} file.
+ * <p>
+ * The index lists every type compiled in the current module with the MyBatis stereotypes it has
+ ({@code mapper}, {@code alias} and {@code type-handler}). The mybatis-spring-boot-autoconfigure module reads this
+ * file instead of scanning the classpath for mappers, type aliases and type handlers. Non-ASCII characters are written
+ * as unicode escapes, so the file can be read as a properties file.
+ * </p>
+ * <p>
+ * An incremental build (e.g. by an IDE) compiles only changed types, so the index that written by a previous build is
+ * merged: entries of types that are compiled in this build are replaced, entries of types that no longer exist are
+ * removed and other entries are kept.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@SupportedAnnotationTypes("*")
+public class MybatisIndexProcessor extends AbstractProcessor {
+
+  static final String INDEX_LOCATION = "META-INF/mybatis.index";
+
+  static final String MAPPER_STEREOTYPE = "mapper";
+
+  static final String ALIAS_STEREOTYPE = "alias";
+
+  static final String TYPE_HANDLER_STEREOTYPE = "type-handler";
+
+  private static final String MAPPER_ANNOTATION = "org.apache.ibatis.annotations.Mapper";
+
+  private static final String ALIAS_ANNOTATION = "org.apache.ibatis.type.Alias";
+
+  private static final String MAPPED_TYPES_ANNOTATION = "org.apache.ibatis.type.MappedTypes";
+
+  private static final String TYPE_HANDLER_TYPE = "org.apache.ibatis.type.TypeHandler";
+
+  private final Map<String, Set<String>> entries = new TreeMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getRootElements()) {
+      if (element instanceof TypeElement) {
+        addEntries((TypeElement) element);
+      }
+    }
+    if (roundEnv.processingOver()) {
+      writeIndex();
+    }
+    return false;
+  }
+
+  private void addEntries(TypeElement type) {
+    Set<String> stereotypes = new TreeSet<>();
+    if (hasAnnotation(type, MAPPER_ANNOTATION) && type.getKind() == ElementKind.INTERFACE) {
+      stereotypes.add(MAPPER_STEREOTYPE);
+    }
+    if (hasAnnotation(type, ALIAS_ANNOTATION)) {
+      stereotypes.add(ALIAS_STEREOTYPE);
+    }
+    if (hasAnnotation(type, MAPPED_TYPES_ANNOTATION) || isTypeHandler(type)) {
+      stereotypes.add(TYPE_HANDLER_STEREOTYPE);
+    }
+    this.entries.put(this.processingEnv.getElementUtils().getBinaryName(type).toString(), stereotypes);
+    for (Element enclosed : type.getEnclosedElements()) {
+      if (enclosed instanceof TypeElement) {
+        addEntries((TypeElement) enclosed);
+      }
+    }
+  }
+
+  private boolean hasAnnotation(TypeElement type, String annotationName) {
+    for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+      if (annotation.getAnnotationType().toString().equals(annotationName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isTypeHandler(TypeElement type) {
+    TypeElement typeHandler = this.processingEnv.getElementUtils().getTypeElement(TYPE_HANDLER_TYPE);
+    if (typeHandler == null) {
+      return false;
+    }
+    TypeMirror typeHandlerType = this.processingEnv.getTypeUtils().erasure(typeHandler.asType());
+    return this.processingEnv.getTypeUtils().isAssignable(this.processingEnv.getTypeUtils().erasure(type.asType()),
+        typeHandlerType);
+  }
+
+  private void writeIndex() {
+    Map<String, Set<String>> index = readPreviousIndex();
+    index.keySet().removeIf(type -> !exists(type));
+    index.putAll(this.entries);
+    if (index.isEmpty()) {
+      return;
+    }
+    try {
+      FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+          INDEX_LOCATION);
+      try (Writer writer = file.openWriter()) {
+        for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+          writer.write(escape(entry.getKey()));
+          writer.write("=");
+          writer.write(String.join(",", entry.getValue()));
+          writer.write("\n");
+        }
+      }
+    } catch (IOException e) {
+      this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+          "Failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+    }
+  }
+
+  private Map<String, Set<String>> readPreviousIndex() {
+    Map<String, Set<String>> index = new TreeMap<>();
+    Properties properties = new Properties();
+    try {
+      FileObject file = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+      try (InputStream in = file.openInputStream()) {
+        properties.load(in);
+      }
+    } catch (IOException | IllegalArgumentException e) {
+      // No index is written by a previous build
+      return index;
+    }
+    for (String type : properties.stringPropertyNames()) {
+      String stereotypes = properties.getProperty(type);
+      index.put(type, stereotypes.isEmpty() ? new TreeSet<>() : new TreeSet<>(Arrays.asList(stereotypes.split(","))));
+    }
+    return index;
+  }
+
+  private boolean exists(String binaryName) {
+    // Types that are not compiled in this build are resolved from the class output (or the classpath)
+    return this.processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+  }
+
+  private static String escape(String value) {
+    StringBuilder sb = new StringBuilder(value.length());
+    for (char c : value.toCharArray()) {
+      if (c < 0x0020 || c > 0x007e) {
+        sb.append(String.format("\\u%04x", (int) c));
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MybatisIndexProcessor}.
+ */
+class MybatisIndexProcessorTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testWriteIndex() throws IOException {
+    writeSource("org/apache/ibatis/annotations/Mapper.java",
+        "package org.apache.ibatis.annotations; public @interface Mapper {}");
+    writeSource("org/apache/ibatis/type/Alias.java",
+        "package org.apache.ibatis.type; public @interface Alias { String value(); }");
+    writeSource("org/apache/ibatis/type/TypeHandler.java",
+        "package org.apache.ibatis.type; public interface TypeHandler<T> {}");
+    writeSource("com/example/CityMapper.java",
+        "package com.example; @org.apache.ibatis.annotations.Mapper public interface CityMapper {}");
+    writeSource("com/example/City.java",
+        "package com.example; @org.apache.ibatis.type.Alias(\"city\") public class City { public static class Name {} }");
+    writeSource("com/example/CityTypeHandler.java",
+        "package com.example; public class CityTypeHandler implements org.apache.ibatis.type.TypeHandler<City> {}");
+
+    Properties index = compile();
+
+    assertThat(index.getProperty("com.example.CityMapper")).isEqualTo("mapper");
+    assertThat(index.getProperty("com.example.City")).isEqualTo("alias");
+    assertThat(index.getProperty("com.example.City$Name")).isEmpty();
+    assertThat(index.getProperty("com.example.CityTypeHandler")).isEqualTo("type-handler");
+  }
+
+  @Test
+  void testWriteIndexWithMultiByteCharacterInTypeName() throws IOException {
+    writeSource("com/example/Types.java", "package com.example; class シティー {}");
+
+    Properties index = compile();
+
+    assertThat(index.getProperty("com.example.シティー")).isEmpty();
+  }
+
+  @Test
+  void testMergeIndexOfPreviousBuild() throws IOException {
+    writeSource("org/apache/ibatis/type/Alias.java",
+        "package org.apache.ibatis.type; public @interface Alias { String value(); }");
+    writeSource("com/example/City.java",
+        "package com.example; @org.apache.ibatis.type.Alias(\"city\") public class City {}");
+    writeSource("com/example/Country.java", "package com.example; public class Country {}");
+    compile();
+
+    // An incremental build that compiles only a new type
+    writeSource("com/example/State.java", "package com.example; public class State {}");
+    Properties index = compile("com/example/State.java");
+
+    assertThat(index.stringPropertyNames()).contains("com.example.City", "com.example.Country", "com.example.State");
+    assertThat(index.getProperty("com.example.City")).isEqualTo("alias");
+
+    // An incremental build after removing a type
+    Files.delete(this.tempDir.resolve("src/com/example/Country.java"));
+    Files.delete(this.tempDir.resolve("classes/com/example/Country.class"));
+    index = compile("com/example/State.java");
+
+    assertThat(index.stringPropertyNames()).contains("com.example.City", "com.example.State")
+        .doesNotContain("com.example.Country");
+  }
+
+  private void writeSource(String path, String content) throws IOException {
+    Path file = this.tempDir.resolve("src").resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content, StandardCharsets.UTF_8);
+  }
+
+  private Properties compile(String... paths) throws IOException {
+    Path output = Files.createDirectories(this.tempDir.resolve("classes"));
+    List<Path> sources = new ArrayList<>();
+    if (paths.length == 0) {
+      try (var files = Files.walk(this.tempDir.resolve("src"))) {
+        files.filter(path -> path.toString().endsWith(".java")).forEach(sources::add);
+      }
+    } else {
+      for (String path : paths) {
+        sources.add(this.tempDir.resolve("src").resolve(path));
+      }
+    }
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+      Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromPaths(sources);
+      JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+          List.of("-d", output.toString(), "-classpath", output.toString(), "-encoding", "UTF-8"), null,
+          compilationUnits);
+      task.setProcessors(List.of(new MybatisIndexProcessor()));
+      assertThat(task.call()).isTrue();
+    }
+    Properties index = new Properties();
+    try (InputStream in = Files.newInputStream(output.resolve(MybatisIndexProcessor.INDEX_LOCATION))) {
+      index.load(in);
+    }
+    return index;
+  }
+
+}
@@ -0,0 +1,72 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Consistent hash ring that maps keys to nodes using virtual nodes.
+ * <p>
+ * Each node is placed on the ring at {@code virtualNodes} points derived from its name, so adding or removing a node
+ * moves only keys adjacent to its points. Points and keys are hashed by MD5.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+class ConsistentHash<T> {
+
+  private final NavigableMap<Long, T> ring = new TreeMap<>();
+
+  ConsistentHash(Map<String, T> nodes, int virtualNodes) {
+    Assert.notEmpty(nodes, "nodes must not be empty");
+    Assert.isTrue(virtualNodes > 0, "virtualNodes must be greater than 0");
+    nodes.forEach((name, node) -> {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.putIfAbsent(hash(name + "#" + i), node);
+      }
+    });
+  }
+
+  T get(Object key) {
+    Map.Entry<Long, T> entry = ring.ceilingEntry(hash(String.valueOf(key)));
+    return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+  }
+
+  private static long hash(String value) {
+    byte[] digest = md5().digest(value.getBytes(StandardCharsets.UTF_8));
+    long hash = 0;
+    for (int i = 0; i < 8; i++) {
+      hash = (hash << 8) | (digest[i] & 0xFF);
+    }
+    return hash;
+  }
+
+  private static MessageDigest md5() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.metadata.CompositeDataSourcePoolMetadataProvider;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadata;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+
+/**
+ * Utilities for data sources that are specified by {@code mybatis.*} properties or used by MyBatis components.
+ *
+ * @since 4.1.1
+ */
+final class DataSources {
+
+  private DataSources() {
+    // NOP
+  }
+
+  /**
+   * Build a data source, and bind settings specific to the pool implementation (e.g. {@code maximum-pool-size} of the
+   * Hikari) from {@code <prefix>.pool.*}, in the same way as {@code spring.datasource.hikari.*}.
+   *
+   * @param properties
+   *          the data source properties
+   * @param binder
+   *          a binder for the pool settings
+   * @param prefix
+   *          the property prefix of the data source (e.g. {@code mybatis.replicas.data-sources[0]})
+   *
+   * @return a data source
+   */
+  static DataSource build(DataSourceProperties properties, Binder binder, String prefix) {
+    try {
+      // Detect an embedded database when the url is not specified
+      properties.afterPropertiesSet();
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to initialize the data source '" + prefix + "'", e);
+    }
+    DataSource dataSource = properties.initializeDataSourceBuilder().build();
+    binder.bind(prefix + ".pool", Bindable.ofInstance(dataSource));
+    return dataSource;
+  }
+
+  /**
+   * Return the maximum size of the connection pool of a data source.
+   *
+   * @param dataSource
+   *          a data source (can be {@code null})
+   * @param metadataProviders
+   *          providers of pool metadata
+   *
+   * @return the maximum size, or {@code null} if it cannot be detected
+   */
+  static Integer getMaxPoolSize(DataSource dataSource,
+      ObjectProvider<DataSourcePoolMetadataProvider> metadataProviders) {
+    if (dataSource == null) {
+      return null;
+    }
+    DataSourcePoolMetadata metadata = new CompositeDataSourcePoolMetadataProvider(
+        metadataProviders.orderedStream().toList()).getDataSourcePoolMetadata(dataSource);
+    Integer max = metadata != null ? metadata.getMax() : null;
+    return max != null && max > 0 ? max : null;
+  }
+
+}
@@ -0,0 +1,377 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.annotations.MapKey;
+import org.apache.ibatis.binding.BindingException;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.reflection.TypeParameterResolver;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+
+/**
+ * A mapper method that returns its result wrapped by a deferred type (e.g. {@code CompletableFuture<T>} or
+ * {@code Mono<T>}).
+ * <p>
+ * The statement of the method is executed in the same way as a synchronous mapper method that returns {@code T}, and
+ * the result is converted to {@code T} ({@code T}, {@code List<T>}, {@code Optional<T>}, a {@link MapKey} map, or an
+ * affected row count as {@code Integer}, {@code Long}, {@code Boolean} or {@code Void}).
+ * </p>
+ *
+ * @since 4.1.1
+ */
+final class DeferredMapperMethod {
+
+  /**
+   * The suffix of a statement id that maps results of a deferred mapper method to its element type.
+   */
+  static final String ELEMENT_TYPE_STATEMENT_SUFFIX = "!deferred";
+
+  private final MappedStatement mappedStatement;
+
+  private final ParamNameResolver paramNameResolver;
+
+  private final Class<?> resultType;
+
+  private final Class<?> elementType;
+
+  private final String mapKey;
+
+  DeferredMapperMethod(Configuration configuration, Class<?> mapperInterface, Method method) {
+    MappedStatement mappedStatement = resolveMappedStatement(configuration, mapperInterface, method);
+    String elementTypeStatementId = mappedStatement.getId() + ELEMENT_TYPE_STATEMENT_SUFFIX;
+    this.mappedStatement = configuration.hasStatement(elementTypeStatementId, false)
+        ? configuration.getMappedStatement(elementTypeStatementId, false) : mappedStatement;
+    this.paramNameResolver = new ParamNameResolver(configuration, method);
+    Type returnType = TypeParameterResolver.resolveReturnType(method, mapperInterface);
+    Type valueType = typeArgument(returnType, 0);
+    this.resultType = toClass(valueType);
+    MapKey mapKeyAnnotation = method.getAnnotation(MapKey.class);
+    this.mapKey = mapKeyAnnotation != null && Map.class.isAssignableFrom(this.resultType) ? mapKeyAnnotation.value()
+        : null;
+    if (Cursor.class.isAssignableFrom(this.resultType)) {
+      throw new BindingException("Cursor cannot be returned from a deferred mapper method: " + method);
+    }
+    if (Collection.class.isAssignableFrom(this.resultType) || Optional.class.equals(this.resultType)) {
+      this.elementType = toClass(typeArgument(valueType, 0));
+    } else if (this.mapKey != null) {
+      this.elementType = toClass(typeArgument(valueType, 1));
+    } else {
+      this.elementType = this.resultType;
+    }
+  }
+
+  /**
+   * Return whether the specified method is an abstract mapper method that returns the specified type.
+   *
+   * @param method
+   *          a method
+   * @param returnType
+   *          a deferred return type
+   *
+   * @return {@code true} if the method is a deferred mapper method
+   */
+  static boolean isDeferredMethod(Method method, Class<?> returnType) {
+    return method.getReturnType() == returnType && !method.isDefault() && method.getDeclaringClass() != Object.class;
+  }
+
+  /**
+   * Return whether the specified mapper interface declares methods that return the specified type.
+   *
+   * @param mapperInterface
+   *          a mapper interface
+   * @param returnType
+   *          a deferred return type
+   *
+   * @return {@code true} if the interface has a deferred mapper method
+   */
+  static boolean hasDeferredMethods(Class<?> mapperInterface, Class<?> returnType) {
+    for (Method method : mapperInterface.getMethods()) {
+      if (isDeferredMethod(method, returnType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resolve result types of statements that bound to methods of a mapper that return the specified type.
+   * <p>
+   * MyBatis infers the deferred type as a result type of a statement that defined by annotations, so this registers a
+   * copy of such a statement that maps results to the element type (with the {@value #ELEMENT_TYPE_STATEMENT_SUFFIX}
+   * suffix, in the same way as MyBatis registers a {@code selectKey} statement). The original statement and its result
+   * maps are not changed.
+   * </p>
+   *
+   * @param mapper
+   *          a mapper proxy
+   * @param returnType
+   *          a deferred return type
+   */
+  static void resolveResultTypes(Object mapper, Class<?> returnType) {
+    Configuration configuration = MapperProxies.getSqlSession(mapper).getConfiguration();
+    Class<?> mapperInterface = MapperProxies.getMapperInterface(mapper);
+    for (Method method : mapperInterface.getMethods()) {
+      if (isDeferredMethod(method, returnType)) {
+        DeferredMapperMethod deferredMethod = new DeferredMapperMethod(configuration, mapperInterface, method);
+        MappedStatement mappedStatement = deferredMethod.mappedStatement;
+        if (mappedStatement.getResultMaps().stream().anyMatch(resultMap -> resultMap.getType() == returnType)) {
+          synchronized (configuration) {
+            String id = mappedStatement.getId() + ELEMENT_TYPE_STATEMENT_SUFFIX;
+            if (!configuration.hasStatement(id, false)) {
+              configuration.addMappedStatement(
+                  copyWithResultType(configuration, mappedStatement, id, returnType, deferredMethod.elementType));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private static MappedStatement copyWithResultType(Configuration configuration, MappedStatement source, String id,
+      Class<?> returnType, Class<?> elementType) {
+    List<ResultMap> resultMaps = new ArrayList<>();
+    for (ResultMap resultMap : source.getResultMaps()) {
+      if (resultMap.getType() == returnType) {
+        resultMaps.add(new ResultMap.Builder(configuration, resultMap.getId() + ELEMENT_TYPE_STATEMENT_SUFFIX,
+            elementType, resultMap.getResultMappings(), resultMap.getAutoMapping())
+            .discriminator(resultMap.getDiscriminator()).build());
+      } else {
+        resultMaps.add(resultMap);
+      }
+    }
+    return new MappedStatement.Builder(configuration, id, source.getSqlSource(), source.getSqlCommandType())
+        .resource(source.getResource()).fetchSize(source.getFetchSize()).timeout(source.getTimeout())
+        .statementType(source.getStatementType()).resultSetType(source.getResultSetType())
+        .parameterMap(source.getParameterMap()).resultMaps(resultMaps).cache(source.getCache())
+        .flushCacheRequired(source.isFlushCacheRequired()).useCache(source.isUseCache())
+        .resultOrdered(source.isResultOrdered()).keyGenerator(source.getKeyGenerator())
+        .keyProperty(join(source.getKeyProperties())).keyColumn(join(source.getKeyColumns()))
+        .databaseId(source.getDatabaseId()).lang(source.getLang()).resultSets(join(source.getResultSets()))
+        .dirtySelect(source.isDirtySelect()).build();
+  }
+
+  private static String join(String[] values) {
+    return values == null ? null : String.join(",", values);
+  }
+
+  String getStatementId() {
+    return this.mappedStatement.getId();
+  }
+
+  SqlCommandType getSqlCommandType() {
+    return this.mappedStatement.getSqlCommandType();
+  }
+
+  Object getParameter(Object[] args) {
+    return this.paramNameResolver.getNamedParams(args);
+  }
+
+  /**
+   * Execute the statement and convert the result.
+   *
+   * @param sqlSession
+   *          a session that executes the statement
+   * @param args
+   *          arguments of the method
+   *
+   * @return the result
+   */
+  Object execute(SqlSession sqlSession, Object[] args) {
+    String statement = getStatementId();
+    Object param = getParameter(args);
+    switch (getSqlCommandType()) {
+      case INSERT:
+        return rowCountResult(sqlSession.insert(statement, param));
+      case UPDATE:
+        return rowCountResult(sqlSession.update(statement, param));
+      case DELETE:
+        return rowCountResult(sqlSession.delete(statement, param));
+      case SELECT:
+        return select(sqlSession, statement, param, extractRowBounds(args));
+      case FLUSH:
+        return sqlSession.flushStatements();
+      default:
+        throw new BindingException("Unknown execution method for: " + statement);
+    }
+  }
+
+  static RowBounds extractRowBounds(Object[] args) {
+    if (args != null) {
+      for (Object arg : args) {
+        if (arg instanceof RowBounds) {
+          return (RowBounds) arg;
+        }
+      }
+    }
+    return RowBounds.DEFAULT;
+  }
+
+  private Object select(SqlSession sqlSession, String statement, Object param, RowBounds rowBounds) {
+    if (Collection.class.isAssignableFrom(this.resultType)) {
+      List<Object> list = sqlSession.selectList(statement, param, rowBounds);
+      if (this.resultType.isAssignableFrom(list.getClass())) {
+        return list;
+      }
+      @SuppressWarnings("unchecked")
+      Collection<Object> collection = (Collection<Object>) this.mappedStatement.getConfiguration().getObjectFactory()
+          .create(this.resultType);
+      collection.addAll(list);
+      return collection;
+    }
+    if (this.mapKey != null) {
+      return sqlSession.selectMap(statement, param, this.mapKey, rowBounds);
+    }
+    Object result = sqlSession.selectOne(statement, param);
+    return Optional.class.equals(this.resultType) ? Optional.ofNullable(result) : result;
+  }
+
+  private Object rowCountResult(int rowCount) {
+    if (Integer.class.equals(this.resultType) || Object.class.equals(this.resultType)) {
+      return rowCount;
+    }
+    if (Long.class.equals(this.resultType)) {
+      return (long) rowCount;
+    }
+    if (Boolean.class.equals(this.resultType)) {
+      return rowCount > 0;
+    }
+    if (Void.class.equals(this.resultType)) {
+      return null;
+    }
+    throw new BindingException("Mapper method '" + getStatementId() + "' has an unsupported return type: "
+        + this.resultType.getName());
+  }
+
+  private static MappedStatement resolveMappedStatement(Configuration configuration, Class<?> mapperInterface,
+      Method method) {
+    MappedStatement mappedStatement = resolveMappedStatement(configuration, mapperInterface, method.getName(),
+        method.getDeclaringClass());
+    if (mappedStatement == null) {
+      throw new BindingException(
+          "Invalid bound statement (not found): " + mapperInterface.getName() + "." + method.getName());
+    }
+    return mappedStatement;
+  }
+
+  // Same as the MapperMethod, walk up the interface hierarchy to the interface that declares the method
+  private static MappedStatement resolveMappedStatement(Configuration configuration, Class<?> mapperInterface,
+      String methodName, Class<?> declaringClass) {
+    String statementId = mapperInterface.getName() + "." + methodName;
+    if (configuration.hasStatement(statementId)) {
+      return configuration.getMappedStatement(statementId);
+    }
+    if (mapperInterface == declaringClass) {
+      return null;
+    }
+    for (Class<?> superInterface : mapperInterface.getInterfaces()) {
+      if (declaringClass.isAssignableFrom(superInterface)) {
+        MappedStatement mappedStatement = resolveMappedStatement(configuration, superInterface, methodName,
+            declaringClass);
+        if (mappedStatement != null) {
+          return mappedStatement;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static Type typeArgument(Type type, int index) {
+    if (type instanceof ParameterizedType) {
+      Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+      if (arguments.length > index) {
+        return arguments[index];
+      }
+    }
+    return Object.class;
+  }
+
+  private static Class<?> toClass(Type type) {
+    if (type instanceof Class) {
+      return (Class<?>) type;
+    }
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+    return Object.class;
+  }
+
+  /**
+   * A cache of deferred mapper methods keyed by a {@link Configuration}, a mapper interface and a method, because a
+   * method inherited from a generic base interface is bound to a different statement for each mapper interface.
+   */
+  static final class Cache {
+
+    private final Map<Key, DeferredMapperMethod> methods = new ConcurrentHashMap<>();
+
+    DeferredMapperMethod get(Configuration configuration, Class<?> mapperInterface, Method method) {
+      return this.methods.computeIfAbsent(new Key(configuration, mapperInterface, method),
+          key -> new DeferredMapperMethod(configuration, mapperInterface, method));
+    }
+
+  }
+
+  private static final class Key {
+
+    private final Configuration configuration;
+
+    private final Class<?> mapperInterface;
+
+    private final Method method;
+
+    private Key(Configuration configuration, Class<?> mapperInterface, Method method) {
+      this.configuration = configuration;
+      this.mapperInterface = mapperInterface;
+      this.method = method;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return this.configuration == other.configuration && this.mapperInterface == other.mapperInterface
+          && this.method.equals(other.method);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(this.configuration), this.mapperInterface, this.method);
+    }
+
+  }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link MybatisCacheInvalidationBus} that delivers messages to listeners in the same JVM synchronously.
+ * <p>
+ * This implementation is intended for tests and for applications that run multiple application contexts in a single
+ * JVM; share an instance between the application contexts for simulating a cluster. A failure of a listener is logged
+ * and does not prevent delivering to other listeners.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class InMemoryMybatisCacheInvalidationBus implements MybatisCacheInvalidationBus {
+
+  private static final Logger logger = LoggerFactory.getLogger(InMemoryMybatisCacheInvalidationBus.class);
+
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(String origin, Set<String> namespaces) {
+    Set<String> message = Set.copyOf(namespaces);
+    for (Listener listener : listeners) {
+      try {
+        listener.onInvalidation(origin, message);
+      } catch (RuntimeException e) {
+        logger.warn("Failed to deliver cache invalidation of {} to {}", message, listener, e);
+      }
+    }
+  }
+
+  @Override
+  public void subscribe(Listener listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void unsubscribe(Listener listener) {
+    listeners.remove(listener);
+  }
+
+}
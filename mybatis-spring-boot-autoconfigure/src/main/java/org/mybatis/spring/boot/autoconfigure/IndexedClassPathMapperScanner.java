@@ -0,0 +1,70 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.mybatis.spring.mapper.ClassPathMapperScanner;
+import org.springframework.beans.factory.BeanDefinitionStoreException;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.classreading.MetadataReader;
+
+/**
+ * {@link ClassPathMapperScanner} that finds mappers listed in the {@code META-INF/mybatis.index} files instead of
+ * scanning the classpath.
+ * <p>
+ * This class is used by the {@link MybatisAutoConfiguration.AutoConfiguredMapperScannerRegistrar} only when all base
+ * packages can be served from the index. Candidates are still filtered by the include and exclude filters.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+class IndexedClassPathMapperScanner extends ClassPathMapperScanner {
+
+  private final MybatisIndex index;
+
+  IndexedClassPathMapperScanner(BeanDefinitionRegistry registry, Environment environment, MybatisIndex index) {
+    super(registry, environment);
+    this.index = index;
+  }
+
+  @Override
+  public Set<BeanDefinition> findCandidateComponents(String basePackage) {
+    Set<BeanDefinition> candidates = new LinkedHashSet<>();
+    for (String className : this.index.getTypes(basePackage, MybatisIndex.MAPPER_STEREOTYPE)) {
+      try {
+        MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(className);
+        if (isCandidateComponent(metadataReader)) {
+          ScannedGenericBeanDefinition beanDefinition = new ScannedGenericBeanDefinition(metadataReader);
+          beanDefinition.setSource(metadataReader.getResource());
+          if (isCandidateComponent((AnnotatedBeanDefinition) beanDefinition)) {
+            candidates.add(beanDefinition);
+          }
+        }
+      } catch (IOException e) {
+        throw new BeanDefinitionStoreException("Failed to read candidate mapper class: " + className, e);
+      }
+    }
+    return candidates;
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Proxy;
+
+import org.aopalliance.aop.Advice;
+import org.apache.ibatis.binding.MapperProxy;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+
+/**
+ * Utilities for applying advices to mapper beans.
+ * <p>
+ * Several features wrap mapper beans, so an advice is added to the existing Spring proxy of a mapper (when it is not
+ * frozen) instead of wrapping the proxy again; this keeps the mapper detectable by other features regardless of the
+ * order of post processors.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+final class MapperProxies {
+
+  private MapperProxies() {
+    // NOP
+  }
+
+  /**
+   * Return whether the specified object is a mapper proxy created by MyBatis.
+   *
+   * @param object
+   *          an object
+   *
+   * @return {@code true} if the object is a mapper proxy
+   */
+  static boolean isMapperProxy(Object object) {
+    return object != null && Proxy.isProxyClass(object.getClass())
+        && Proxy.getInvocationHandler(object) instanceof MapperProxy;
+  }
+
+  /**
+   * Return a mapper proxy created by MyBatis that the specified bean wraps.
+   *
+   * @param bean
+   *          a bean
+   *
+   * @return a mapper proxy, or {@code null} if the bean is not a mapper
+   */
+  static Object getMapperProxy(Object bean) {
+    if (isMapperProxy(bean)) {
+      return bean;
+    }
+    if (bean instanceof Advised) {
+      try {
+        Object target = ((Advised) bean).getTargetSource().getTarget();
+        return isMapperProxy(target) ? target : null;
+      } catch (Exception e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Return a session that the specified mapper proxy uses.
+   *
+   * @param mapper
+   *          a mapper proxy
+   *
+   * @return a session (usually a {@code SqlSessionTemplate})
+   */
+  static SqlSession getSqlSession(Object mapper) {
+    return (SqlSession) SystemMetaObject.forObject(Proxy.getInvocationHandler(mapper)).getValue("sqlSession");
+  }
+
+  /**
+   * Return an interface that the specified mapper proxy implements.
+   *
+   * @param mapper
+   *          a mapper proxy
+   *
+   * @return a mapper interface
+   */
+  static Class<?> getMapperInterface(Object mapper) {
+    return (Class<?>) SystemMetaObject.forObject(Proxy.getInvocationHandler(mapper)).getValue("mapperInterface");
+  }
+
+  /**
+   * Apply an advice to a mapper bean.
+   *
+   * @param bean
+   *          a mapper bean
+   * @param advice
+   *          an advice
+   * @param outermost
+   *          whether the advice should be applied before other advices
+   *
+   * @return a bean that the advice is applied to
+   */
+  static Object advise(Object bean, Advice advice, boolean outermost) {
+    if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+      Advised advised = (Advised) bean;
+      if (outermost) {
+        advised.addAdvice(0, advice);
+      } else {
+        advised.addAdvice(advice);
+      }
+      return bean;
+    }
+    ProxyFactory proxyFactory = new ProxyFactory(bean);
+    proxyFactory.addAdvice(advice);
+    return proxyFactory.getProxy(bean.getClass().getClassLoader());
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for mapper methods that return {@link CompletableFuture}.
+ * <p>
+ * Mapper beans that declare such methods are wrapped by a {@link MybatisAsyncMapperInterceptor}. Calls run on the
+ * {@value #EXECUTOR_BEAN_NAME} bean, which can be replaced by defining an {@link Executor} bean with the same name. By
+ * default, at most {@code mybatis.async.max-concurrency} calls (the maximum size of the connection pool, or 10 when it
+ * cannot be detected) run at the same time: on virtual threads on Java 21 or above (a caller waits when the limit is
+ * reached), and on a thread pool sized to the limit otherwise (calls are queued). Each call runs in a new transaction
+ * of the {@link PlatformTransactionManager} that manages the {@link DataSource} of the mapper's
+ * {@link SqlSessionFactory} (or the single transaction manager when no one manages it).
+ * </p>
+ * <p>
+ * This configuration is enabled when {@code mybatis.async.enabled} is {@code true}.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class })
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "async.enabled", havingValue = "true")
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter({ MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class })
+public class MybatisAsyncMapperAutoConfiguration {
+
+  /**
+   * The bean name of the executor for asynchronous mapper methods.
+   */
+  public static final String EXECUTOR_BEAN_NAME = "mybatisAsyncExecutor";
+
+  private static final int DEFAULT_POOL_SIZE = 10;
+
+  @Bean(name = EXECUTOR_BEAN_NAME)
+  @ConditionalOnMissingBean(name = EXECUTOR_BEAN_NAME)
+  Executor mybatisAsyncExecutor(MybatisProperties properties, ObjectProvider<DataSource> dataSource,
+      ObjectProvider<DataSourcePoolMetadataProvider> metadataProviders) {
+    Integer maxConcurrency = properties.getAsync().getMaxConcurrency();
+    if (maxConcurrency == null) {
+      Integer maxPoolSize = DataSources.getMaxPoolSize(dataSource.getIfUnique(), metadataProviders);
+      maxConcurrency = maxPoolSize != null ? maxPoolSize : DEFAULT_POOL_SIZE;
+    }
+    Assert.isTrue(maxConcurrency > 0, "mybatis.async.max-concurrency must be greater than 0");
+    if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mybatis-async-");
+      executor.setVirtualThreads(true);
+      // A caller waits until a running call completes when the limit is reached
+      executor.setConcurrencyLimit(maxConcurrency);
+      return executor;
+    }
+    // A platform thread per call is not bounded, so calls are queued on a pool sized to the maximum concurrency
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("mybatis-async-");
+    executor.setDaemon(true);
+    executor.setCorePoolSize(maxConcurrency);
+    executor.setMaxPoolSize(maxConcurrency);
+    return executor;
+  }
+
+  @Bean
+  static AsyncMapperPostProcessor mybatisAsyncMapperPostProcessor(
+      @Qualifier(EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executor,
+      ObjectProvider<PlatformTransactionManager> transactionManager) {
+    return new AsyncMapperPostProcessor(executor, transactionManager);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that applies {@link MybatisAsyncMapperInterceptor} to mapper beans.
+   */
+  static class AsyncMapperPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private final ObjectProvider<Executor> executor;
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    private final Map<DataSource, MybatisAsyncMapperInterceptor> interceptors = new IdentityHashMap<>();
+
+    private ListableBeanFactory beanFactory;
+
+    AsyncMapperPostProcessor(ObjectProvider<Executor> executor,
+        ObjectProvider<PlatformTransactionManager> transactionManager) {
+      this.executor = executor;
+      this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+      this.beanFactory = (ListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      Object mapper = MapperProxies.getMapperProxy(bean);
+      if (mapper == null || !MybatisAsyncMapperInterceptor.hasAsyncMethods(MapperProxies.getMapperInterface(mapper))) {
+        return bean;
+      }
+      DeferredMapperMethod.resolveResultTypes(mapper, CompletableFuture.class);
+      DataSource dataSource = MapperProxies.getSqlSession(mapper).getConfiguration().getEnvironment().getDataSource();
+      // The asynchronous call does not proceed to other advices, so apply it first
+      return MapperProxies.advise(bean, getInterceptor(dataSource), true);
+    }
+
+    private synchronized MybatisAsyncMapperInterceptor getInterceptor(DataSource dataSource) {
+      return this.interceptors.computeIfAbsent(dataSource, key -> {
+        PlatformTransactionManager transactionManager = resolveTransactionManager(key);
+        TransactionOperations transactionOperations = transactionManager != null
+            ? new TransactionTemplate(transactionManager) : TransactionOperations.withoutTransaction();
+        return new MybatisAsyncMapperInterceptor(this.executor.getObject(), transactionOperations);
+      });
+    }
+
+    private PlatformTransactionManager resolveTransactionManager(DataSource dataSource) {
+      // Transaction managers of named data sources are not default candidates, so look up all of them
+      return BeanFactoryUtils.beansOfTypeIncludingAncestors(this.beanFactory, PlatformTransactionManager.class)
+          .values().stream()
+          .filter(candidate -> candidate instanceof ResourceTransactionManager
+              && ((ResourceTransactionManager) candidate).getResourceFactory() == dataSource)
+          .findFirst().orElseGet(this.transactionManager::getIfUnique);
+    }
+
+  }
+
+}
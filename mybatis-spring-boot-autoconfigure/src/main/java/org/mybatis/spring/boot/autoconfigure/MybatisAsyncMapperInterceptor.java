@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.ibatis.annotations.MapKey;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * {@link MethodInterceptor} that executes mapper methods declaring {@link CompletableFuture} return types
+ * asynchronously.
+ * <p>
+ * Each call executes its statement on the given {@link Executor} through the {@link SqlSession} of the mapper (usually
+ * a {@code SqlSessionTemplate}) within the given {@link TransactionOperations}, so a call runs in its own transaction
+ * and does not join a transaction of the caller. The future completes with a value converted in the same way as a
+ * synchronous mapper method ({@code T}, {@code List<T>}, {@code Optional<T>}, a {@link MapKey} map, or an affected
+ * row count as {@code Integer}, {@code Long}, {@code Boolean} or {@code Void}). {@link Cursor} is not supported.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisAsyncMapperInterceptor implements MethodInterceptor {
+
+  private final Executor executor;
+
+  private final TransactionOperations transactionOperations;
+
+  private final DeferredMapperMethod.Cache methods = new DeferredMapperMethod.Cache();
+
+  /**
+   * Constructor.
+   *
+   * @param executor
+   *          an executor that executes statements
+   * @param transactionOperations
+   *          transaction operations that wrap each call
+   */
+  public MybatisAsyncMapperInterceptor(Executor executor, TransactionOperations transactionOperations) {
+    this.executor = executor;
+    this.transactionOperations = transactionOperations;
+  }
+
+  /**
+   * Return whether the specified mapper interface declares asynchronous methods.
+   *
+   * @param mapperInterface
+   *          a mapper interface
+   *
+   * @return {@code true} if the interface has an abstract method returning {@link CompletableFuture}
+   */
+  public static boolean hasAsyncMethods(Class<?> mapperInterface) {
+    return DeferredMapperMethod.hasDeferredMethods(mapperInterface, CompletableFuture.class);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = invocation.getMethod();
+    Object mapper = invocation.getThis();
+    if (!DeferredMapperMethod.isDeferredMethod(method, CompletableFuture.class)
+        || !MapperProxies.isMapperProxy(mapper)) {
+      return invocation.proceed();
+    }
+    SqlSession sqlSession = MapperProxies.getSqlSession(mapper);
+    DeferredMapperMethod mapperMethod = this.methods.get(sqlSession.getConfiguration(),
+        MapperProxies.getMapperInterface(mapper), method);
+    Object[] args = invocation.getArguments();
+    return CompletableFuture.supplyAsync(
+        () -> this.transactionOperations.execute(status -> mapperMethod.execute(sqlSession, args)), this.executor);
+  }
+
+}
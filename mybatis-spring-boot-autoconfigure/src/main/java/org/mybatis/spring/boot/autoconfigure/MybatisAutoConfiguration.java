@@ -1,5 +1,5 @@
 /*
- *    Copyright 2015-2025 the original author or authors.
+ *    Copyright 2015-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 package org.mybatis.spring.boot.autoconfigure;
 
 import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -45,6 +47,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
@@ -56,13 +59,18 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.context.EnvironmentAware;
+import org.springframework.context.ResourceLoaderAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -85,7 +93,8 @@ import org.springframework.util.StringUtils;
 @ConditionalOnSingleCandidate(DataSource.class)
 @EnableConfigurationProperties(MybatisProperties.class)
 @AutoConfigureAfter({ DataSourceAutoConfiguration.class, MybatisLanguageDriverAutoConfiguration.class })
-public class MybatisAutoConfiguration implements InitializingBean {
+@ImportRuntimeHints(MybatisRuntimeHints.class)
+public class MybatisAutoConfiguration implements InitializingBean, ApplicationStartupAware {
 
   private static final Logger logger = LoggerFactory.getLogger(MybatisAutoConfiguration.class);
 
@@ -105,19 +114,35 @@ public class MybatisAutoConfiguration implements InitializingBean {
 
   private final List<SqlSessionFactoryBeanCustomizer> sqlSessionFactoryBeanCustomizers;
 
+  private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+  @Autowired
   public MybatisAutoConfiguration(MybatisProperties properties, ObjectProvider<Interceptor[]> interceptorsProvider,
       ObjectProvider<TypeHandler[]> typeHandlersProvider, ObjectProvider<LanguageDriver[]> languageDriversProvider,
       ResourceLoader resourceLoader, ObjectProvider<DatabaseIdProvider> databaseIdProvider,
       ObjectProvider<List<ConfigurationCustomizer>> configurationCustomizersProvider,
       ObjectProvider<List<SqlSessionFactoryBeanCustomizer>> sqlSessionFactoryBeanCustomizers) {
+    this(properties, interceptorsProvider.getIfAvailable(), typeHandlersProvider.getIfAvailable(),
+        languageDriversProvider.getIfAvailable(), resourceLoader, databaseIdProvider.getIfAvailable(),
+        configurationCustomizersProvider.getIfAvailable(), sqlSessionFactoryBeanCustomizers.getIfAvailable());
+  }
+
+  /**
+   * Constructor for creating {@link SqlSessionFactory}s of other data sources with the same components (e.g. named
+   * data sources of the {@link MybatisDataSourcesAutoConfiguration}).
+   */
+  MybatisAutoConfiguration(MybatisProperties properties, Interceptor[] interceptors, TypeHandler[] typeHandlers,
+      LanguageDriver[] languageDrivers, ResourceLoader resourceLoader, DatabaseIdProvider databaseIdProvider,
+      List<ConfigurationCustomizer> configurationCustomizers,
+      List<SqlSessionFactoryBeanCustomizer> sqlSessionFactoryBeanCustomizers) {
     this.properties = properties;
-    this.interceptors = interceptorsProvider.getIfAvailable();
-    this.typeHandlers = typeHandlersProvider.getIfAvailable();
-    this.languageDrivers = languageDriversProvider.getIfAvailable();
+    this.interceptors = interceptors;
+    this.typeHandlers = typeHandlers;
+    this.languageDrivers = languageDrivers;
     this.resourceLoader = resourceLoader;
-    this.databaseIdProvider = databaseIdProvider.getIfAvailable();
-    this.configurationCustomizers = configurationCustomizersProvider.getIfAvailable();
-    this.sqlSessionFactoryBeanCustomizers = sqlSessionFactoryBeanCustomizers.getIfAvailable();
+    this.databaseIdProvider = databaseIdProvider;
+    this.configurationCustomizers = configurationCustomizers;
+    this.sqlSessionFactoryBeanCustomizers = sqlSessionFactoryBeanCustomizers;
   }
 
   @Override
@@ -125,6 +150,11 @@ public class MybatisAutoConfiguration implements InitializingBean {
     checkConfigFileExists();
   }
 
+  @Override
+  public void setApplicationStartup(ApplicationStartup applicationStartup) {
+    this.applicationStartup = applicationStartup;
+  }
+
   private void checkConfigFileExists() {
     if (this.properties.isCheckConfigLocation() && StringUtils.hasText(this.properties.getConfigLocation())) {
       Resource resource = this.resourceLoader.getResource(this.properties.getConfigLocation());
@@ -144,7 +174,7 @@ public class MybatisAutoConfiguration implements InitializingBean {
     if (StringUtils.hasText(this.properties.getConfigLocation())) {
       factory.setConfigLocation(this.resourceLoader.getResource(this.properties.getConfigLocation()));
     }
-    applyConfiguration(factory);
+    Configuration configuration = applyConfiguration(factory);
     if (this.properties.getConfigurationProperties() != null) {
       factory.setConfigurationProperties(this.properties.getConfigurationProperties());
     }
@@ -154,20 +184,53 @@ public class MybatisAutoConfiguration implements InitializingBean {
     if (this.databaseIdProvider != null) {
       factory.setDatabaseIdProvider(this.databaseIdProvider);
     }
+    MybatisStartupCache startupCache = StringUtils.hasText(this.properties.getStartup().getCacheFile())
+        ? MybatisStartupCache.load(Paths.get(this.properties.getStartup().getCacheFile()), this.properties) : null;
+    MybatisIndex index = MybatisIndex.get(this.resourceLoader.getClassLoader());
+    // Classes in packages can be taken from the index or the cache only when the configuration is created by this
+    // (not by a config file), because type aliases and type handlers must be registered before parsing the file
+    TypePackageScanner typePackageScanner = configuration != null && (startupCache != null || !index.isEmpty())
+        ? new TypePackageScanner(index, startupCache) : null;
     if (StringUtils.hasLength(this.properties.getTypeAliasesPackage())) {
-      factory.setTypeAliasesPackage(this.properties.getTypeAliasesPackage());
+      if (typePackageScanner != null) {
+        StartupStep step = this.applicationStartup.start("mybatis.type-aliases.register").tag("typeAliasesPackage",
+            this.properties.getTypeAliasesPackage());
+        try {
+          typePackageScanner.registerTypeAliases(configuration, this.properties.getTypeAliasesPackage(),
+              this.properties.getTypeAliasesSuperType());
+        } finally {
+          step.end();
+        }
+      } else {
+        factory.setTypeAliasesPackage(this.properties.getTypeAliasesPackage());
+      }
     }
     if (this.properties.getTypeAliasesSuperType() != null) {
       factory.setTypeAliasesSuperType(this.properties.getTypeAliasesSuperType());
     }
     if (StringUtils.hasLength(this.properties.getTypeHandlersPackage())) {
-      factory.setTypeHandlersPackage(this.properties.getTypeHandlersPackage());
+      if (typePackageScanner != null) {
+        StartupStep step = this.applicationStartup.start("mybatis.type-handlers.register").tag("typeHandlersPackage",
+            this.properties.getTypeHandlersPackage());
+        try {
+          typePackageScanner.registerTypeHandlers(configuration, this.properties.getTypeHandlersPackage());
+        } finally {
+          step.end();
+        }
+      } else {
+        factory.setTypeHandlersPackage(this.properties.getTypeHandlersPackage());
+      }
     }
     if (!ObjectUtils.isEmpty(this.typeHandlers)) {
       factory.setTypeHandlers(this.typeHandlers);
     }
-    Resource[] mapperLocations = this.properties.resolveMapperLocations();
-    if (!ObjectUtils.isEmpty(mapperLocations)) {
+    StartupStep resolveStep = this.applicationStartup.start("mybatis.mapper-locations.resolve");
+    Resource[] mapperLocations = startupCache != null ? startupCache.resolveMapperLocations(this.properties)
+        : this.properties.resolveMapperLocations();
+    resolveStep.tag("count", String.valueOf(ObjectUtils.isEmpty(mapperLocations) ? 0 : mapperLocations.length)).end();
+    boolean parallelMapperParsing = !ObjectUtils.isEmpty(mapperLocations)
+        && this.properties.getStartup().isParallelMapperParsing();
+    if (!ObjectUtils.isEmpty(mapperLocations) && !parallelMapperParsing) {
       factory.setMapperLocations(mapperLocations);
     }
     Set<String> factoryPropertyNames = Stream
@@ -186,10 +249,41 @@ public class MybatisAutoConfiguration implements InitializingBean {
       factory.setDefaultScriptingLanguageDriver(defaultLanguageDriver);
     }
     applySqlSessionFactoryBeanCustomizers(factory);
-    return factory.getObject();
+    SqlSessionFactory sqlSessionFactory = buildSqlSessionFactory(factory);
+    if (parallelMapperParsing) {
+      parseMapperLocationsInParallel(sqlSessionFactory.getConfiguration(), mapperLocations);
+    }
+    if (startupCache != null) {
+      startupCache.save();
+    }
+    return sqlSessionFactory;
   }
 
-  private void applyConfiguration(SqlSessionFactoryBean factory) {
+  private SqlSessionFactory buildSqlSessionFactory(SqlSessionFactoryBean factory) throws Exception {
+    // Covers the config file, type aliases, type handlers, plugins and mapper locations set to the factory bean
+    // (the factory bean is used as is, so the measured code path is the same as without recording)
+    StartupStep step = this.applicationStartup.start("mybatis.sql-session-factory.build");
+    if (StringUtils.hasLength(this.properties.getTypeAliasesPackage())) {
+      step.tag("typeAliasesPackage", this.properties.getTypeAliasesPackage());
+    }
+    if (StringUtils.hasLength(this.properties.getTypeHandlersPackage())) {
+      step.tag("typeHandlersPackage", this.properties.getTypeHandlersPackage());
+    }
+    try {
+      return factory.getObject();
+    } finally {
+      step.end();
+    }
+  }
+
+  private void parseMapperLocationsInParallel(Configuration configuration, Resource[] mapperLocations)
+      throws IOException {
+    Integer poolSize = this.properties.getStartup().getParallelMapperParsingPoolSize();
+    new ParallelMapperParser(poolSize != null ? poolSize : Runtime.getRuntime().availableProcessors(),
+        this.applicationStartup).parse(configuration, mapperLocations);
+  }
+
+  private Configuration applyConfiguration(SqlSessionFactoryBean factory) {
     MybatisProperties.CoreConfiguration coreConfiguration = this.properties.getConfiguration();
     Configuration configuration = null;
     if (coreConfiguration != null || !StringUtils.hasText(this.properties.getConfigLocation())) {
@@ -204,6 +298,7 @@ public class MybatisAutoConfiguration implements InitializingBean {
       }
     }
     factory.setConfiguration(configuration);
+    return configuration;
   }
 
   private void applySqlSessionFactoryBeanCustomizers(SqlSessionFactoryBean factory) {
@@ -225,16 +320,22 @@ public class MybatisAutoConfiguration implements InitializingBean {
     }
   }
 
+  @Bean
+  static MybatisStartupStepPostProcessor mybatisStartupStepPostProcessor() {
+    return new MybatisStartupStepPostProcessor();
+  }
+
   /**
    * This will just scan the same base package as Spring Boot does. If you want more power, you can explicitly use
    * {@link org.mybatis.spring.annotation.MapperScan} but this will get typed mappers working correctly, out-of-the-box,
    * similar to using Spring Data JPA repositories.
    */
   public static class AutoConfiguredMapperScannerRegistrar
-      implements BeanFactoryAware, EnvironmentAware, ImportBeanDefinitionRegistrar {
+      implements BeanFactoryAware, EnvironmentAware, ResourceLoaderAware, ImportBeanDefinitionRegistrar {
 
     private BeanFactory beanFactory;
     private Environment environment;
+    private ResourceLoader resourceLoader;
 
     @Override
     public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
@@ -251,6 +352,43 @@ public class MybatisAutoConfiguration implements InitializingBean {
         packages.forEach(pkg -> logger.debug("Using auto-configuration base package '{}'", pkg));
       }
 
+      // for spring-native
+      String sqlSessionTemplateBeanName = null;
+      String sqlSessionFactoryBeanName = null;
+      boolean injectSqlSession = environment.getProperty("mybatis.inject-sql-session-on-mapper-scan", Boolean.class,
+          Boolean.TRUE);
+      if (injectSqlSession && this.beanFactory instanceof ListableBeanFactory) {
+        ListableBeanFactory listableBeanFactory = (ListableBeanFactory) this.beanFactory;
+        Optional<String> templateBeanName = Optional
+            .ofNullable(getBeanNameForType(SqlSessionTemplate.class, listableBeanFactory));
+        Optional<String> factoryBeanName = Optional
+            .ofNullable(getBeanNameForType(SqlSessionFactory.class, listableBeanFactory));
+        if (templateBeanName.isPresent() || !factoryBeanName.isPresent()) {
+          sqlSessionTemplateBeanName = templateBeanName.orElse("sqlSessionTemplate");
+        } else {
+          sqlSessionFactoryBeanName = factoryBeanName.orElseThrow();
+        }
+      }
+
+      MybatisIndex index = MybatisIndex.get(this.resourceLoader.getClassLoader());
+      if (packages.stream().allMatch(index::isIndexed)) {
+        logger.debug("Using mappers listed in '{}' instead of scanning the classpath", MybatisIndex.INDEX_LOCATION);
+        IndexedClassPathMapperScanner scanner = new IndexedClassPathMapperScanner(registry, this.environment, index);
+        scanner.setResourceLoader(this.resourceLoader);
+        scanner.setAnnotationClass(Mapper.class);
+        scanner.setSqlSessionTemplateBeanName(sqlSessionTemplateBeanName);
+        scanner.setSqlSessionFactoryBeanName(sqlSessionFactoryBeanName);
+        scanner.setLazyInitialization(
+            this.environment.getProperty("mybatis.lazy-initialization", Boolean.class, Boolean.FALSE));
+        String defaultScope = this.environment.getProperty("mybatis.mapper-default-scope");
+        if (StringUtils.hasText(defaultScope)) {
+          scanner.setDefaultScope(defaultScope);
+        }
+        scanner.registerFilters();
+        scanner.scan(StringUtils.toStringArray(packages));
+        return;
+      }
+
       BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(MapperScannerConfigurer.class);
       builder.addPropertyValue("processPropertyPlaceHolders", true);
       builder.addPropertyValue("annotationClass", Mapper.class);
@@ -266,22 +404,10 @@ public class MybatisAutoConfiguration implements InitializingBean {
         // Need to mybatis-spring 2.0.6+
         builder.addPropertyValue("defaultScope", "${mybatis.mapper-default-scope:}");
       }
-
-      // for spring-native
-      boolean injectSqlSession = environment.getProperty("mybatis.inject-sql-session-on-mapper-scan", Boolean.class,
-          Boolean.TRUE);
-      if (injectSqlSession && this.beanFactory instanceof ListableBeanFactory) {
-        ListableBeanFactory listableBeanFactory = (ListableBeanFactory) this.beanFactory;
-        Optional<String> sqlSessionTemplateBeanName = Optional
-            .ofNullable(getBeanNameForType(SqlSessionTemplate.class, listableBeanFactory));
-        Optional<String> sqlSessionFactoryBeanName = Optional
-            .ofNullable(getBeanNameForType(SqlSessionFactory.class, listableBeanFactory));
-        if (sqlSessionTemplateBeanName.isPresent() || !sqlSessionFactoryBeanName.isPresent()) {
-          builder.addPropertyValue("sqlSessionTemplateBeanName",
-              sqlSessionTemplateBeanName.orElse("sqlSessionTemplate"));
-        } else {
-          builder.addPropertyValue("sqlSessionFactoryBeanName", sqlSessionFactoryBeanName.orElseThrow());
-        }
+      if (sqlSessionTemplateBeanName != null) {
+        builder.addPropertyValue("sqlSessionTemplateBeanName", sqlSessionTemplateBeanName);
+      } else if (sqlSessionFactoryBeanName != null) {
+        builder.addPropertyValue("sqlSessionFactoryBeanName", sqlSessionFactoryBeanName);
       }
       builder.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
 
@@ -298,6 +424,11 @@ public class MybatisAutoConfiguration implements InitializingBean {
       this.environment = environment;
     }
 
+    @Override
+    public void setResourceLoader(ResourceLoader resourceLoader) {
+      this.resourceLoader = resourceLoader;
+    }
+
     private String getBeanNameForType(Class<?> type, ListableBeanFactory factory) {
       String[] beanNames = factory.getBeanNamesForType(type);
       return beanNames.length > 0 ? beanNames[0] : null;
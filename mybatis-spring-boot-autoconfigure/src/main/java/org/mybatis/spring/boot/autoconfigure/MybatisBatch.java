@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicate that all methods of a mapper interface are executed through the {@code batchSqlSessionTemplate} that uses
+ * the {@code BATCH} executor.
+ * <p>
+ * Update statements of such mapper are held and sent as a JDBC batch when the transaction commits or statements are
+ * flushed (e.g. by a method annotated with {@link org.apache.ibatis.annotations.Flush} or a select statement), so an
+ * affected row count returned by the method is not meaningful.
+ * </p>
+ * <p>
+ * A Spring managed transaction holds a single session, and its executor type cannot be changed. Therefore this
+ * annotation is applied per mapper interface (so that a transaction can read and write through the same mapper), and a
+ * batch mapper and other mappers cannot be mixed in the same transaction.
+ * </p>
+ *
+ * @since 4.1.1
+ *
+ * @see MybatisBatchMapperInterceptor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface MybatisBatch {
+}
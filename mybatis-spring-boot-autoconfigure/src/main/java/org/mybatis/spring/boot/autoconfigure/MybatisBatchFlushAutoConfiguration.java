@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for the {@link MybatisBatchFlushInterceptor}.
+ * <p>
+ * When {@code mybatis.batch.max-statements} or {@code mybatis.batch.max-delay} is specified, a
+ * {@link MybatisBatchFlushInterceptor} is added to each {@link SqlSessionFactory} in the application context. It only
+ * affects sessions that use the {@code BATCH} executor.
+ * </p>
+ * <p>
+ * The interceptor is added after all singletons are instantiated, so that it wraps interceptors added on creating
+ * {@link SqlSessionFactory}s and automatic flushes pass through them.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(SqlSessionFactory.class)
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisBatchFlushAutoConfiguration {
+
+  @Bean
+  static BatchFlushInterceptorRegistrar mybatisBatchFlushInterceptorRegistrar(
+      ObjectProvider<MybatisProperties> properties, ObjectProvider<SqlSessionFactory> sqlSessionFactories) {
+    return new BatchFlushInterceptorRegistrar(properties, sqlSessionFactories);
+  }
+
+  static class BatchFlushInterceptorRegistrar implements SmartInitializingSingleton {
+
+    private final ObjectProvider<MybatisProperties> properties;
+
+    private final ObjectProvider<SqlSessionFactory> sqlSessionFactories;
+
+    BatchFlushInterceptorRegistrar(ObjectProvider<MybatisProperties> properties,
+        ObjectProvider<SqlSessionFactory> sqlSessionFactories) {
+      this.properties = properties;
+      this.sqlSessionFactories = sqlSessionFactories;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+      MybatisProperties.Batch settings = properties.getIfAvailable(MybatisProperties::new).getBatch();
+      if (settings.getMaxStatements() == null && settings.getMaxDelay() == null) {
+        return;
+      }
+      // Added last (outermost), so that flushing by the interceptor is visible to other interceptors
+      sqlSessionFactories.orderedStream().forEach(sqlSessionFactory -> sqlSessionFactory.getConfiguration()
+          .addInterceptor(new MybatisBatchFlushInterceptor(settings.getMaxStatements(), settings.getMaxDelay())));
+    }
+
+  }
+
+}
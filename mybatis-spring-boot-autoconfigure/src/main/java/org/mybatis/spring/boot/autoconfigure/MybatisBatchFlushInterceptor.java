@@ -0,0 +1,196 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.CachingExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * {@link Interceptor} that flushes batched statements of a {@link BatchExecutor} automatically.
+ * <p>
+ * A batch executor holds statements until the session is committed or flushed. This interceptor flushes them when the
+ * number of pending statements reaches the maximum or when a statement is added after the maximum delay from the
+ * first pending statement (the delay is checked on adding a statement, because an executor must not be used from
+ * another thread). {@code flushStatements()} of the session returns {@link BatchResult}s of automatic flushes since
+ * the last flush (or commit) followed by results of the pending statements, so update counts are available per
+ * chunk. Results of automatic flushes keep only the statement, the sql and the update counts (their parameter objects
+ * are dropped), so the memory held for them does not grow with parameters of batched rows.
+ * </p>
+ * <p>
+ * Automatic flushes are performed by the target of this interceptor, so interceptors that added after this
+ * interceptor (outer plugins) do not see them. Add this interceptor after other interceptors that observe
+ * {@code flushStatements()}.
+ * </p>
+ * <p>
+ * Each batch executor is wrapped by a dedicated interceptor instance that holds the pending state. Other executors are
+ * not wrapped.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisBatchFlushInterceptor implements Interceptor {
+
+  private final int maxStatements;
+
+  private final long maxDelayNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param maxStatements
+   *          the maximum number of pending statements ({@code null} or 0 means unlimited)
+   * @param maxDelay
+   *          the maximum delay from the first pending statement ({@code null} means unlimited)
+   */
+  public MybatisBatchFlushInterceptor(Integer maxStatements, Duration maxDelay) {
+    this.maxStatements = maxStatements != null && maxStatements > 0 ? maxStatements : Integer.MAX_VALUE;
+    this.maxDelayNanos = maxDelay != null ? maxDelay.toNanos() : Long.MAX_VALUE;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    // Invocations are handled by the ExecutorBatchFlush that created per executor
+    return invocation.proceed();
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    if (target instanceof Executor && isBatchExecutor(target)) {
+      return Plugin.wrap(target, new ExecutorBatchFlush());
+    }
+    return target;
+  }
+
+  static boolean isBatchExecutor(Object executor) {
+    Object target = executor;
+    while (target != null) {
+      if (target instanceof BatchExecutor) {
+        return true;
+      }
+      if (Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof Plugin) {
+        target = SystemMetaObject.forObject(Proxy.getInvocationHandler(target)).getValue("target");
+      } else if (target instanceof CachingExecutor) {
+        target = SystemMetaObject.forObject(target).getValue("delegate");
+      } else {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Interceptor that holds state of a single {@link Executor}. An executor is not shared between threads.
+   */
+  @Intercepts({
+      @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+      @Signature(type = Executor.class, method = "flushStatements", args = {}),
+      @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+          RowBounds.class, ResultHandler.class }),
+      @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+          RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+      @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class,
+          RowBounds.class }),
+      @Signature(type = Executor.class, method = "commit", args = { boolean.class }),
+      @Signature(type = Executor.class, method = "rollback", args = { boolean.class }),
+      @Signature(type = Executor.class, method = "close", args = { boolean.class }) })
+  private class ExecutorBatchFlush implements Interceptor {
+
+    private final List<BatchResult> flushedResults = new ArrayList<>();
+
+    private int pendingStatements;
+
+    private long firstPendingTime;
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      switch (invocation.getMethod().getName()) {
+        case "update":
+          return update(invocation);
+        case "flushStatements":
+          @SuppressWarnings("unchecked")
+          List<BatchResult> results = (List<BatchResult>) invocation.proceed();
+          reset();
+          if (flushedResults.isEmpty()) {
+            return results;
+          }
+          List<BatchResult> allResults = new ArrayList<>(flushedResults);
+          allResults.addAll(results);
+          flushedResults.clear();
+          return allResults;
+        case "query":
+        case "queryCursor":
+          // A batch executor flushes pending statements before a query and discards their results
+          reset();
+          return invocation.proceed();
+        default:
+          reset();
+          flushedResults.clear();
+          return invocation.proceed();
+      }
+    }
+
+    private Object update(Invocation invocation) throws Throwable {
+      long now = System.nanoTime();
+      if (pendingStatements > 0 && now - firstPendingTime >= maxDelayNanos) {
+        flush((Executor) invocation.getTarget());
+        now = System.nanoTime();
+      }
+      Object result = invocation.proceed();
+      if (pendingStatements++ == 0) {
+        firstPendingTime = now;
+      }
+      if (pendingStatements >= maxStatements) {
+        flush((Executor) invocation.getTarget());
+      }
+      return result;
+    }
+
+    private void flush(Executor executor) {
+      for (BatchResult result : executor.flushStatements()) {
+        // Drop parameter objects that are kept by the batch result
+        BatchResult flushedResult = new BatchResult(result.getMappedStatement(), result.getSql());
+        flushedResult.setUpdateCounts(result.getUpdateCounts());
+        flushedResults.add(flushedResult);
+      }
+      reset();
+    }
+
+    private void reset() {
+      pendingStatements = 0;
+      firstPendingTime = 0;
+    }
+
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.annotation.AnnotationUtils;
+
+/**
+ * {@link MethodInterceptor} that executes methods of mapper interfaces annotated with {@link MybatisBatch} through a
+ * {@link SqlSessionTemplate} that uses the {@code BATCH} executor.
+ * <p>
+ * A call is delegated to a mapper of the same interface that bound to the batch template, so it joins a Spring managed
+ * transaction in the same way as other mapper calls. Because a transaction holds a single session, a batch mapper and
+ * other mappers cannot be mixed in the same transaction.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisBatchMapperInterceptor implements MethodInterceptor {
+
+  private final SqlSessionTemplate batchSqlSessionTemplate;
+
+  private final Map<Class<?>, Object> batchMappers = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param batchSqlSessionTemplate
+   *          a template that uses the {@code BATCH} executor
+   */
+  public MybatisBatchMapperInterceptor(SqlSessionTemplate batchSqlSessionTemplate) {
+    this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+  }
+
+  /**
+   * Return whether the specified mapper interface is executed in batch.
+   *
+   * @param mapperInterface
+   *          a mapper interface
+   *
+   * @return {@code true} if the interface (or an interface it extends) is annotated with {@link MybatisBatch}
+   */
+  public static boolean isBatchMapper(Class<?> mapperInterface) {
+    return AnnotationUtils.findAnnotation(mapperInterface, MybatisBatch.class) != null;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Object mapper = invocation.getThis();
+    if (!MapperProxies.isMapperProxy(mapper)) {
+      return invocation.proceed();
+    }
+    Class<?> mapperInterface = MapperProxies.getMapperInterface(mapper);
+    if (invocation.getMethod().getDeclaringClass() == Object.class || !isBatchMapper(mapperInterface)) {
+      return invocation.proceed();
+    }
+    Object batchMapper = this.batchMappers.computeIfAbsent(mapperInterface, this.batchSqlSessionTemplate::getMapper);
+    try {
+      return invocation.getMethod().invoke(batchMapper, invocation.getArguments());
+    } catch (InvocationTargetException e) {
+      throw e.getTargetException();
+    }
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for a {@link SqlSessionTemplate} that uses the {@code BATCH}
+ * executor.
+ * <p>
+ * This configuration registers the {@value #BATCH_SQL_SESSION_TEMPLATE_BEAN_NAME} bean as a non-default candidate (it
+ * is injected only with the qualifier, so the default template keeps being injected by type), and wraps mapper beans
+ * whose interfaces are annotated with {@link MybatisBatch} by a {@link MybatisBatchMapperInterceptor}.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class })
+@ConditionalOnSingleCandidate(SqlSessionFactory.class)
+@AutoConfigureAfter({ MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class })
+public class MybatisBatchSqlSessionTemplateAutoConfiguration {
+
+  /**
+   * The bean name of the template that uses the {@code BATCH} executor.
+   */
+  public static final String BATCH_SQL_SESSION_TEMPLATE_BEAN_NAME = "batchSqlSessionTemplate";
+
+  @Bean(name = BATCH_SQL_SESSION_TEMPLATE_BEAN_NAME, defaultCandidate = false)
+  @ConditionalOnMissingBean(name = BATCH_SQL_SESSION_TEMPLATE_BEAN_NAME)
+  SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+    return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+  }
+
+  @Bean
+  static BatchMapperPostProcessor mybatisBatchMapperPostProcessor(
+      @Qualifier(BATCH_SQL_SESSION_TEMPLATE_BEAN_NAME) ObjectProvider<SqlSessionTemplate> batchSqlSessionTemplate) {
+    return new BatchMapperPostProcessor(batchSqlSessionTemplate);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that applies {@link MybatisBatchMapperInterceptor} to mapper beans.
+   */
+  static class BatchMapperPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlSessionTemplate> batchSqlSessionTemplate;
+
+    private MybatisBatchMapperInterceptor interceptor;
+
+    BatchMapperPostProcessor(ObjectProvider<SqlSessionTemplate> batchSqlSessionTemplate) {
+      this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      Object mapper = MapperProxies.getMapperProxy(bean);
+      if (mapper == null || !MybatisBatchMapperInterceptor.isBatchMapper(MapperProxies.getMapperInterface(mapper))) {
+        return bean;
+      }
+      SqlSessionTemplate template = this.batchSqlSessionTemplate.getIfAvailable();
+      SqlSession sqlSession = MapperProxies.getSqlSession(mapper);
+      if (template == null || sqlSession == template
+          || sqlSession.getConfiguration() != template.getConfiguration()) {
+        // A mapper that bound to another SqlSessionFactory is not rerouted
+        return bean;
+      }
+      return MapperProxies.advise(bean, getInterceptor(template), false);
+    }
+
+    private synchronized MybatisBatchMapperInterceptor getInterceptor(SqlSessionTemplate template) {
+      if (this.interceptor == null) {
+        this.interceptor = new MybatisBatchMapperInterceptor(template);
+      }
+      return this.interceptor;
+    }
+
+  }
+
+}
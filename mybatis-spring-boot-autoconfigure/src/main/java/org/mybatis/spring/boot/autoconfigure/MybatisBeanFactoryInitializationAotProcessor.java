@@ -0,0 +1,221 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link BeanFactoryInitializationAotProcessor} that registers runtime hints for MyBatis components.
+ * <p>
+ * This processor registers the following hints at build time:
+ * </p>
+ * <ul>
+ * <li>proxy hints for mapper interfaces that registered as {@link MapperFactoryBean}, and for the AOP proxies that
+ * wrap mapper beans (e.g. bulk insert, asynchronous, reactive, batch and observation support)</li>
+ * <li>reflection hints for parameter types, return types and sql provider types of mapper methods</li>
+ * <li>reflection hints for types under {@code mybatis.type-aliases-package} and {@code mybatis.type-handlers-package}
+ * </li>
+ * <li>resource hints for mapper xml files (located on same package with mapper interface or specified by
+ * {@code mybatis.mapper-locations}) and a MyBatis xml config file</li>
+ * </ul>
+ *
+ * @since 4.1.1
+ */
+class MybatisBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+  private static final boolean MYBATIS_SPRING_PRESENT = ClassUtils.isPresent(
+      "org.mybatis.spring.mapper.MapperFactoryBean", MybatisBeanFactoryInitializationAotProcessor.class.getClassLoader());
+
+  private static final MemberCategory[] DATA_TYPE_MEMBER_CATEGORIES = { MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+      MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.ACCESS_DECLARED_FIELDS };
+
+  private static final String PACKAGE_DELIMITERS = ",; \t\n";
+
+  @Override
+  public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+    if (!MYBATIS_SPRING_PRESENT) {
+      return null;
+    }
+    ClassLoader classLoader = beanFactory.getBeanClassLoader();
+    Set<Class<?>> mapperInterfaces = new LinkedHashSet<>();
+    for (String beanName : beanFactory.getBeanDefinitionNames()) {
+      resolveMapperInterface(beanFactory.getBeanDefinition(beanName), classLoader).ifPresent(mapperInterfaces::add);
+    }
+    MybatisProperties properties = bindProperties(beanFactory);
+    if (mapperInterfaces.isEmpty() && properties == null) {
+      return null;
+    }
+    return (generationContext, beanFactoryInitializationCode) -> {
+      RuntimeHints hints = generationContext.getRuntimeHints();
+      mapperInterfaces.forEach(mapperInterface -> registerMapperHints(hints, mapperInterface));
+      if (properties != null) {
+        registerPropertiesHints(hints, properties, classLoader);
+      }
+    };
+  }
+
+  private Optional<Class<?>> resolveMapperInterface(BeanDefinition beanDefinition, ClassLoader classLoader) {
+    String beanClassName = beanDefinition.getBeanClassName();
+    if (beanClassName == null || !ClassUtils.isPresent(beanClassName, classLoader)
+        || !MapperFactoryBean.class.isAssignableFrom(ClassUtils.resolveClassName(beanClassName, classLoader))) {
+      return Optional.empty();
+    }
+    Object objectType = beanDefinition.getAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE);
+    if (objectType == null) {
+      PropertyValue mapperInterface = beanDefinition.getPropertyValues().getPropertyValue("mapperInterface");
+      objectType = mapperInterface != null ? mapperInterface.getValue() : null;
+    }
+    if (objectType instanceof Class) {
+      return Optional.of((Class<?>) objectType);
+    } else if (objectType instanceof ResolvableType) {
+      return Optional.ofNullable(((ResolvableType) objectType).resolve());
+    } else if (objectType instanceof String && ClassUtils.isPresent((String) objectType, classLoader)) {
+      return Optional.of(ClassUtils.resolveClassName((String) objectType, classLoader));
+    }
+    return Optional.empty();
+  }
+
+  private MybatisProperties bindProperties(ConfigurableListableBeanFactory beanFactory) {
+    if (!beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)) {
+      return null;
+    }
+    Environment environment = beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME,
+        Environment.class);
+    return Binder.get(environment).bind(MybatisProperties.MYBATIS_PREFIX, MybatisProperties.class).orElse(null);
+  }
+
+  private void registerMapperHints(RuntimeHints hints, Class<?> mapperInterface) {
+    hints.proxies().registerJdkProxy(mapperInterface);
+    // Mapper beans are wrapped by a JDK proxy of the AOP when advised by MapperProxies.advise
+    hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(mapperInterface));
+    hints.reflection().registerType(mapperInterface, MemberCategory.INVOKE_PUBLIC_METHODS);
+    hints.resources().registerPattern(mapperInterface.getName().replace('.', '/') + ".xml");
+    for (Method method : mapperInterface.getMethods()) {
+      if (method.isDefault() || method.isBridge() || Modifier.isStatic(method.getModifiers())) {
+        continue;
+      }
+      registerDataTypeHints(hints, ResolvableType.forMethodReturnType(method, mapperInterface));
+      for (int i = 0; i < method.getParameterCount(); i++) {
+        registerDataTypeHints(hints, ResolvableType.forMethodParameter(method, i, mapperInterface));
+      }
+      Stream.of(providerType(method)).filter(type -> type != null && type != void.class)
+          .forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+              MemberCategory.INVOKE_DECLARED_METHODS));
+    }
+  }
+
+  private void registerDataTypeHints(RuntimeHints hints, ResolvableType type) {
+    if (type.isArray()) {
+      registerDataTypeHints(hints, type.getComponentType());
+      return;
+    }
+    Class<?> clazz = type.resolve();
+    if (clazz == null || clazz.isPrimitive() || clazz.getName().startsWith("java.")
+        || clazz.getName().startsWith("org.apache.ibatis.")) {
+      Stream.of(type.getGenerics()).forEach(generic -> registerDataTypeHints(hints, generic));
+      return;
+    }
+    hints.reflection().registerType(clazz, DATA_TYPE_MEMBER_CATEGORIES);
+    Stream.of(type.getGenerics()).forEach(generic -> registerDataTypeHints(hints, generic));
+  }
+
+  private Class<?>[] providerType(Method method) {
+    SelectProvider select = method.getAnnotation(SelectProvider.class);
+    InsertProvider insert = method.getAnnotation(InsertProvider.class);
+    UpdateProvider update = method.getAnnotation(UpdateProvider.class);
+    DeleteProvider delete = method.getAnnotation(DeleteProvider.class);
+    return new Class<?>[] { select == null ? null : select.type(), select == null ? null : select.value(),
+        insert == null ? null : insert.type(), insert == null ? null : insert.value(),
+        update == null ? null : update.type(), update == null ? null : update.value(),
+        delete == null ? null : delete.type(), delete == null ? null : delete.value() };
+  }
+
+  private void registerPropertiesHints(RuntimeHints hints, MybatisProperties properties, ClassLoader classLoader) {
+    if (StringUtils.hasText(properties.getConfigLocation())) {
+      registerResourcePattern(hints, properties.getConfigLocation());
+    }
+    if (properties.getMapperLocations() != null) {
+      Stream.of(properties.getMapperLocations()).forEach(location -> registerResourcePattern(hints, location));
+    }
+    Stream.of(properties.getTypeAliasesPackage(), properties.getTypeHandlersPackage()).filter(StringUtils::hasText)
+        .flatMap(packages -> Stream.of(StringUtils.tokenizeToStringArray(packages, PACKAGE_DELIMITERS)))
+        .forEach(packageName -> registerPackageHints(hints, packageName, classLoader));
+  }
+
+  private void registerResourcePattern(RuntimeHints hints, String location) {
+    String pattern = location;
+    for (String prefix : new String[] { ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX,
+        ResourcePatternResolver.CLASSPATH_URL_PREFIX }) {
+      if (pattern.startsWith(prefix)) {
+        pattern = pattern.substring(prefix.length());
+        break;
+      }
+    }
+    if (pattern.contains(":")) {
+      // Not a classpath resource
+      return;
+    }
+    hints.resources().registerPattern(pattern.startsWith("/") ? pattern.substring(1) : pattern);
+  }
+
+  private void registerPackageHints(RuntimeHints hints, String packageName, ClassLoader classLoader) {
+    ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+    MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(resolver);
+    try {
+      for (Resource resource : resolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+          + ClassUtils.convertClassNameToResourcePath(packageName) + "/**/*.class")) {
+        String className = metadataReaderFactory.getMetadataReader(resource).getClassMetadata().getClassName();
+        hints.reflection().registerType(ClassUtils.resolveClassName(className, classLoader),
+            DATA_TYPE_MEMBER_CATEGORIES);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Cannot scan package '" + packageName + "' for registering runtime hints", e);
+    }
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Locale;
+
+/**
+ * Describe a multi-row insert (or upsert) statement that generated by the {@link MybatisBulkInsertProvider}.
+ * <p>
+ * The annotated method should take a single {@link java.util.List} parameter and be annotated with
+ * {@code @InsertProvider} (the provider type can be omitted when the {@link MybatisBulkInsertProvider} is specified as
+ * the {@code defaultSqlProviderType}). A list that exceeds the parameter limit of the database is split into chunks,
+ * and the method returns the total of affected row counts.
+ * </p>
+ *
+ * <pre class="code">
+ * &#64;InsertProvider
+ * &#64;MybatisBulkInsert(table = "city", columns = { "id", "name", "state" }, conflictColumns = "id")
+ * int upsertAll(List&lt;City&gt; cities);
+ * </pre>
+ *
+ * @since 4.1.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface MybatisBulkInsert {
+
+  /**
+   * Return the table name.
+   *
+   * @return the table name
+   */
+  String table();
+
+  /**
+   * Return column names to insert.
+   *
+   * @return column names
+   */
+  String[] columns();
+
+  /**
+   * Return property names of an element that correspond to {@link #columns()}. Default is camel case names of columns
+   * (e.g. {@code cityName} for {@code city_name}).
+   *
+   * @return property names
+   */
+  String[] properties() default {};
+
+  /**
+   * Return column names of the unique key. When specified, a row that conflicts with an existing row updates other
+   * columns of it.
+   *
+   * @return column names of the unique key
+   */
+  String[] conflictColumns() default {};
+
+  /**
+   * Return the dialect of the generated statement. Default is detected from the database id.
+   *
+   * @return the dialect
+   */
+  Dialect dialect() default Dialect.AUTO;
+
+  /**
+   * Return the maximum number of rows per statement. The number is also limited by the maximum number of bind
+   * parameters of the dialect.
+   *
+   * @return the maximum number of rows
+   */
+  int maxRows() default 1000;
+
+  /**
+   * The dialect of a multi-row insert statement.
+   */
+  enum Dialect {
+
+    /**
+     * Detect from the database id (requires a {@code DatabaseIdProvider} such as the {@code VendorDatabaseIdProvider}).
+     */
+    AUTO(0),
+
+    /**
+     * A standard multi-row insert without upsert support.
+     */
+    GENERIC(2000),
+
+    /**
+     * H2 ({@code MERGE INTO ... KEY ...} for upsert).
+     */
+    H2(32767),
+
+    /**
+     * PostgreSQL ({@code ON CONFLICT ... DO UPDATE} for upsert).
+     */
+    POSTGRESQL(32767),
+
+    /**
+     * MySQL and MariaDB ({@code ON DUPLICATE KEY UPDATE} for upsert).
+     */
+    MYSQL(65535);
+
+    private final int maxParameters;
+
+    Dialect(int maxParameters) {
+      this.maxParameters = maxParameters;
+    }
+
+    /**
+     * Return the maximum number of bind parameters per statement.
+     *
+     * @return the maximum number of bind parameters
+     */
+    public int getMaxParameters() {
+      return maxParameters;
+    }
+
+    /**
+     * Resolve the dialect.
+     *
+     * @param databaseId
+     *          a database id (nullable)
+     *
+     * @return this dialect, or a dialect detected from the database id if this is {@link #AUTO}
+     */
+    public Dialect resolve(String databaseId) {
+      if (this != AUTO) {
+        return this;
+      }
+      String id = databaseId == null ? "" : databaseId.toLowerCase(Locale.ROOT);
+      if (id.contains("h2")) {
+        return H2;
+      }
+      if (id.contains("postgres")) {
+        return POSTGRESQL;
+      }
+      if (id.contains("mysql") || id.contains("mariadb")) {
+        return MYSQL;
+      }
+      return GENERIC;
+    }
+
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.ResourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for {@link MybatisBulkInsert} methods.
+ * <p>
+ * Mapper beans that have {@link MybatisBulkInsert} methods are wrapped by a {@link MybatisBulkInsertMapperInterceptor}
+ * that splits a large list into chunks. Chunks of a call that is not in a transaction are inserted in a transaction of
+ * the {@link PlatformTransactionManager} of the mapper's data source, or of a {@link DataSourceTransactionManager} if
+ * there is no such transaction manager.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class })
+@AutoConfigureAfter({ MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class })
+public class MybatisBulkInsertAutoConfiguration {
+
+  @Bean
+  static BulkInsertMapperPostProcessor mybatisBulkInsertMapperPostProcessor(
+      ObjectProvider<PlatformTransactionManager> transactionManager) {
+    return new BulkInsertMapperPostProcessor(transactionManager);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that applies {@link MybatisBulkInsertMapperInterceptor} to mapper beans.
+   */
+  static class BulkInsertMapperPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+    private final Map<DataSource, MybatisBulkInsertMapperInterceptor> interceptors = new IdentityHashMap<>();
+
+    private ListableBeanFactory beanFactory;
+
+    BulkInsertMapperPostProcessor(ObjectProvider<PlatformTransactionManager> transactionManager) {
+      this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+      this.beanFactory = (ListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      Object mapper = MapperProxies.getMapperProxy(bean);
+      if (mapper == null
+          || !MybatisBulkInsertMapperInterceptor.hasBulkInsertMethods(MapperProxies.getMapperInterface(mapper))) {
+        return bean;
+      }
+      DataSource dataSource = MapperProxies.getSqlSession(mapper).getConfiguration().getEnvironment().getDataSource();
+      // Apply it first, so other advices are applied per chunk
+      return MapperProxies.advise(bean, getInterceptor(dataSource), true);
+    }
+
+    private synchronized MybatisBulkInsertMapperInterceptor getInterceptor(DataSource dataSource) {
+      return this.interceptors.computeIfAbsent(dataSource,
+          key -> new MybatisBulkInsertMapperInterceptor(new TransactionTemplate(resolveTransactionManager(key))));
+    }
+
+    private PlatformTransactionManager resolveTransactionManager(DataSource dataSource) {
+      // Transaction managers of named data sources are not default candidates, so look up all of them
+      return BeanFactoryUtils.beansOfTypeIncludingAncestors(this.beanFactory, PlatformTransactionManager.class)
+          .values().stream()
+          .filter(candidate -> candidate instanceof ResourceTransactionManager
+              && ((ResourceTransactionManager) candidate).getResourceFactory() == dataSource)
+          .findFirst().orElseGet(() -> {
+            PlatformTransactionManager transactionManager = this.transactionManager.getIfUnique();
+            return transactionManager != null ? transactionManager : new DataSourceTransactionManager(dataSource);
+          });
+    }
+
+  }
+
+}
@@ -0,0 +1,150 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link MethodInterceptor} that splits the list of a {@link MybatisBulkInsert} method into chunks.
+ * <p>
+ * The number of rows per chunk is the {@link MybatisBulkInsert#maxRows()} or the number that fits in the maximum
+ * bind parameters of the dialect, whichever is smaller, and remaining rows are inserted by one more statement. The
+ * method is called per chunk, and the total of affected row counts is returned. An empty list is not executed.
+ * </p>
+ * <p>
+ * All chunks of a call run in a single transaction: the transaction of the caller if active, otherwise a transaction
+ * of the given {@link TransactionOperations}. So a call that fails on a chunk does not leave preceding chunks inserted.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisBulkInsertMapperInterceptor implements MethodInterceptor {
+
+  private final TransactionOperations transactionOperations;
+
+  /**
+   * Constructor.
+   *
+   * @param transactionOperations
+   *          transaction operations that wrap chunks of a call when no transaction is active
+   */
+  public MybatisBulkInsertMapperInterceptor(TransactionOperations transactionOperations) {
+    this.transactionOperations = transactionOperations;
+  }
+
+  /**
+   * Return whether the specified mapper interface has {@link MybatisBulkInsert} methods.
+   *
+   * @param mapperInterface
+   *          a mapper interface
+   *
+   * @return {@code true} if the interface has a method annotated with {@link MybatisBulkInsert}
+   */
+  public static boolean hasBulkInsertMethods(Class<?> mapperInterface) {
+    for (Method method : mapperInterface.getMethods()) {
+      if (method.isAnnotationPresent(MybatisBulkInsert.class)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = invocation.getMethod();
+    MybatisBulkInsert bulkInsert = method.getAnnotation(MybatisBulkInsert.class);
+    Object mapper = invocation.getThis();
+    if (bulkInsert == null || !MapperProxies.isMapperProxy(mapper)
+        || !(invocation instanceof ProxyMethodInvocation)) {
+      return invocation.proceed();
+    }
+    int index = indexOfList(method);
+    List<?> list = (List<?>) invocation.getArguments()[index];
+    if (list == null || list.isEmpty()) {
+      return toResult(method, 0);
+    }
+    String databaseId = MapperProxies.getSqlSession(mapper).getConfiguration().getDatabaseId();
+    int maxRows = MybatisBulkInsertProvider.maxRows(bulkInsert, bulkInsert.dialect().resolve(databaseId));
+    if (list.size() <= maxRows) {
+      return invocation.proceed();
+    }
+    ProxyMethodInvocation proxyInvocation = (ProxyMethodInvocation) invocation;
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return insertInChunks(proxyInvocation, index, list, maxRows);
+    }
+    try {
+      return this.transactionOperations.execute(status -> {
+        try {
+          return insertInChunks(proxyInvocation, index, list, maxRows);
+        } catch (RuntimeException | Error e) {
+          throw e;
+        } catch (Throwable e) {
+          throw new UndeclaredThrowableException(e);
+        }
+      });
+    } catch (UndeclaredThrowableException e) {
+      throw e.getUndeclaredThrowable();
+    }
+  }
+
+  private static Object insertInChunks(ProxyMethodInvocation invocation, int index, List<?> list, int maxRows)
+      throws Throwable {
+    Object[] args = invocation.getArguments();
+    long total = 0;
+    for (int from = 0; from < list.size(); from += maxRows) {
+      Object[] chunkArgs = args.clone();
+      chunkArgs[index] = list.subList(from, Math.min(from + maxRows, list.size()));
+      Object result = invocation.invocableClone(chunkArgs).proceed();
+      if (result instanceof Number) {
+        total += ((Number) result).longValue();
+      }
+    }
+    return toResult(invocation.getMethod(), total);
+  }
+
+  private static int indexOfList(Method method) {
+    Class<?>[] parameterTypes = method.getParameterTypes();
+    for (int i = 0; i < parameterTypes.length; i++) {
+      if (List.class.isAssignableFrom(parameterTypes[i])) {
+        return i;
+      }
+    }
+    throw new IllegalStateException("The mapper method '" + method + "' must have a List parameter");
+  }
+
+  private static Object toResult(Method method, long total) {
+    Class<?> returnType = method.getReturnType();
+    if (returnType == int.class || returnType == Integer.class) {
+      return (int) total;
+    }
+    if (returnType == long.class || returnType == Long.class) {
+      return total;
+    }
+    if (returnType == boolean.class || returnType == Boolean.class) {
+      return total > 0;
+    }
+    return null;
+  }
+
+}
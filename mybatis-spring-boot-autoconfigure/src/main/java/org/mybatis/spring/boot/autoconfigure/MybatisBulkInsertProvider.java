@@ -0,0 +1,213 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.annotation.ProviderContext;
+import org.apache.ibatis.builder.annotation.ProviderMethodResolver;
+import org.mybatis.spring.boot.autoconfigure.MybatisBulkInsert.Dialect;
+
+/**
+ * SQL provider that generates multi-row insert (or upsert) statements described by {@link MybatisBulkInsert}.
+ * <p>
+ * Specify this class as the {@code defaultSqlProviderType} for omitting the type of {@code @InsertProvider}; any
+ * mapper method is resolved to the {@link #provideSql(Object, ProviderContext)} method.
+ * </p>
+ * <p>
+ * A list that exceeds the {@link MybatisBulkInsert#maxRows()} or the maximum bind parameters of the dialect is
+ * rejected, because the statement would fail on the database. A call through a mapper bean is split into chunks by the
+ * {@link MybatisBulkInsertMapperInterceptor} in advance.
+ * </p>
+ *
+ * <pre class="code">
+ * mybatis.configuration.default-sql-provider-type=org.mybatis.spring.boot.autoconfigure.MybatisBulkInsertProvider
+ * </pre>
+ *
+ * @since 4.1.1
+ */
+public class MybatisBulkInsertProvider implements ProviderMethodResolver {
+
+  @Override
+  public Method resolveMethod(ProviderContext context) {
+    try {
+      return MybatisBulkInsertProvider.class.getMethod("provideSql", Object.class, ProviderContext.class);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Generate a multi-row insert statement for the list parameter of the mapper method.
+   *
+   * @param parameterObject
+   *          a parameter object
+   * @param context
+   *          a context of the mapper method
+   *
+   * @return a statement
+   */
+  public static String provideSql(Object parameterObject, ProviderContext context) {
+    Method method = context.getMapperMethod();
+    MybatisBulkInsert bulkInsert = method.getAnnotation(MybatisBulkInsert.class);
+    if (bulkInsert == null) {
+      throw new BuilderException("The mapper method '" + method + "' is not annotated with @MybatisBulkInsert");
+    }
+    String parameterName = resolveParameterName(method);
+    int rows = getRows(parameterObject, parameterName);
+    if (rows == 0) {
+      throw new BuilderException("The list of '" + method + "' must not be empty");
+    }
+    Dialect dialect = bulkInsert.dialect().resolve(context.getDatabaseId());
+    int maxRows = maxRows(bulkInsert, dialect);
+    if (rows > maxRows) {
+      throw new BuilderException("The list of '" + method + "' has " + rows + " rows, but at most " + maxRows
+          + " rows can be inserted by a statement. Please call the method through a mapper bean, or split the list.");
+    }
+    return buildSql(bulkInsert, dialect, parameterName, rows);
+  }
+
+  /**
+   * Return the maximum number of rows per statement.
+   *
+   * @param bulkInsert
+   *          a bulk insert definition
+   * @param dialect
+   *          a resolved dialect
+   *
+   * @return the {@link MybatisBulkInsert#maxRows()} or the number that fits in the maximum bind parameters of the
+   *         dialect, whichever is smaller
+   */
+  static int maxRows(MybatisBulkInsert bulkInsert, Dialect dialect) {
+    int rowsByParameters = Math.max(dialect.getMaxParameters() / Math.max(bulkInsert.columns().length, 1), 1);
+    return Math.max(Math.min(bulkInsert.maxRows(), rowsByParameters), 1);
+  }
+
+  static String buildSql(MybatisBulkInsert bulkInsert, Dialect dialect, String parameterName, int rows) {
+    List<String> columns = Arrays.asList(bulkInsert.columns());
+    List<String> properties = resolveProperties(bulkInsert);
+    List<String> conflictColumns = Arrays.asList(bulkInsert.conflictColumns());
+    boolean upsert = !conflictColumns.isEmpty();
+    if (upsert && dialect == Dialect.GENERIC) {
+      throw new BuilderException("Upsert is not supported by the generic dialect of the table '" + bulkInsert.table()
+          + "'. Please specify the dialect or a DatabaseIdProvider.");
+    }
+    StringBuilder sql = new StringBuilder();
+    if (upsert && dialect == Dialect.H2) {
+      sql.append("MERGE INTO ").append(bulkInsert.table()).append(" (").append(String.join(", ", columns))
+          .append(") KEY (").append(String.join(", ", conflictColumns)).append(')');
+    } else {
+      sql.append("INSERT INTO ").append(bulkInsert.table()).append(" (").append(String.join(", ", columns))
+          .append(')');
+    }
+    sql.append(" VALUES ");
+    for (int row = 0; row < rows; row++) {
+      StringJoiner values = new StringJoiner(", ", row == 0 ? "(" : ", (", ")");
+      for (String property : properties) {
+        values.add("#{" + parameterName + "[" + row + "]." + property + "}");
+      }
+      sql.append(values);
+    }
+    if (upsert) {
+      List<String> updateColumns = new ArrayList<>(columns);
+      updateColumns.removeAll(conflictColumns);
+      if (dialect == Dialect.POSTGRESQL) {
+        sql.append(" ON CONFLICT (").append(String.join(", ", conflictColumns)).append(')');
+        if (updateColumns.isEmpty()) {
+          sql.append(" DO NOTHING");
+        } else {
+          StringJoiner sets = new StringJoiner(", ", " DO UPDATE SET ", "");
+          updateColumns.forEach(column -> sets.add(column + " = EXCLUDED." + column));
+          sql.append(sets);
+        }
+      } else if (dialect == Dialect.MYSQL) {
+        StringJoiner sets = new StringJoiner(", ", " ON DUPLICATE KEY UPDATE ", "");
+        if (updateColumns.isEmpty()) {
+          sets.add(conflictColumns.get(0) + " = " + conflictColumns.get(0));
+        } else {
+          updateColumns.forEach(column -> sets.add(column + " = VALUES(" + column + ")"));
+        }
+        sql.append(sets);
+      }
+    }
+    return sql.toString();
+  }
+
+  /**
+   * Return the name of the list parameter of a mapper method.
+   *
+   * @param method
+   *          a mapper method
+   *
+   * @return the value of {@link Param} or {@code list}
+   */
+  static String resolveParameterName(Method method) {
+    for (Parameter parameter : method.getParameters()) {
+      if (List.class.isAssignableFrom(parameter.getType())) {
+        Param param = parameter.getAnnotation(Param.class);
+        return param != null ? param.value() : "list";
+      }
+    }
+    throw new BuilderException("The mapper method '" + method + "' must have a List parameter");
+  }
+
+  private static List<String> resolveProperties(MybatisBulkInsert bulkInsert) {
+    if (bulkInsert.properties().length > 0) {
+      if (bulkInsert.properties().length != bulkInsert.columns().length) {
+        throw new BuilderException("The number of properties must be same as columns of '" + bulkInsert.table() + "'");
+      }
+      return Arrays.asList(bulkInsert.properties());
+    }
+    List<String> properties = new ArrayList<>();
+    for (String column : bulkInsert.columns()) {
+      properties.add(toCamelCase(column));
+    }
+    return properties;
+  }
+
+  private static String toCamelCase(String column) {
+    if (column.indexOf('_') < 0) {
+      return column.equals(column.toUpperCase(Locale.ROOT)) ? column.toLowerCase(Locale.ROOT) : column;
+    }
+    StringBuilder property = new StringBuilder();
+    boolean upper = false;
+    for (char c : column.toCharArray()) {
+      if (c == '_') {
+        upper = property.length() > 0;
+      } else {
+        property.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        upper = false;
+      }
+    }
+    return property.toString();
+  }
+
+  private static int getRows(Object parameterObject, String parameterName) {
+    Object list = parameterObject instanceof Map ? ((Map<?, ?>) parameterObject).get(parameterName) : parameterObject;
+    return list instanceof Collection ? ((Collection<?>) list).size() : 0;
+  }
+
+}
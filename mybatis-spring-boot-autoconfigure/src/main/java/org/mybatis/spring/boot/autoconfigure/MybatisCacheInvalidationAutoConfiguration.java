@@ -0,0 +1,101 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for invalidating second level caches across application
+ * instances.
+ * <p>
+ * When a {@link MybatisCacheInvalidationBus} is available, a {@link MybatisCacheInvalidationInterceptor} is added to
+ * each {@link SqlSessionFactory} in the application context and subscribes the bus until the application context is
+ * closed.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(SqlSessionFactory.class)
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "cache.invalidation.enabled",
+    matchIfMissing = true)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisCacheInvalidationAutoConfiguration {
+
+  @Bean
+  static CacheInvalidationSqlSessionFactoryPostProcessor mybatisCacheInvalidationSqlSessionFactoryPostProcessor(
+      ObjectProvider<MybatisCacheInvalidationBus> bus) {
+    return new CacheInvalidationSqlSessionFactoryPostProcessor(bus);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that adds a {@link MybatisCacheInvalidationInterceptor} to each
+   * {@link SqlSessionFactory}, and unsubscribes it from the bus on destruction.
+   */
+  static class CacheInvalidationSqlSessionFactoryPostProcessor implements DestructionAwareBeanPostProcessor {
+
+    private final ObjectProvider<MybatisCacheInvalidationBus> bus;
+
+    private final Map<SqlSessionFactory, Runnable> unsubscribers = new ConcurrentHashMap<>();
+
+    CacheInvalidationSqlSessionFactoryPostProcessor(ObjectProvider<MybatisCacheInvalidationBus> bus) {
+      this.bus = bus;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        MybatisCacheInvalidationBus bus = this.bus.getIfUnique();
+        if (bus != null) {
+          SqlSessionFactory sqlSessionFactory = (SqlSessionFactory) bean;
+          MybatisCacheInvalidationInterceptor interceptor = new MybatisCacheInvalidationInterceptor(bus,
+              sqlSessionFactory.getConfiguration());
+          sqlSessionFactory.getConfiguration().addInterceptor(interceptor);
+          bus.subscribe(interceptor);
+          this.unsubscribers.put(sqlSessionFactory, () -> bus.unsubscribe(interceptor));
+        }
+      }
+      return bean;
+    }
+
+    @Override
+    public void postProcessBeforeDestruction(Object bean, String beanName) {
+      Runnable unsubscriber = this.unsubscribers.remove(bean);
+      if (unsubscriber != null) {
+        unsubscriber.run();
+      }
+    }
+
+    @Override
+    public boolean requiresDestruction(Object bean) {
+      return bean instanceof SqlSessionFactory;
+    }
+
+  }
+
+}
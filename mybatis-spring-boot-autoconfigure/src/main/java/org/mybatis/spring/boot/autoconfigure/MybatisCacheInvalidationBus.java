@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.Set;
+
+/**
+ * Transport for publishing flushes of second level caches to other application instances.
+ * <p>
+ * When a bean of this type is available, a {@link MybatisCacheInvalidationInterceptor} publishes the namespaces of
+ * caches that are flushed by a committed session, and clears the same caches of the local
+ * {@link org.apache.ibatis.session.SqlSessionFactory} when other instances publish them. An implementation delivers
+ * messages to every subscribed listener (including a listener that shares the origin; it is ignored by the receiver).
+ * Implementations must be thread-safe.
+ * </p>
+ *
+ * @since 4.1.1
+ *
+ * @see InMemoryMybatisCacheInvalidationBus
+ */
+public interface MybatisCacheInvalidationBus {
+
+  /**
+   * Publish the namespaces of flushed caches.
+   *
+   * @param origin
+   *          an id of the publisher
+   * @param namespaces
+   *          namespaces (cache ids) of flushed caches
+   */
+  void publish(String origin, Set<String> namespaces);
+
+  /**
+   * Subscribe published namespaces.
+   *
+   * @param listener
+   *          a listener
+   */
+  void subscribe(Listener listener);
+
+  /**
+   * Unsubscribe published namespaces.
+   *
+   * @param listener
+   *          a listener that subscribed
+   */
+  void unsubscribe(Listener listener);
+
+  /**
+   * Listener that receives published namespaces.
+   */
+  @FunctionalInterface
+  interface Listener {
+
+    /**
+     * Called when namespaces are published.
+     *
+     * @param origin
+     *          an id of the publisher
+     * @param namespaces
+     *          namespaces (cache ids) of flushed caches
+     */
+    void onInvalidation(String origin, Set<String> namespaces);
+
+  }
+
+}
@@ -0,0 +1,201 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link Interceptor} that keeps second level caches consistent across application instances.
+ * <p>
+ * This interceptor records the caches that a statement flushes (a statement that has {@code flushCache="true"}, which
+ * is the default for insert, update and delete), and publishes their namespaces to a
+ * {@link MybatisCacheInvalidationBus} after a session commits; flushes of a rolled back session are discarded. It also
+ * listens the bus, and clears caches of the own {@link Configuration} when other instances publish them.
+ * </p>
+ * <p>
+ * When a Spring transaction synchronization is active, a session commits before the transaction commits the
+ * connection, so the namespaces are published after the transaction completes the commit (otherwise other instances
+ * could cache rows that are not visible yet).
+ * </p>
+ * <p>
+ * Each executor is wrapped by a dedicated interceptor instance that holds the flushed caches. When the second level
+ * cache is disabled ({@code cacheEnabled=false}), an executor is not wrapped by this interceptor.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisCacheInvalidationInterceptor implements Interceptor, MybatisCacheInvalidationBus.Listener {
+
+  private static final Logger logger = LoggerFactory.getLogger(MybatisCacheInvalidationInterceptor.class);
+
+  private final MybatisCacheInvalidationBus bus;
+
+  private final Configuration configuration;
+
+  private final String origin = UUID.randomUUID().toString();
+
+  /**
+   * Constructor.
+   *
+   * @param bus
+   *          a bus for publishing and receiving cache flushes
+   * @param configuration
+   *          a configuration that holds caches to clear
+   */
+  public MybatisCacheInvalidationInterceptor(MybatisCacheInvalidationBus bus, Configuration configuration) {
+    this.bus = bus;
+    this.configuration = configuration;
+  }
+
+  /**
+   * Return an id that identifies this interceptor as a publisher.
+   *
+   * @return an id of the publisher
+   */
+  public String getOrigin() {
+    return origin;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    // Invocations are handled by the ExecutorInvalidation that created per executor
+    return invocation.proceed();
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    if (target instanceof Executor && configuration.isCacheEnabled()) {
+      return Plugin.wrap(target, new ExecutorInvalidation());
+    }
+    return target;
+  }
+
+  @Override
+  public void onInvalidation(String origin, Set<String> namespaces) {
+    if (this.origin.equals(origin)) {
+      // Caches have been already cleared by the own commit
+      return;
+    }
+    for (String namespace : namespaces) {
+      if (configuration.hasCache(namespace)) {
+        logger.debug("Clearing the cache '{}' by an invalidation from '{}'", namespace, origin);
+        configuration.getCache(namespace).clear();
+      }
+    }
+  }
+
+  private void publish(Set<String> namespaces) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          doPublish(namespaces);
+        }
+      });
+    } else {
+      doPublish(namespaces);
+    }
+  }
+
+  private void doPublish(Set<String> namespaces) {
+    try {
+      bus.publish(origin, namespaces);
+    } catch (RuntimeException e) {
+      // The local transaction should not be failed by a transport error
+      logger.warn("Failed to publish cache invalidation of {}", namespaces, e);
+    }
+  }
+
+  /**
+   * Interceptor that holds state of a single {@link Executor}. An executor is not shared between threads.
+   */
+  @Intercepts({
+      @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+      @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+          RowBounds.class, ResultHandler.class }),
+      @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+          RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+      @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class,
+          RowBounds.class }),
+      @Signature(type = Executor.class, method = "commit", args = { boolean.class }),
+      @Signature(type = Executor.class, method = "rollback", args = { boolean.class }),
+      @Signature(type = Executor.class, method = "close", args = { boolean.class }) })
+  private class ExecutorInvalidation implements Interceptor {
+
+    private final Set<String> flushedNamespaces = new LinkedHashSet<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      switch (invocation.getMethod().getName()) {
+        case "commit":
+          Object result = invocation.proceed();
+          publishFlushedNamespaces();
+          return result;
+        case "rollback":
+          flushedNamespaces.clear();
+          return invocation.proceed();
+        case "close":
+          boolean forceRollback = (Boolean) invocation.getArgs()[0];
+          try {
+            return invocation.proceed();
+          } finally {
+            // An executor commits pending cache changes on close unless it is forced to roll back
+            if (!forceRollback) {
+              publishFlushedNamespaces();
+            }
+            flushedNamespaces.clear();
+          }
+        default:
+          MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+          Cache cache = mappedStatement.getCache();
+          if (cache != null && mappedStatement.isFlushCacheRequired()) {
+            flushedNamespaces.add(cache.getId());
+          }
+          return invocation.proceed();
+      }
+    }
+
+    private void publishFlushedNamespaces() {
+      if (!flushedNamespaces.isEmpty()) {
+        Set<String> namespaces = new LinkedHashSet<>(flushedNamespaces);
+        flushedNamespaces.clear();
+        publish(namespaces);
+      }
+    }
+
+  }
+
+}
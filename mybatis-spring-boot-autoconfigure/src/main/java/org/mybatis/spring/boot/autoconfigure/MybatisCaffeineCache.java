@@ -0,0 +1,268 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.ibatis.builder.InitializingObject;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheException;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * MyBatis {@link Cache} implementation backed by the Caffeine.
+ * <p>
+ * This cache does not take a lock on each access, and bounds the size by weight. The weight of an entry is the number
+ * of rows that held by it (a non-collection value weighs 1). It can be specified as {@code CAFFEINE} type alias when
+ * the {@link MybatisCaffeineCacheAutoConfiguration} is enabled.
+ * </p>
+ *
+ * <pre class="code">
+ * &lt;cache type="CAFFEINE"&gt;
+ *   &lt;property name="maximumWeight" value="10000"/&gt;
+ *   &lt;property name="expireAfterWrite" value="10m"/&gt;
+ *   &lt;property name="refreshAhead" value="8m"/&gt;
+ * &lt;/cache&gt;
+ * </pre>
+ * <p>
+ * When the refresh-ahead is specified, an entry that older than it is reported as a miss to only one caller, and other
+ * callers continue to get the current value until the caller puts a new value. Because MyBatis does not serialize
+ * values of a custom cache, cached objects are shared between callers (same as the {@code readOnly="true"}).
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisCaffeineCache implements Cache, InitializingObject {
+
+  /**
+   * The type alias of this cache.
+   */
+  public static final String TYPE_ALIAS = "CAFFEINE";
+
+  private static final long DEFAULT_MAXIMUM_WEIGHT = 1024;
+
+  private final String id;
+
+  private Long maximumWeight;
+
+  private Duration expireAfterWrite;
+
+  private Duration refreshAhead;
+
+  private Ticker ticker = Ticker.systemTicker();
+
+  private volatile com.github.benmanes.caffeine.cache.Cache<Object, Entry> cache;
+
+  /**
+   * Constructor.
+   *
+   * @param id
+   *          an id of cache (namespace)
+   */
+  public MybatisCaffeineCache(String id) {
+    if (id == null) {
+      throw new IllegalArgumentException("Cache instances require an ID");
+    }
+    this.id = id;
+    initialize();
+  }
+
+  /**
+   * Set the maximum weight (total number of rows) of entries. Default is 1024.
+   *
+   * @param maximumWeight
+   *          the maximum weight
+   */
+  public void setMaximumWeight(long maximumWeight) {
+    this.maximumWeight = maximumWeight;
+  }
+
+  /**
+   * Set the duration that an entry expires after written.
+   *
+   * @param expireAfterWrite
+   *          the duration formatted as {@code 10m}, {@code 30s} or ISO-8601 (e.g. {@code PT10M})
+   */
+  public void setExpireAfterWrite(String expireAfterWrite) {
+    this.expireAfterWrite = parseDuration(expireAfterWrite);
+  }
+
+  /**
+   * Set the duration that an entry should be refreshed ahead of expiration after written.
+   *
+   * @param refreshAhead
+   *          the duration formatted as {@code 10m}, {@code 30s} or ISO-8601 (e.g. {@code PT10M})
+   */
+  public void setRefreshAhead(String refreshAhead) {
+    this.refreshAhead = parseDuration(refreshAhead);
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight != null ? maximumWeight : DEFAULT_MAXIMUM_WEIGHT;
+  }
+
+  public Duration getExpireAfterWrite() {
+    return expireAfterWrite;
+  }
+
+  public Duration getRefreshAhead() {
+    return refreshAhead;
+  }
+
+  void setTicker(Ticker ticker) {
+    this.ticker = ticker;
+  }
+
+  /**
+   * Apply default settings to values that are not specified by properties of this cache (e.g. {@code <property>} of
+   * the {@code <cache>} element). The underlying cache is rebuilt only when a value is applied.
+   *
+   * @param maximumWeight
+   *          the default maximum weight, or {@code null}
+   * @param expireAfterWrite
+   *          the default duration that an entry expires after written, or {@code null}
+   * @param refreshAhead
+   *          the default duration that an entry should be refreshed ahead of expiration after written, or
+   *          {@code null}
+   */
+  public void applyDefaults(Long maximumWeight, Duration expireAfterWrite, Duration refreshAhead) {
+    boolean applied = false;
+    if (this.maximumWeight == null && maximumWeight != null) {
+      this.maximumWeight = maximumWeight;
+      applied = true;
+    }
+    if (this.expireAfterWrite == null && expireAfterWrite != null) {
+      this.expireAfterWrite = expireAfterWrite;
+      applied = true;
+    }
+    if (this.refreshAhead == null && refreshAhead != null) {
+      this.refreshAhead = refreshAhead;
+      applied = true;
+    }
+    if (applied) {
+      initialize();
+    }
+  }
+
+  @Override
+  public void initialize() {
+    Caffeine<Object, Entry> builder = Caffeine.newBuilder().ticker(ticker).maximumWeight(getMaximumWeight())
+        .weigher((Object key, Entry entry) -> entry.weight());
+    if (expireAfterWrite != null) {
+      builder.expireAfterWrite(expireAfterWrite);
+    }
+    this.cache = builder.build();
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void putObject(Object key, Object value) {
+    if (value == null) {
+      // MyBatis puts null for releasing an entry that missed on a rollback
+      cache.invalidate(key);
+    } else {
+      cache.put(key, new Entry(value, ticker.read()));
+    }
+  }
+
+  @Override
+  public Object getObject(Object key) {
+    Entry entry = cache.getIfPresent(key);
+    if (entry == null) {
+      return null;
+    }
+    if (refreshAhead != null && ticker.read() - entry.writeTime >= refreshAhead.toNanos()
+        && Entry.REFRESHING.compareAndSet(entry, 0, 1)) {
+      return null;
+    }
+    return entry.value;
+  }
+
+  @Override
+  public Object removeObject(Object key) {
+    Entry entry = cache.asMap().remove(key);
+    return entry == null ? null : entry.value;
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public int getSize() {
+    return (int) Math.min(cache.estimatedSize(), Integer.MAX_VALUE);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Cache)) {
+      return false;
+    }
+    return getId().equals(((Cache) o).getId());
+  }
+
+  @Override
+  public int hashCode() {
+    return getId().hashCode();
+  }
+
+  private static Duration parseDuration(String value) {
+    if (value == null || value.isEmpty()) {
+      return null;
+    }
+    try {
+      return DurationStyle.detectAndParse(value);
+    } catch (IllegalArgumentException e) {
+      throw new CacheException("Invalid duration '" + value + "' for the cache", e);
+    }
+  }
+
+  private static final class Entry {
+
+    private static final AtomicIntegerFieldUpdater<Entry> REFRESHING = AtomicIntegerFieldUpdater
+        .newUpdater(Entry.class, "refreshing");
+
+    private final Object value;
+
+    private final long writeTime;
+
+    private volatile int refreshing;
+
+    private Entry(Object value, long writeTime) {
+      this.value = value;
+      this.writeTime = writeTime;
+    }
+
+    private int weight() {
+      return value instanceof Collection ? Math.max(((Collection<?>) value).size(), 1) : 1;
+    }
+
+  }
+
+}
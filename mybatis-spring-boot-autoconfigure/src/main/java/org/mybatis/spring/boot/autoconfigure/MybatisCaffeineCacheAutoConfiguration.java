@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for the {@link MybatisCaffeineCache}.
+ * <p>
+ * This configuration registers the {@code CAFFEINE} type alias of {@link MybatisCaffeineCache} (when a MyBatis xml
+ * config file is not used), and applies {@code mybatis.cache.*} settings to each {@link MybatisCaffeineCache} after a
+ * {@link SqlSessionFactory} is initialized. A setting specified by a property of the cache (e.g. {@code <property>} of
+ * the {@code <cache>} element) takes precedence over {@code mybatis.cache.*} settings.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, Caffeine.class })
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisCaffeineCacheAutoConfiguration {
+
+  @Bean
+  ConfigurationCustomizer mybatisCaffeineCacheConfigurationCustomizer() {
+    return configuration -> configuration.getTypeAliasRegistry().registerAlias(MybatisCaffeineCache.TYPE_ALIAS,
+        MybatisCaffeineCache.class);
+  }
+
+  @Bean
+  static CaffeineCacheSqlSessionFactoryPostProcessor mybatisCaffeineCacheSqlSessionFactoryPostProcessor(
+      ObjectProvider<MybatisProperties> properties) {
+    return new CaffeineCacheSqlSessionFactoryPostProcessor(properties);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that applies {@code mybatis.cache.*} settings to {@link MybatisCaffeineCache}s as
+   * defaults.
+   */
+  static class CaffeineCacheSqlSessionFactoryPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MybatisProperties> properties;
+
+    CaffeineCacheSqlSessionFactoryPostProcessor(ObjectProvider<MybatisProperties> properties) {
+      this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        MybatisProperties.Cache settings = this.properties.getIfAvailable(MybatisProperties::new).getCache();
+        Set<MybatisCaffeineCache> caches = new LinkedHashSet<>();
+        for (Object cache : ((SqlSessionFactory) bean).getConfiguration().getCaches().toArray()) {
+          // A cache is held twice (by full id and short id), and an ambiguous short id is not a Cache
+          if (cache instanceof Cache) {
+            MybatisCaffeineCache caffeineCache = unwrap((Cache) cache);
+            if (caffeineCache != null) {
+              caches.add(caffeineCache);
+            }
+          }
+        }
+        for (MybatisCaffeineCache caffeineCache : caches) {
+          MybatisProperties.CacheSpec spec = settings.resolve(caffeineCache.getId());
+          caffeineCache.applyDefaults(spec.getMaximumWeight(), spec.getExpireAfterWrite(), spec.getRefreshAhead());
+        }
+      }
+      return bean;
+    }
+
+    private static MybatisCaffeineCache unwrap(Cache cache) {
+      Object target = cache;
+      while (target != null && !(target instanceof MybatisCaffeineCache)) {
+        MetaObject metaObject = SystemMetaObject.forObject(target);
+        target = metaObject.hasGetter("delegate") ? metaObject.getValue("delegate") : null;
+      }
+      return (MybatisCaffeineCache) target;
+    }
+
+  }
+
+}
@@ -0,0 +1,255 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.scripting.LanguageDriver;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.type.TypeHandler;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for named data sources specified by
+ * {@code mybatis.datasources.<name>.*}.
+ * <p>
+ * Each named data source creates following beans:
+ * </p>
+ * <ul>
+ * <li>{@code <name>DataSource} : a {@link DataSource} that built in the same way as {@code spring.datasource.*},
+ * with settings specific to the pool implementation from {@code mybatis.datasources.<name>.pool.*}</li>
+ * <li>{@code <name>TransactionManager} : a {@link DataSourceTransactionManager}</li>
+ * <li>{@code <name>SqlSessionFactory} : a {@link SqlSessionFactory} that built in the same way as the
+ * {@link MybatisAutoConfiguration} (e.g. {@code mybatis.config-location}, {@code mybatis.configuration.*} and
+ * customizers are applied), with mapper locations, type aliases and type handlers of the named data source</li>
+ * <li>{@code <name>SqlSessionTemplate} : a {@link SqlSessionTemplate}</li>
+ * <li>a {@link MapperScannerConfigurer} that binds mappers annotated with {@code @Mapper} in {@code base-packages} to
+ * the {@link SqlSessionTemplate}</li>
+ * </ul>
+ * <p>
+ * The data sources and transaction managers are not default candidates for autowiring by type, so that they do not
+ * conflict with the application's primary data source; please specify a bean name (e.g.
+ * {@code @Transactional("ordersTransactionManager")}). Because these beans are registered before the
+ * {@link MybatisAutoConfiguration}, the default {@link SqlSessionFactory}, {@link SqlSessionTemplate} and mapper scan
+ * are not created when named data sources are specified.
+ * </p>
+ * <p>
+ * When {@code mybatis.sharding.data-sources} is specified, a {@code shardedSqlSessionTemplate} (a
+ * {@link MybatisShardedSqlSessionTemplate} over the {@link SqlSessionTemplate}s of the named data sources) and a
+ * {@link MapperScannerConfigurer} that binds mappers in {@code mybatis.sharding.base-packages} to it are also created.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@org.springframework.context.annotation.Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class })
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter(DataSourceAutoConfiguration.class)
+@AutoConfigureBefore(MybatisAutoConfiguration.class)
+@Import(MybatisDataSourcesAutoConfiguration.NamedDataSourcesRegistrar.class)
+public class MybatisDataSourcesAutoConfiguration {
+
+  /**
+   * The bean name of the {@link MybatisShardedSqlSessionTemplate}.
+   */
+  public static final String SHARDED_SQL_SESSION_TEMPLATE_BEAN_NAME = "shardedSqlSessionTemplate";
+
+  private static final Logger logger = LoggerFactory.getLogger(MybatisDataSourcesAutoConfiguration.class);
+
+  /**
+   * Registrar that registers beans for each named data source.
+   */
+  static class NamedDataSourcesRegistrar
+      implements ImportBeanDefinitionRegistrar, BeanFactoryAware, EnvironmentAware, ResourceLoaderAware {
+
+    private BeanFactory beanFactory;
+
+    private Environment environment;
+
+    private ResourceLoader resourceLoader;
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+      Map<String, MybatisProperties.NamedDataSource> dataSources = Binder.get(this.environment)
+          .bind(MybatisProperties.MYBATIS_PREFIX + ".datasources",
+              Bindable.mapOf(String.class, MybatisProperties.NamedDataSource.class))
+          .orElseGet(Map::of);
+      dataSources.forEach((name, settings) -> registerBeanDefinitions(name, settings, registry));
+
+      MybatisProperties.Sharding sharding = Binder.get(this.environment)
+          .bind(MybatisProperties.MYBATIS_PREFIX + ".sharding", MybatisProperties.Sharding.class)
+          .orElseGet(MybatisProperties.Sharding::new);
+      if (!sharding.getDataSources().isEmpty()) {
+        registerShardingBeanDefinitions(sharding, dataSources, registry);
+      }
+    }
+
+    private void registerShardingBeanDefinitions(MybatisProperties.Sharding sharding,
+        Map<String, MybatisProperties.NamedDataSource> dataSources, BeanDefinitionRegistry registry) {
+      for (String name : sharding.getDataSources()) {
+        Assert.state(dataSources.containsKey(name),
+            () -> "The shard '" + name + "' should be specified by 'mybatis.datasources." + name + ".*'");
+      }
+      registry.registerBeanDefinition(SHARDED_SQL_SESSION_TEMPLATE_BEAN_NAME,
+          new RootBeanDefinition(MybatisShardedSqlSessionTemplate.class, () -> {
+            Map<String, SqlSessionTemplate> shards = new LinkedHashMap<>();
+            for (String name : sharding.getDataSources()) {
+              shards.put(name, this.beanFactory.getBean(name + "SqlSessionTemplate", SqlSessionTemplate.class));
+            }
+            return new MybatisShardedSqlSessionTemplate(shards, sharding.getVirtualNodes());
+          }));
+      if (!ObjectUtils.isEmpty(sharding.getBasePackages())) {
+        registerMapperScanner("sharded", sharding.getBasePackages(), SHARDED_SQL_SESSION_TEMPLATE_BEAN_NAME, registry);
+      }
+    }
+
+    private void registerBeanDefinitions(String name, MybatisProperties.NamedDataSource settings,
+        BeanDefinitionRegistry registry) {
+      logger.debug("Registering MyBatis beans for the data source '{}'", name);
+      String dataSourceBeanName = name + "DataSource";
+      String sqlSessionFactoryBeanName = name + "SqlSessionFactory";
+      String sqlSessionTemplateBeanName = name + "SqlSessionTemplate";
+
+      RootBeanDefinition dataSource = new RootBeanDefinition(DataSource.class, () -> DataSources.build(settings,
+          Binder.get(this.environment), MybatisProperties.MYBATIS_PREFIX + ".datasources." + name));
+      dataSource.setDefaultCandidate(false);
+      dataSource.setDestroyMethodName(AbstractBeanDefinition.INFER_METHOD);
+      registry.registerBeanDefinition(dataSourceBeanName, dataSource);
+
+      RootBeanDefinition transactionManager = new RootBeanDefinition(DataSourceTransactionManager.class,
+          () -> new DataSourceTransactionManager(this.beanFactory.getBean(dataSourceBeanName, DataSource.class)));
+      transactionManager.setDefaultCandidate(false);
+      registry.registerBeanDefinition(name + "TransactionManager", transactionManager);
+
+      registry.registerBeanDefinition(sqlSessionFactoryBeanName, new RootBeanDefinition(SqlSessionFactory.class,
+          () -> createSqlSessionFactory(name, settings, dataSourceBeanName)));
+
+      registry.registerBeanDefinition(sqlSessionTemplateBeanName,
+          new RootBeanDefinition(SqlSessionTemplate.class, () -> createSqlSessionTemplate(settings,
+              this.beanFactory.getBean(sqlSessionFactoryBeanName, SqlSessionFactory.class))));
+
+      if (!ObjectUtils.isEmpty(settings.getBasePackages())) {
+        registerMapperScanner(name, settings.getBasePackages(), sqlSessionTemplateBeanName, registry);
+      }
+    }
+
+    private void registerMapperScanner(String name, String[] basePackages, String sqlSessionTemplateBeanName,
+        BeanDefinitionRegistry registry) {
+      BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(MapperScannerConfigurer.class);
+      builder.addPropertyValue("processPropertyPlaceHolders", true);
+      builder.addPropertyValue("annotationClass", Mapper.class);
+      builder.addPropertyValue("basePackage", StringUtils.arrayToCommaDelimitedString(basePackages));
+      builder.addPropertyValue("sqlSessionTemplateBeanName", sqlSessionTemplateBeanName);
+      builder.addPropertyValue("lazyInitialization", "${mybatis.lazy-initialization:false}");
+      builder.addPropertyValue("defaultScope", "${mybatis.mapper-default-scope:}");
+      builder.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+      registry.registerBeanDefinition(name + MapperScannerConfigurer.class.getSimpleName(),
+          builder.getBeanDefinition());
+    }
+
+    private SqlSessionFactory createSqlSessionFactory(String name, MybatisProperties.NamedDataSource settings,
+        String dataSourceBeanName) {
+      // Build in the same way as the auto-configured SqlSessionFactory (config location, core configuration,
+      // customizers, interceptors, type handlers, language drivers and database id provider)
+      MybatisProperties properties = Binder.get(this.environment)
+          .bindOrCreate(MybatisProperties.MYBATIS_PREFIX, MybatisProperties.class);
+      properties.setMapperLocations(settings.getMapperLocations());
+      properties.setTypeAliasesPackage(settings.getTypeAliasesPackage());
+      properties.setTypeHandlersPackage(settings.getTypeHandlersPackage());
+      // The cache file is used only by the auto-configured SqlSessionFactory
+      properties.getStartup().setCacheFile(null);
+      MybatisAutoConfiguration configuration = new MybatisAutoConfiguration(properties,
+          this.beanFactory.getBeanProvider(Interceptor.class).orderedStream().toArray(Interceptor[]::new),
+          this.beanFactory.getBeanProvider(TypeHandler.class).orderedStream().toArray(TypeHandler[]::new),
+          this.beanFactory.getBeanProvider(LanguageDriver.class).orderedStream().toArray(LanguageDriver[]::new),
+          this.resourceLoader, this.beanFactory.getBeanProvider(DatabaseIdProvider.class).getIfAvailable(),
+          this.beanFactory.getBeanProvider(ConfigurationCustomizer.class).orderedStream().toList(),
+          this.beanFactory.getBeanProvider(SqlSessionFactoryBeanCustomizer.class).orderedStream()
+              // The read-write routing replaces the data source with the primary data source and its replicas
+              .filter(customizer -> !(customizer instanceof MybatisReadWriteRoutingAutoConfiguration.
+                  ReadWriteRoutingSqlSessionFactoryBeanCustomizer))
+              .toList());
+      try {
+        configuration.afterPropertiesSet();
+        return configuration.sqlSessionFactory(this.beanFactory.getBean(dataSourceBeanName, DataSource.class));
+      } catch (Exception e) {
+        throw new IllegalStateException("Failed to create a SqlSessionFactory for the data source '" + name + "'", e);
+      }
+    }
+
+    private SqlSessionTemplate createSqlSessionTemplate(MybatisProperties.NamedDataSource settings,
+        SqlSessionFactory sqlSessionFactory) {
+      ExecutorType executorType = settings.getExecutorType() != null ? settings.getExecutorType()
+          : this.beanFactory.getBean(MybatisProperties.class).getExecutorType();
+      return executorType != null ? new SqlSessionTemplate(sqlSessionFactory, executorType)
+          : new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+      this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+      this.environment = environment;
+    }
+
+    @Override
+    public void setResourceLoader(ResourceLoader resourceLoader) {
+      this.resourceLoader = resourceLoader;
+    }
+
+  }
+
+}
@@ -0,0 +1,250 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.decorators.LoggingCache;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.boot.actuate.endpoint.OperationResponseBody;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * {@link Endpoint @Endpoint} that exposes execution statistics of {@link MappedStatement}s.
+ * <p>
+ * This endpoint provides following operations:
+ * </p>
+ * <ul>
+ * <li>{@code GET /actuator/mybatis} : statistics of all statements in each {@link SqlSessionFactory}, ordered by total
+ * time</li>
+ * <li>{@code GET /actuator/mybatis/{order}/{limit}} : top-N statements in each {@link SqlSessionFactory}, ordered by
+ * {@code count}, {@code total-time}, {@code mean-time}, {@code max-time}, {@code rows} or {@code errors}</li>
+ * <li>{@code DELETE /actuator/mybatis} : reset statistics</li>
+ * </ul>
+ *
+ * @since 4.1.1
+ */
+@Endpoint(id = "mybatis")
+public class MybatisEndpoint {
+
+  private final Map<String, SqlSessionFactory> sqlSessionFactories;
+
+  /**
+   * Constructor.
+   *
+   * @param sqlSessionFactories
+   *          {@link SqlSessionFactory}s keyed by bean name
+   */
+  public MybatisEndpoint(Map<String, SqlSessionFactory> sqlSessionFactories) {
+    this.sqlSessionFactories = sqlSessionFactories;
+  }
+
+  @ReadOperation
+  public MybatisDescriptor statements() {
+    return describe(StatementOrder.TOTAL_TIME, Integer.MAX_VALUE);
+  }
+
+  @ReadOperation
+  public MybatisDescriptor topStatements(@Selector String order, @Selector int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("Unsupported limit: " + limit);
+    }
+    return describe(StatementOrder.of(order), limit);
+  }
+
+  @DeleteOperation
+  public void reset() {
+    sqlSessionFactories.values().stream().map(factory -> getStatistics(factory.getConfiguration()))
+        .filter(Objects::nonNull).forEach(MybatisStatisticsListener::reset);
+  }
+
+  private MybatisDescriptor describe(StatementOrder order, int limit) {
+    Map<String, List<StatementDescriptor>> statements = new LinkedHashMap<>();
+    sqlSessionFactories.forEach((name, factory) -> {
+      Configuration configuration = factory.getConfiguration();
+      MybatisStatisticsListener statistics = getStatistics(configuration);
+      Set<MappedStatement> mappedStatements = new LinkedHashSet<>();
+      for (Object mappedStatement : configuration.getMappedStatements().toArray()) {
+        // A statement is held twice (by full id and short id), and an ambiguous short id is not a MappedStatement
+        if (mappedStatement instanceof MappedStatement) {
+          mappedStatements.add((MappedStatement) mappedStatement);
+        }
+      }
+      List<StatementDescriptor> descriptors = new ArrayList<>();
+      for (MappedStatement mappedStatement : mappedStatements) {
+        descriptors.add(new StatementDescriptor(mappedStatement,
+            statistics == null ? null : statistics.getStatistics(mappedStatement.getId())));
+      }
+      descriptors.sort(order.comparator.reversed().thenComparing(StatementDescriptor::getId));
+      statements.put(name, descriptors.size() > limit ? descriptors.subList(0, limit) : descriptors);
+    });
+    return new MybatisDescriptor(statements);
+  }
+
+  private static MybatisStatisticsListener getStatistics(Configuration configuration) {
+    return configuration.getInterceptors().stream().filter(MybatisStatementTimingInterceptor.class::isInstance)
+        .map(MybatisStatementTimingInterceptor.class::cast)
+        .map(interceptor -> interceptor.getListener(MybatisStatisticsListener.class)).filter(Objects::nonNull)
+        .findFirst().orElse(null);
+  }
+
+  private enum StatementOrder {
+    COUNT(Comparator.comparingLong(StatementDescriptor::getCount)),
+    TOTAL_TIME(Comparator.comparingDouble(StatementDescriptor::getTotalTime)),
+    MEAN_TIME(Comparator.comparingDouble(StatementDescriptor::getMeanTime)),
+    MAX_TIME(Comparator.comparingDouble(StatementDescriptor::getMaxTime)),
+    ROWS(Comparator.comparingLong(StatementDescriptor::getRows)),
+    ERRORS(Comparator.comparingLong(StatementDescriptor::getErrors));
+
+    private final Comparator<StatementDescriptor> comparator;
+
+    StatementOrder(Comparator<StatementDescriptor> comparator) {
+      this.comparator = comparator;
+    }
+
+    private static StatementOrder of(String order) {
+      try {
+        return valueOf(order.trim().replace('-', '_').toUpperCase(Locale.ENGLISH));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unsupported order: '" + order + "'", e);
+      }
+    }
+  }
+
+  /**
+   * Description of statement statistics in an application.
+   */
+  public static final class MybatisDescriptor implements OperationResponseBody {
+
+    private final Map<String, List<StatementDescriptor>> sqlSessionFactories;
+
+    private MybatisDescriptor(Map<String, List<StatementDescriptor>> sqlSessionFactories) {
+      this.sqlSessionFactories = sqlSessionFactories;
+    }
+
+    public Map<String, List<StatementDescriptor>> getSqlSessionFactories() {
+      return sqlSessionFactories;
+    }
+
+  }
+
+  /**
+   * Description of statistics of a statement. Times are in milliseconds.
+   */
+  public static final class StatementDescriptor {
+
+    private final String id;
+
+    private final String command;
+
+    private final long count;
+
+    private final long errors;
+
+    private final double totalTime;
+
+    private final double maxTime;
+
+    private final long rows;
+
+    private final Double cacheHitRatio;
+
+    private StatementDescriptor(MappedStatement mappedStatement,
+        MybatisStatisticsListener.StatementStatistics statistics) {
+      this.id = mappedStatement.getId();
+      this.command = mappedStatement.getSqlCommandType().name();
+      this.count = statistics == null ? 0 : statistics.getCount();
+      this.errors = statistics == null ? 0 : statistics.getErrors();
+      this.totalTime = statistics == null ? 0 : toMillis(statistics.getTotalNanos());
+      this.maxTime = statistics == null ? 0 : toMillis(statistics.getMaxNanos());
+      this.rows = statistics == null ? 0 : statistics.getRows();
+      this.cacheHitRatio = mappedStatement.isUseCache() ? cacheHitRatio(mappedStatement.getCache()) : null;
+    }
+
+    private static double toMillis(long nanos) {
+      return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static Double cacheHitRatio(Cache cache) {
+      Object target = cache;
+      while (target != null) {
+        MetaObject metaObject = SystemMetaObject.forObject(target);
+        if (target instanceof LoggingCache) {
+          // The LoggingCache counts requests and hits of all statements that share the cache
+          long requests = ((Number) metaObject.getValue("requests")).longValue();
+          return requests == 0 ? null : ((Number) metaObject.getValue("hits")).doubleValue() / requests;
+        }
+        target = metaObject.hasGetter("delegate") ? metaObject.getValue("delegate") : null;
+      }
+      return null;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public String getCommand() {
+      return command;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getErrors() {
+      return errors;
+    }
+
+    public double getTotalTime() {
+      return totalTime;
+    }
+
+    public double getMeanTime() {
+      return count == 0 ? 0 : totalTime / count;
+    }
+
+    public double getMaxTime() {
+      return maxTime;
+    }
+
+    public long getRows() {
+      return rows;
+    }
+
+    public Double getCacheHitRatio() {
+      return cacheHitRatio;
+    }
+
+  }
+
+}
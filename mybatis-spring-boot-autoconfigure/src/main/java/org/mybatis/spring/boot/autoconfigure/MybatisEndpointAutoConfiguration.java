@@ -0,0 +1,74 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.Map;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for the {@link MybatisEndpoint}.
+ * <p>
+ * When the endpoint is available, a {@link MybatisStatisticsListener} is added to the
+ * {@link MybatisStatementTimingInterceptor} of each {@link SqlSessionFactory} in the application context for collecting
+ * statistics.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, Endpoint.class })
+@ConditionalOnAvailableEndpoint(MybatisEndpoint.class)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisEndpointAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  MybatisEndpoint mybatisEndpoint(Map<String, SqlSessionFactory> sqlSessionFactories) {
+    return new MybatisEndpoint(sqlSessionFactories);
+  }
+
+  @Bean
+  static StatisticsSqlSessionFactoryPostProcessor mybatisStatisticsSqlSessionFactoryPostProcessor() {
+    return new StatisticsSqlSessionFactoryPostProcessor();
+  }
+
+  /**
+   * {@link BeanPostProcessor} that adds a {@link MybatisStatisticsListener} to each {@link SqlSessionFactory}.
+   */
+  static class StatisticsSqlSessionFactoryPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        MybatisStatementTimingInterceptor.of(((SqlSessionFactory) bean).getConfiguration())
+            .addListener(new MybatisStatisticsListener());
+      }
+      return bean;
+    }
+
+  }
+
+}
@@ -0,0 +1,76 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for the {@link MybatisFetchSizeTuningInterceptor}.
+ * <p>
+ * When {@code mybatis.fetch-size-tuning.enabled} is {@code true}, a {@link MybatisFetchSizeTuningInterceptor} is
+ * added to each {@link SqlSessionFactory} in the application context.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(SqlSessionFactory.class)
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "fetch-size-tuning.enabled",
+    havingValue = "true")
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisFetchSizeTuningAutoConfiguration {
+
+  @Bean
+  static FetchSizeTuningSqlSessionFactoryPostProcessor mybatisFetchSizeTuningSqlSessionFactoryPostProcessor(
+      ObjectProvider<MybatisProperties> properties) {
+    return new FetchSizeTuningSqlSessionFactoryPostProcessor(properties);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that adds a {@link MybatisFetchSizeTuningInterceptor} to each {@link SqlSessionFactory}.
+   */
+  static class FetchSizeTuningSqlSessionFactoryPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MybatisProperties> properties;
+
+    FetchSizeTuningSqlSessionFactoryPostProcessor(ObjectProvider<MybatisProperties> properties) {
+      this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        MybatisProperties.FetchSizeTuning settings = this.properties.getIfAvailable(MybatisProperties::new)
+            .getFetchSizeTuning();
+        ((SqlSessionFactory) bean).getConfiguration()
+            .addInterceptor(new MybatisFetchSizeTuningInterceptor(settings.getMin(), settings.getMax()));
+      }
+      return bean;
+    }
+
+  }
+
+}
@@ -0,0 +1,140 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+
+/**
+ * {@link Interceptor} that sets a fetch size per {@link MappedStatement} based on the number of rows it returned.
+ * <p>
+ * This interceptor records an exponentially weighted moving average of rows that each select statement reads from a
+ * result set, and sets the fetch size of the next execution to the average with a headroom, bounded by the minimum and
+ * maximum. A statement that specifies the {@code fetchSize} explicitly, and the first execution of a statement, use
+ * the configured fetch size. Rows of a cursor and rows passed to a {@code ResultHandler} are not recorded.
+ * </p>
+ * <p>
+ * Rows are counted by mapped objects, so a statement whose objects do not correspond to rows (a statement that has
+ * nested result maps, multiple result maps or result sets) is not tuned.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Intercepts({ @Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class }),
+    @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = { Statement.class }) })
+public class MybatisFetchSizeTuningInterceptor implements Interceptor {
+
+  private static final double WEIGHT = 0.2;
+
+  private static final double HEADROOM = 1.25;
+
+  private final int minFetchSize;
+
+  private final int maxFetchSize;
+
+  private final Map<String, RowStatistics> statistics = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param minFetchSize
+   *          the minimum fetch size
+   * @param maxFetchSize
+   *          the maximum fetch size
+   */
+  public MybatisFetchSizeTuningInterceptor(int minFetchSize, int maxFetchSize) {
+    if (minFetchSize <= 0 || maxFetchSize < minFetchSize) {
+      throw new IllegalArgumentException(
+          "Invalid fetch size bounds: min=" + minFetchSize + ", max=" + maxFetchSize);
+    }
+    this.minFetchSize = minFetchSize;
+    this.maxFetchSize = maxFetchSize;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    if (invocation.getTarget() instanceof StatementHandler) {
+      Statement statement = (Statement) invocation.proceed();
+      MappedStatement mappedStatement = PluginTargets.getMappedStatement((StatementHandler) invocation.getTarget());
+      if (isTunable(mappedStatement)) {
+        Integer fetchSize = getFetchSize(mappedStatement.getId());
+        if (fetchSize != null) {
+          statement.setFetchSize(fetchSize);
+        }
+      }
+      return statement;
+    }
+    Object result = invocation.proceed();
+    MetaObject metaObject = SystemMetaObject.forObject(PluginTargets.unwrap(invocation.getTarget()));
+    if (result instanceof List && metaObject.getValue("resultHandler") == null) {
+      MappedStatement mappedStatement = (MappedStatement) metaObject.getValue("mappedStatement");
+      if (isTunable(mappedStatement)) {
+        statistics.computeIfAbsent(mappedStatement.getId(), id -> new RowStatistics())
+            .record(((List<?>) result).size());
+      }
+    }
+    return result;
+  }
+
+  private static boolean isTunable(MappedStatement mappedStatement) {
+    // Nested result maps collapse rows into fewer objects, and multiple results are returned as a list of lists
+    return mappedStatement.getSqlCommandType() == SqlCommandType.SELECT && mappedStatement.getFetchSize() == null
+        && !mappedStatement.hasNestedResultMaps() && mappedStatement.getResultMaps().size() <= 1
+        && mappedStatement.getResultSets() == null;
+  }
+
+  /**
+   * Return the fetch size for the next execution of the specified statement.
+   *
+   * @param statementId
+   *          an id of statement
+   *
+   * @return the fetch size, or {@code null} if the statement has not returned rows yet
+   */
+  public Integer getFetchSize(String statementId) {
+    RowStatistics rowStatistics = statistics.get(statementId);
+    if (rowStatistics == null) {
+      return null;
+    }
+    long fetchSize = (long) Math.ceil(rowStatistics.average * HEADROOM);
+    return (int) Math.max(minFetchSize, Math.min(maxFetchSize, fetchSize));
+  }
+
+  private static class RowStatistics {
+
+    private volatile double average = -1;
+
+    private synchronized void record(int rows) {
+      average = average < 0 ? rows : average + WEIGHT * (rows - average);
+    }
+
+  }
+
+}
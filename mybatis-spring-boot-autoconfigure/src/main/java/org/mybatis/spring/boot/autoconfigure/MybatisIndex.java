@@ -0,0 +1,187 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Holder of the {@code META-INF/mybatis.index} files that generated by the mybatis-spring-boot-autoconfigure-processor.
+ * <p>
+ * An index file lists all types of a classpath root. A package is served from the index only when every classpath root
+ * that contains it has an index file, otherwise the caller should fall back to the classpath scanning.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+final class MybatisIndex {
+
+  static final String INDEX_LOCATION = "META-INF/mybatis.index";
+
+  static final String MAPPER_STEREOTYPE = "mapper";
+
+  private static final ConcurrentMap<ClassLoader, MybatisIndex> cache = new ConcurrentReferenceHashMap<>();
+
+  private final ClassLoader classLoader;
+
+  private final Map<String, Properties> entries;
+
+  private MybatisIndex(ClassLoader classLoader, Map<String, Properties> entries) {
+    this.classLoader = classLoader;
+    this.entries = entries;
+  }
+
+  /**
+   * Return the index for the given class loader.
+   *
+   * @param classLoader
+   *          the class loader for loading index files
+   *
+   * @return the index (never {@code null})
+   */
+  static MybatisIndex get(ClassLoader classLoader) {
+    ClassLoader classLoaderToUse = classLoader != null ? classLoader : MybatisIndex.class.getClassLoader();
+    return cache.computeIfAbsent(classLoaderToUse, MybatisIndex::load);
+  }
+
+  private static MybatisIndex load(ClassLoader classLoader) {
+    Map<String, Properties> entries = new LinkedHashMap<>();
+    try {
+      Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+      while (urls.hasMoreElements()) {
+        URL url = urls.nextElement();
+        String urlString = url.toString();
+        entries.put(urlString.substring(0, urlString.length() - INDEX_LOCATION.length()),
+            PropertiesLoaderUtils.loadProperties(new UrlResource(url)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to load indexes from location [" + INDEX_LOCATION + "]", e);
+    }
+    return new MybatisIndex(classLoader, entries);
+  }
+
+  boolean isEmpty() {
+    return this.entries.isEmpty();
+  }
+
+  /**
+   * Return class file paths under the given package path that located on the classpath root of the given url.
+   *
+   * @param packageUrl
+   *          the url of package that returned by the {@link ClassLoader#getResources(String)}
+   * @param packagePath
+   *          the package path (e.g. {@code com/example/domain})
+   *
+   * @return class file paths (e.g. {@code com/example/domain/City.class}), or {@code null} if the classpath root does
+   *         not have an index file
+   */
+  List<String> listClassFiles(String packageUrl, String packagePath) {
+    Properties types = this.entries.get(getRoot(packageUrl, packagePath));
+    if (types == null) {
+      return null;
+    }
+    String prefix = trimSlash(packagePath) + "/";
+    return types.stringPropertyNames().stream().map(type -> type.replace('.', '/') + ".class")
+        .filter(path -> path.startsWith(prefix)).sorted().collect(Collectors.toList());
+  }
+
+  /**
+   * Return whether all classpath roots that contain the given package have an index file.
+   *
+   * @param basePackage
+   *          the package name
+   *
+   * @return {@code true} if the package can be served from the index
+   */
+  boolean isIndexed(String basePackage) {
+    if (isEmpty()) {
+      return false;
+    }
+    String packagePath = basePackage.replace('.', '/');
+    try {
+      List<URL> urls = Collections.list(this.classLoader.getResources(packagePath));
+      return !urls.isEmpty()
+          && urls.stream().allMatch(url -> this.entries.containsKey(getRoot(url.toString(), packagePath)));
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Return binary names of types that located in or under the given package.
+   *
+   * @param basePackage
+   *          the package name
+   *
+   * @return binary names of types (e.g. {@code com.example.domain.City})
+   */
+  Set<String> getTypes(String basePackage) {
+    return getTypes(basePackage, null);
+  }
+
+  /**
+   * Return binary names of types that located in or under the given package and have the given stereotype.
+   *
+   * @param basePackage
+   *          the package name
+   * @param stereotype
+   *          the stereotype (e.g. {@code mapper}), or {@code null} for all types
+   *
+   * @return binary names of types (e.g. {@code com.example.mapper.CityMapper})
+   */
+  Set<String> getTypes(String basePackage, String stereotype) {
+    String prefix = basePackage + ".";
+    Set<String> types = new TreeSet<>();
+    for (Properties indexedTypes : this.entries.values()) {
+      indexedTypes.stringPropertyNames().stream().filter(type -> type.startsWith(prefix))
+          .filter(type -> stereotype == null || hasStereotype(indexedTypes.getProperty(type), stereotype))
+          .forEach(types::add);
+    }
+    return types;
+  }
+
+  private static boolean hasStereotype(String stereotypes, String stereotype) {
+    return Arrays.asList(StringUtils.commaDelimitedListToStringArray(stereotypes)).contains(stereotype);
+  }
+
+  private static String getRoot(String packageUrl, String packagePath) {
+    String url = trimSlash(packageUrl);
+    String path = trimSlash(packagePath);
+    return url.endsWith(path) ? url.substring(0, url.length() - path.length()) : url;
+  }
+
+  private static String trimSlash(String value) {
+    return value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+  }
+
+}
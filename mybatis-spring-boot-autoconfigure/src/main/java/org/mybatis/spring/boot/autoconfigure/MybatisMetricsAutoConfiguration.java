@@ -0,0 +1,85 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for recording metrics of MyBatis statement executions.
+ * <p>
+ * When a {@link MeterRegistry} is available, a {@link MybatisMetricsListener} is added to the
+ * {@link MybatisStatementTimingInterceptor} of each {@link SqlSessionFactory} in the application context (including
+ * ones defined by users), and meters for all registered statements are created in advance.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@org.springframework.context.annotation.Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, MeterRegistry.class })
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "metrics.enabled", matchIfMissing = true)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisMetricsAutoConfiguration {
+
+  @Bean
+  static MetricsSqlSessionFactoryPostProcessor mybatisMetricsSqlSessionFactoryPostProcessor(
+      ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<MybatisProperties> properties) {
+    return new MetricsSqlSessionFactoryPostProcessor(meterRegistry, properties);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that adds a {@link MybatisMetricsListener} to each {@link SqlSessionFactory}.
+   */
+  static class MetricsSqlSessionFactoryPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final ObjectProvider<MybatisProperties> properties;
+
+    MetricsSqlSessionFactoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+        ObjectProvider<MybatisProperties> properties) {
+      this.meterRegistry = meterRegistry;
+      this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        MeterRegistry registry = this.meterRegistry.getIfUnique();
+        if (registry != null) {
+          MybatisProperties.Metrics metrics = this.properties.getIfAvailable(MybatisProperties::new).getMetrics();
+          MybatisMetricsListener listener = new MybatisMetricsListener(registry, beanName, metrics.getPercentiles(),
+              metrics.isPercentileHistogram());
+          Configuration configuration = ((SqlSessionFactory) bean).getConfiguration();
+          MybatisStatementTimingInterceptor.of(configuration).addListener(listener);
+          listener.registerMeters(configuration);
+        }
+      }
+      return bean;
+    }
+
+  }
+
+}
@@ -0,0 +1,173 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * {@link MybatisStatementListener} that records metrics of statement executions using Micrometer.
+ * <p>
+ * This listener records following meters per {@link MappedStatement}. Each meter has the {@code statement} (id of
+ * statement), {@code command} (sql command type) and {@code sqlSessionFactory} (bean name) tags.
+ * </p>
+ * <ul>
+ * <li>{@code mybatis.statement} : a timer of the execution latency (until a {@link Cursor} is opened for a cursor
+ * query)</li>
+ * <li>{@code mybatis.statement.rows} : a distribution summary of rows returned or affected (not recorded for a cursor
+ * query and an update on the batch executor, whose rows are unknown at the time)</li>
+ * <li>{@code mybatis.statement.errors} : a counter of failed executions</li>
+ * </ul>
+ * <p>
+ * Meters are created per statement once (at {@link #registerMeters(Configuration)} or first execution), so tags are
+ * not allocated on each execution.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisMetricsListener implements MybatisStatementListener {
+
+  /**
+   * The name of the timer of execution latency.
+   */
+  public static final String STATEMENT_METER_NAME = "mybatis.statement";
+
+  /**
+   * The name of the distribution summary of rows returned or affected.
+   */
+  public static final String ROWS_METER_NAME = STATEMENT_METER_NAME + ".rows";
+
+  /**
+   * The name of the counter of failed executions.
+   */
+  public static final String ERRORS_METER_NAME = STATEMENT_METER_NAME + ".errors";
+
+  private final MeterRegistry registry;
+
+  private final String sqlSessionFactoryName;
+
+  private final double[] percentiles;
+
+  private final boolean percentileHistogram;
+
+  private final Map<String, StatementMeters> statementMeters = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param registry
+   *          a meter registry
+   * @param sqlSessionFactoryName
+   *          a bean name of the {@link org.apache.ibatis.session.SqlSessionFactory} that this listener applied
+   * @param percentiles
+   *          percentiles of the execution latency to publish (can be {@code null})
+   * @param percentileHistogram
+   *          whether publish a percentile histogram of the execution latency
+   */
+  public MybatisMetricsListener(MeterRegistry registry, String sqlSessionFactoryName, double[] percentiles,
+      boolean percentileHistogram) {
+    this.registry = registry;
+    this.sqlSessionFactoryName = sqlSessionFactoryName;
+    this.percentiles = percentiles;
+    this.percentileHistogram = percentileHistogram;
+  }
+
+  /**
+   * Create meters for all statements that registered to the specified configuration in advance.
+   *
+   * @param configuration
+   *          a MyBatis configuration
+   */
+  public void registerMeters(Configuration configuration) {
+    Collection<MappedStatement> mappedStatements = configuration.getMappedStatements();
+    for (Object mappedStatement : mappedStatements.toArray()) {
+      // A statement is held twice (by full id and short id), and an ambiguous short id is not a MappedStatement
+      if (mappedStatement instanceof MappedStatement) {
+        getStatementMeters((MappedStatement) mappedStatement);
+      }
+    }
+  }
+
+  @Override
+  public void afterStatement(MappedStatement mappedStatement, Object[] args, Object result, Throwable error,
+      long elapsedNanos, Object context) {
+    StatementMeters meters = getStatementMeters(mappedStatement);
+    if (error != null) {
+      meters.errors.increment();
+    } else {
+      int rows = rows(result);
+      if (rows >= 0) {
+        meters.rows.record(rows);
+      }
+    }
+    meters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private StatementMeters getStatementMeters(MappedStatement mappedStatement) {
+    StatementMeters meters = statementMeters.get(mappedStatement.getId());
+    if (meters == null) {
+      meters = statementMeters.computeIfAbsent(mappedStatement.getId(), id -> new StatementMeters(mappedStatement));
+    }
+    return meters;
+  }
+
+  private static int rows(Object result) {
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    } else if (result instanceof Integer) {
+      // The batch executor returns a negative value instead of affected rows
+      return (Integer) result;
+    }
+    // A cursor has not been fetched yet
+    return -1;
+  }
+
+  private class StatementMeters {
+
+    private final Timer timer;
+
+    private final DistributionSummary rows;
+
+    private final Counter errors;
+
+    private StatementMeters(MappedStatement mappedStatement) {
+      Tags tags = Tags.of("statement", mappedStatement.getId(), "command",
+          mappedStatement.getSqlCommandType().name(), "sqlSessionFactory", sqlSessionFactoryName);
+      this.timer = Timer.builder(STATEMENT_METER_NAME).description("Execution latency of MyBatis statements")
+          .tags(tags).publishPercentiles(percentiles).publishPercentileHistogram(percentileHistogram)
+          .register(registry);
+      this.rows = DistributionSummary.builder(ROWS_METER_NAME)
+          .description("Rows returned or affected by MyBatis statements").baseUnit("rows").tags(tags)
+          .register(registry);
+      this.errors = Counter.builder(ERRORS_METER_NAME).description("Failed executions of MyBatis statements")
+          .tags(tags).register(registry);
+    }
+
+  }
+
+}
@@ -0,0 +1,202 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * {@link Interceptor} that detects N+1 query patterns.
+ * <p>
+ * This interceptor counts select statements sent to the database (including nested selects of result maps and lazy
+ * loadings, excluding cache hits) per scope, grouped by statement id. A scope is the current Spring managed transaction,
+ * or the current web request when a transaction is not active. When a statement runs more than the threshold in a
+ * scope, this interceptor logs a warning (once per statement and scope) or throws an {@link IllegalStateException}
+ * depending on the {@link Action}. Statements executed outside of a scope are not counted.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class }))
+public class MybatisNPlusOneDetector implements Interceptor {
+
+  private static final Logger logger = LoggerFactory.getLogger(MybatisNPlusOneDetector.class);
+
+  private static final boolean REQUEST_CONTEXT_PRESENT = ClassUtils.isPresent(
+      "org.springframework.web.context.request.RequestContextHolder",
+      MybatisNPlusOneDetector.class.getClassLoader());
+
+  private static final String REQUEST_ATTRIBUTE_NAME = MybatisNPlusOneDetector.class.getName() + ".COUNTS";
+
+  private final int threshold;
+
+  private final Action action;
+
+  /**
+   * Constructor.
+   *
+   * @param threshold
+   *          the maximum number of times that a statement can run in a scope
+   * @param action
+   *          the action when a statement runs more than the threshold
+   */
+  public MybatisNPlusOneDetector(int threshold, Action action) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+    }
+    this.threshold = threshold;
+    this.action = action;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = PluginTargets.getMappedStatement((StatementHandler) invocation.getTarget());
+    if (mappedStatement.getSqlCommandType() == SqlCommandType.SELECT) {
+      Map<String, AtomicInteger> counts = currentCounts(true);
+      if (counts != null) {
+        int count = counts.computeIfAbsent(mappedStatement.getId(), id -> new AtomicInteger()).incrementAndGet();
+        if (count > threshold) {
+          onDetected(mappedStatement.getId(), count);
+        }
+      }
+    }
+    return invocation.proceed();
+  }
+
+  private void onDetected(String statementId, int count) {
+    String message = "Possible N+1 queries: the statement '" + statementId + "' ran " + count
+        + " times in the current scope (threshold: " + threshold + ")";
+    if (action == Action.EXCEPTION) {
+      throw new IllegalStateException(message);
+    }
+    if (count == threshold + 1) {
+      logger.warn(message);
+    }
+  }
+
+  /**
+   * Return the number of times that each select statement ran in the current scope.
+   *
+   * @return the counts keyed by statement id (empty when outside of a scope)
+   */
+  public Map<String, Integer> getStatementCounts() {
+    Map<String, AtomicInteger> counts = currentCounts(false);
+    if (counts == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, Integer> snapshot = new LinkedHashMap<>();
+    counts.forEach((id, count) -> snapshot.put(id, count.get()));
+    return snapshot;
+  }
+
+  /**
+   * Return select statements that ran more than the threshold in the current scope.
+   *
+   * @return the counts keyed by statement id (empty when no N+1 queries are detected)
+   */
+  public Map<String, Integer> getViolations() {
+    Map<String, Integer> violations = new LinkedHashMap<>(getStatementCounts());
+    violations.values().removeIf(count -> count <= threshold);
+    return violations;
+  }
+
+  /**
+   * Reset counts of the current scope.
+   */
+  public void reset() {
+    Map<String, AtomicInteger> counts = currentCounts(false);
+    if (counts != null) {
+      counts.clear();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, AtomicInteger> currentCounts(boolean create) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      Map<String, AtomicInteger> counts = (Map<String, AtomicInteger>) TransactionSynchronizationManager
+          .getResource(this);
+      if (counts == null && create) {
+        Map<String, AtomicInteger> newCounts = new ConcurrentHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, newCounts);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(MybatisNPlusOneDetector.this);
+          }
+        });
+        counts = newCounts;
+      }
+      return counts;
+    }
+    return REQUEST_CONTEXT_PRESENT ? RequestScope.currentCounts(create) : null;
+  }
+
+  /**
+   * The action when a statement runs more than the threshold.
+   */
+  public enum Action {
+
+    /**
+     * Log a warning.
+     */
+    WARN,
+
+    /**
+     * Throw an {@link IllegalStateException}.
+     */
+    EXCEPTION
+
+  }
+
+  private static class RequestScope {
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, AtomicInteger> currentCounts(boolean create) {
+      RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+      if (attributes == null) {
+        return null;
+      }
+      Map<String, AtomicInteger> counts = (Map<String, AtomicInteger>) attributes.getAttribute(REQUEST_ATTRIBUTE_NAME,
+          RequestAttributes.SCOPE_REQUEST);
+      if (counts == null && create) {
+        counts = new ConcurrentHashMap<>();
+        attributes.setAttribute(REQUEST_ATTRIBUTE_NAME, counts, RequestAttributes.SCOPE_REQUEST);
+      }
+      return counts;
+    }
+
+  }
+
+}
@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for observing MyBatis operations using the Micrometer Observation
+ * API.
+ * <p>
+ * When an {@link ObservationRegistry} is available, this configuration adds a {@link MybatisObservationInterceptor} to
+ * each {@link SqlSessionFactory} (as an interceptor and as a listener of the
+ * {@link MybatisStatementTimingInterceptor}) and wraps each mapper bean to create a {@code mybatis.mapper} observation
+ * per mapper method call. Observations of statements become children of the mapper method call observation, so a
+ * tracing bridge can report them as nested spans.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, ObservationRegistry.class })
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "observation.enabled", matchIfMissing = true)
+@AutoConfigureAfter(MybatisAutoConfiguration.class)
+public class MybatisObservationAutoConfiguration {
+
+  /**
+   * The name of the observation for a mapper method call.
+   */
+  public static final String MAPPER_OBSERVATION_NAME = "mybatis.mapper";
+
+  @Bean
+  static ObservationPostProcessor mybatisObservationPostProcessor(
+      ObjectProvider<ObservationRegistry> observationRegistry) {
+    return new ObservationPostProcessor(observationRegistry);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that applies observations to {@link SqlSessionFactory} and mapper beans.
+   */
+  static class ObservationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    ObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+      this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        ObservationRegistry registry = this.observationRegistry.getIfUnique();
+        if (registry != null) {
+          org.apache.ibatis.session.Configuration configuration = ((SqlSessionFactory) bean).getConfiguration();
+          MybatisObservationInterceptor interceptor = new MybatisObservationInterceptor(registry);
+          configuration.addInterceptor(interceptor);
+          MybatisStatementTimingInterceptor.of(configuration).addListener(interceptor);
+        }
+      } else if (MapperProxies.getMapperProxy(bean) != null) {
+        ObservationRegistry registry = this.observationRegistry.getIfUnique();
+        if (registry != null) {
+          return MapperProxies.advise(bean, new MapperObservationInterceptor(registry), false);
+        }
+      }
+      return bean;
+    }
+
+  }
+
+  /**
+   * {@link MethodInterceptor} that observes mapper method calls.
+   */
+  static class MapperObservationInterceptor implements MethodInterceptor {
+
+    private final ObservationRegistry registry;
+
+    MapperObservationInterceptor(ObservationRegistry registry) {
+      this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+      Method method = invocation.getMethod();
+      if (registry.isNoop() || method.getDeclaringClass() == Object.class) {
+        return invocation.proceed();
+      }
+      Observation observation = Observation
+          .createNotStarted(MAPPER_OBSERVATION_NAME, Observation.Context::new, registry)
+          .contextualName(method.getDeclaringClass().getSimpleName() + "." + method.getName())
+          .lowCardinalityKeyValue("mybatis.mapper", method.getDeclaringClass().getName())
+          .lowCardinalityKeyValue("mybatis.method", method.getName());
+      if (observation.isNoop()) {
+        return invocation.proceed();
+      }
+      observation.start();
+      try (Observation.Scope scope = observation.openScope()) {
+        return invocation.proceed();
+      } catch (Throwable e) {
+        observation.error(e);
+        throw e;
+      } finally {
+        observation.stop();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,243 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.CachingExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * {@link Interceptor} and {@link MybatisStatementListener} that observe statement executions using the Micrometer
+ * Observation API.
+ * <p>
+ * As a listener of the {@link MybatisStatementTimingInterceptor}, this class creates a {@code mybatis.statement}
+ * observation for each statement that an {@link Executor} runs (for an update on the batch executor, the observation
+ * covers adding it to the batch). As an interceptor, this class creates a {@code mybatis.batch} observation for each
+ * flush of batched statements (when the executor type is {@link org.apache.ibatis.session.ExecutorType#BATCH}).
+ * Observations carry the statement id, the number of fetched or affected rows and the batch size. Because a flush can
+ * contain various statements, statement ids of a batch are carried as a high cardinality key value.
+ * </p>
+ * <p>
+ * Each batch executor is wrapped by a dedicated interceptor instance that holds pending batched statements. Other
+ * executors and all executors of a no-op {@link ObservationRegistry} are not wrapped by this interceptor.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisObservationInterceptor implements Interceptor, MybatisStatementListener {
+
+  /**
+   * The name of the observation for a statement execution.
+   */
+  public static final String STATEMENT_OBSERVATION_NAME = "mybatis.statement";
+
+  /**
+   * The name of the observation for a flush of batched statements.
+   */
+  public static final String BATCH_OBSERVATION_NAME = "mybatis.batch";
+
+  private static final String STATEMENT_KEY = "mybatis.statement";
+
+  private static final String COMMAND_KEY = "mybatis.command";
+
+  private static final String ROWS_KEY = "mybatis.rows";
+
+  private static final String BATCH_SIZE_KEY = "mybatis.batch.size";
+
+  private final ObservationRegistry registry;
+
+  /**
+   * Constructor.
+   *
+   * @param registry
+   *          an observation registry
+   */
+  public MybatisObservationInterceptor(ObservationRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    // Invocations are handled by the ExecutorObservation that created per batch executor
+    return invocation.proceed();
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    if (target instanceof Executor && !registry.isNoop() && isBatchExecutor(target)) {
+      return Plugin.wrap(target, new ExecutorObservation());
+    }
+    return target;
+  }
+
+  @Override
+  public Object beforeStatement(MappedStatement mappedStatement, Object[] args) {
+    if (registry.isNoop()) {
+      return null;
+    }
+    Observation observation = Observation
+        .createNotStarted(STATEMENT_OBSERVATION_NAME, Observation.Context::new, registry)
+        .contextualName(mappedStatement.getId()).lowCardinalityKeyValue(STATEMENT_KEY, mappedStatement.getId())
+        .lowCardinalityKeyValue(COMMAND_KEY, mappedStatement.getSqlCommandType().name());
+    if (observation.isNoop()) {
+      return null;
+    }
+    observation.start();
+    // Statements and connections observed during the execution become children of this observation
+    return observation.openScope();
+  }
+
+  @Override
+  public void afterStatement(MappedStatement mappedStatement, Object[] args, Object result, Throwable error,
+      long elapsedNanos, Object context) {
+    if (context == null) {
+      return;
+    }
+    Observation.Scope scope = (Observation.Scope) context;
+    Observation observation = scope.getCurrentObservation();
+    scope.close();
+    if (error != null) {
+      observation.error(error);
+    } else if (result instanceof Collection) {
+      observation.highCardinalityKeyValue(ROWS_KEY, String.valueOf(((Collection<?>) result).size()));
+    } else if (result instanceof Integer && (Integer) result >= 0) {
+      // The batch executor returns a negative value instead of affected rows
+      observation.highCardinalityKeyValue(ROWS_KEY, String.valueOf(result));
+    }
+    observation.stop();
+  }
+
+  private static boolean isBatchExecutor(Object executor) {
+    Object target = executor;
+    while (true) {
+      if (target instanceof BatchExecutor) {
+        return true;
+      } else if (target instanceof CachingExecutor) {
+        target = SystemMetaObject.forObject(target).getValue("delegate");
+      } else if (Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof Plugin) {
+        target = SystemMetaObject.forObject(Proxy.getInvocationHandler(target)).getValue("target");
+      } else {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Interceptor that holds state of a single batch {@link Executor}. An executor is not shared between threads.
+   */
+  @Intercepts({
+      @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+      @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+          RowBounds.class, ResultHandler.class }),
+      @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+          RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+      @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class,
+          RowBounds.class }),
+      @Signature(type = Executor.class, method = "flushStatements", args = {}),
+      @Signature(type = Executor.class, method = "commit", args = { boolean.class }),
+      @Signature(type = Executor.class, method = "rollback", args = { boolean.class }),
+      @Signature(type = Executor.class, method = "close", args = { boolean.class }) })
+  private class ExecutorObservation implements Interceptor {
+
+    private int pendingBatchSize;
+
+    private final Set<String> pendingStatements = new LinkedHashSet<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      switch (invocation.getMethod().getName()) {
+        case "update":
+          // Statements are executed on flush
+          Object result = invocation.proceed();
+          pendingBatchSize++;
+          pendingStatements.add(((MappedStatement) invocation.getArgs()[0]).getId());
+          return result;
+        case "flushStatements":
+        case "commit":
+          // A commit flushes pending statements inside the executor
+          return flushStatements(invocation);
+        default:
+          // A batch executor flushes pending statements before querying, and discards them on rollback and close
+          clearPendingStatements();
+          return invocation.proceed();
+      }
+    }
+
+    private Object flushStatements(Invocation invocation) throws Throwable {
+      if (pendingBatchSize == 0) {
+        return invocation.proceed();
+      }
+      Observation observation = Observation
+          .createNotStarted(BATCH_OBSERVATION_NAME, Observation.Context::new, registry)
+          .highCardinalityKeyValue(BATCH_SIZE_KEY, String.valueOf(pendingBatchSize))
+          .highCardinalityKeyValue(STATEMENT_KEY, String.join(",", pendingStatements)).start();
+      clearPendingStatements();
+      try (Observation.Scope scope = observation.openScope()) {
+        Object result = invocation.proceed();
+        if (result instanceof List) {
+          // A commit does not return results
+          @SuppressWarnings("unchecked")
+          List<BatchResult> results = (List<BatchResult>) result;
+          observation.highCardinalityKeyValue(ROWS_KEY, String.valueOf(results.stream()
+              .mapToLong(batchResult -> sum(batchResult.getUpdateCounts())).sum()));
+        }
+        return result;
+      } catch (Throwable e) {
+        observation.error(e);
+        throw e;
+      } finally {
+        observation.stop();
+      }
+    }
+
+    private void clearPendingStatements() {
+      pendingBatchSize = 0;
+      pendingStatements.clear();
+    }
+
+    private long sum(int[] updateCounts) {
+      long sum = 0;
+      for (int updateCount : updateCounts) {
+        // Ignore negative values such as Statement.SUCCESS_NO_INFO
+        sum += Math.max(updateCount, 0);
+      }
+      return sum;
+    }
+
+  }
+
+}
@@ -0,0 +1,181 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+/**
+ * Executor that runs independent mapper calls concurrently.
+ * <p>
+ * Each call is executed on a worker thread (a virtual thread when the auto-configured executor runs on Java 21 or
+ * above) with its own {@link SqlSession}, and the session is committed when the call completes normally. The number of
+ * calls that execute at the same time is limited by a semaphore, so waiting calls do not occupy connections. It should
+ * be smaller than the connection pool, because the calling thread (e.g. in a transaction) may hold a connection too.
+ * </p>
+ *
+ * <pre class="code">
+ * CompletableFuture&lt;City&gt; city = parallelExecutor.submit(CityMapper.class, mapper -&gt; mapper.findById(1L));
+ * CompletableFuture&lt;List&lt;Hotel&gt;&gt; hotels = parallelExecutor.submit(HotelMapper.class, HotelMapper::findAll);
+ * CompletableFuture.allOf(city, hotels).join();
+ * </pre>
+ * <p>
+ * Calls do not join a Spring managed transaction of the calling thread. A call should not return a lazy result such
+ * as a {@link org.apache.ibatis.cursor.Cursor}, because the session is closed when the call returns. Persistence
+ * exceptions are translated into {@link DataAccessException}s. The executor is shut down when this is closed.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisParallelExecutor implements AutoCloseable {
+
+  private final SqlSessionFactory sqlSessionFactory;
+
+  private final Executor executor;
+
+  private final Semaphore semaphore;
+
+  private final int maxConcurrency;
+
+  private final MyBatisExceptionTranslator exceptionTranslator;
+
+  /**
+   * Constructor.
+   *
+   * @param sqlSessionFactory
+   *          a factory for opening sessions
+   * @param executor
+   *          an executor that runs calls (it is closed with this when it is {@link AutoCloseable} or
+   *          {@link DisposableBean})
+   * @param maxConcurrency
+   *          the maximum number of calls that execute at the same time
+   */
+  public MybatisParallelExecutor(SqlSessionFactory sqlSessionFactory, Executor executor, int maxConcurrency) {
+    Assert.isTrue(maxConcurrency > 0, "maxConcurrency must be greater than 0");
+    this.sqlSessionFactory = sqlSessionFactory;
+    this.executor = executor;
+    this.maxConcurrency = maxConcurrency;
+    this.semaphore = new Semaphore(maxConcurrency, true);
+    this.exceptionTranslator = new MyBatisExceptionTranslator(
+        sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(), true);
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Shut down the executor that runs calls.
+   *
+   * @throws Exception
+   *           if the executor cannot be shut down
+   */
+  @Override
+  public void close() throws Exception {
+    if (executor instanceof DisposableBean) {
+      ((DisposableBean) executor).destroy();
+    } else if (executor instanceof AutoCloseable) {
+      ((AutoCloseable) executor).close();
+    }
+  }
+
+  /**
+   * Submit a call of a mapper.
+   *
+   * @param <M>
+   *          the type of mapper
+   * @param <T>
+   *          the type of result
+   * @param mapperType
+   *          a mapper interface
+   * @param call
+   *          a call of the mapper
+   *
+   * @return a future of the result
+   */
+  public <M, T> CompletableFuture<T> submit(Class<M> mapperType, Function<M, T> call) {
+    return submit(sqlSession -> call.apply(sqlSession.getMapper(mapperType)));
+  }
+
+  /**
+   * Submit a call with a {@link SqlSession}.
+   *
+   * @param <T>
+   *          the type of result
+   * @param call
+   *          a call with a session
+   *
+   * @return a future of the result
+   */
+  public <T> CompletableFuture<T> submit(Function<SqlSession, T> call) {
+    return CompletableFuture.supplyAsync(() -> execute(call), executor);
+  }
+
+  /**
+   * Execute calls concurrently and wait for all of them.
+   *
+   * @param <T>
+   *          the type of results
+   * @param calls
+   *          calls with a session
+   *
+   * @return results in order of the calls
+   */
+  public <T> List<T> invokeAll(List<Function<SqlSession, T>> calls) {
+    List<CompletableFuture<T>> futures = calls.stream().map(this::submit).toList();
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private <T> T execute(Function<SqlSession, T> call) {
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for executing a mapper call", e);
+    }
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      T result = call.apply(sqlSession);
+      sqlSession.commit();
+      return result;
+    } catch (PersistenceException e) {
+      DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+      throw translated != null ? translated : e;
+    } finally {
+      semaphore.release();
+    }
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for the {@link MybatisParallelExecutor}.
+ * <p>
+ * Calls run on virtual threads on Java 21 or above, and on a thread pool sized to the maximum concurrency otherwise.
+ * The maximum concurrency is {@code mybatis.parallel.max-concurrency} or half of the maximum size of the connection
+ * pool that detected by {@link DataSourcePoolMetadataProvider}s (10 is assumed when it cannot be detected), so that
+ * calls do not take connections that callers (e.g. a transaction of the calling thread) need.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class })
+@ConditionalOnSingleCandidate(SqlSessionFactory.class)
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter({ MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class })
+public class MybatisParallelExecutorAutoConfiguration {
+
+  private static final int DEFAULT_POOL_SIZE = 10;
+
+  @Bean
+  @ConditionalOnMissingBean
+  MybatisParallelExecutor mybatisParallelExecutor(SqlSessionFactory sqlSessionFactory, MybatisProperties properties,
+      ObjectProvider<DataSourcePoolMetadataProvider> metadataProviders) {
+    Integer maxConcurrency = properties.getParallel().getMaxConcurrency();
+    if (maxConcurrency == null) {
+      maxConcurrency = determinePoolSize(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+          metadataProviders);
+    }
+    return new MybatisParallelExecutor(sqlSessionFactory, createTaskExecutor(maxConcurrency), maxConcurrency);
+  }
+
+  private static TaskExecutor createTaskExecutor(int maxConcurrency) {
+    if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+      SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mybatis-parallel-");
+      executor.setVirtualThreads(true);
+      return executor;
+    }
+    // A platform thread per call is not bounded, so calls are queued on a pool sized to the maximum concurrency
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("mybatis-parallel-");
+    executor.setDaemon(true);
+    executor.setCorePoolSize(maxConcurrency);
+    executor.setMaxPoolSize(maxConcurrency);
+    executor.initialize();
+    return executor;
+  }
+
+  private static int determinePoolSize(DataSource dataSource,
+      ObjectProvider<DataSourcePoolMetadataProvider> metadataProviders) {
+    Integer max = DataSources.getMaxPoolSize(dataSource, metadataProviders);
+    // Leave connections for callers
+    return Math.max((max != null ? max : DEFAULT_POOL_SIZE) / 2, 1);
+  }
+
+}
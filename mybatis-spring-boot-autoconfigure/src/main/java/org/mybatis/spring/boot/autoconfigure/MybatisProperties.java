@@ -1,5 +1,5 @@
 /*
- *    Copyright 2015-2025 the original author or authors.
+ *    Copyright 2015-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,11 @@
 package org.mybatis.spring.boot.autoconfigure;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
@@ -35,6 +40,7 @@ import org.apache.ibatis.type.TypeHandler;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
 import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
@@ -104,6 +110,77 @@ public class MybatisProperties {
    */
   private CoreConfiguration configuration;
 
+  /**
+   * The settings for tuning the startup of MyBatis.
+   */
+  private final Startup startup = new Startup();
+
+  /**
+   * The settings for recording metrics of statement executions.
+   */
+  private final Metrics metrics = new Metrics();
+
+  /**
+   * The settings for observing MyBatis operations.
+   */
+  private final Observation observation = new Observation();
+
+  /**
+   * The settings for the second level cache implementations provided by this starter.
+   */
+  private final Cache cache = new Cache();
+
+  /**
+   * The settings for routing select statements to read replicas.
+   */
+  private final Replicas replicas = new Replicas();
+
+  /**
+   * Named data sources. Each entry creates a dedicated SqlSessionFactory, SqlSessionTemplate and mapper scan instead of
+   * the default ones.
+   */
+  private Map<String, NamedDataSource> datasources = new LinkedHashMap<>();
+
+  /**
+   * The settings for routing statements to shards.
+   */
+  private final Sharding sharding = new Sharding();
+
+  /**
+   * The settings for executing mapper calls concurrently by the MybatisParallelExecutor.
+   */
+  private final Parallel parallel = new Parallel();
+
+  /**
+   * The settings for executing mapper methods that return CompletableFuture asynchronously.
+   */
+  private final Async async = new Async();
+
+  /**
+   * The settings for executing mapper methods that return Flux or Mono on a scheduler.
+   */
+  private final Reactive reactive = new Reactive();
+
+  /**
+   * The settings for flushing batched statements automatically.
+   */
+  private final Batch batch = new Batch();
+
+  /**
+   * The settings for tuning fetch sizes of select statements automatically.
+   */
+  private final FetchSizeTuning fetchSizeTuning = new FetchSizeTuning();
+
+  /**
+   * The settings for logging slow statements.
+   */
+  private final SlowQuery slowQuery = new SlowQuery();
+
+  /**
+   * The settings for detecting N+1 queries.
+   */
+  private final NPlusOne nPlusOne = new NPlusOne();
+
   /**
    * @since 1.1.0
    */
@@ -208,6 +285,111 @@ public class MybatisProperties {
     this.configuration = configuration;
   }
 
+  /**
+   * @since 4.1.1
+   */
+  public Startup getStartup() {
+    return startup;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Metrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Observation getObservation() {
+    return observation;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Cache getCache() {
+    return cache;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Replicas getReplicas() {
+    return replicas;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Map<String, NamedDataSource> getDatasources() {
+    return datasources;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public void setDatasources(Map<String, NamedDataSource> datasources) {
+    this.datasources = datasources;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Sharding getSharding() {
+    return sharding;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Parallel getParallel() {
+    return parallel;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Async getAsync() {
+    return async;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Reactive getReactive() {
+    return reactive;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public Batch getBatch() {
+    return batch;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public FetchSizeTuning getFetchSizeTuning() {
+    return fetchSizeTuning;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public SlowQuery getSlowQuery() {
+    return slowQuery;
+  }
+
+  /**
+   * @since 4.1.1
+   */
+  public NPlusOne getNPlusOne() {
+    return nPlusOne;
+  }
+
   public Resource[] resolveMapperLocations() {
     return Stream.of(Optional.ofNullable(this.mapperLocations).orElse(new String[0]))
         .flatMap(location -> Stream.of(getResources(location))).toArray(Resource[]::new);
@@ -221,6 +403,678 @@ public class MybatisProperties {
     }
   }
 
+  /**
+   * The properties for tuning the startup of MyBatis.
+   *
+   * @since 4.1.1
+   */
+  public static class Startup {
+
+    /**
+     * Whether load and parse mapper xml files concurrently. Default is false.
+     */
+    private boolean parallelMapperParsing;
+
+    /**
+     * The number of threads used for parallel mapper parsing. Default is the number of available processors.
+     */
+    private Integer parallelMapperParsingPoolSize;
+
+    /**
+     * Location of a local file for caching results of classpath scanning (mapper locations, type aliases and type
+     * handlers) between restarts. The cache is ignored when MyBatis settings or jar files on the classpath are changed,
+     * and is disabled when the classpath contains a directory.
+     */
+    private String cacheFile;
+
+    public boolean isParallelMapperParsing() {
+      return parallelMapperParsing;
+    }
+
+    public void setParallelMapperParsing(boolean parallelMapperParsing) {
+      this.parallelMapperParsing = parallelMapperParsing;
+    }
+
+    public Integer getParallelMapperParsingPoolSize() {
+      return parallelMapperParsingPoolSize;
+    }
+
+    public void setParallelMapperParsingPoolSize(Integer parallelMapperParsingPoolSize) {
+      this.parallelMapperParsingPoolSize = parallelMapperParsingPoolSize;
+    }
+
+    public String getCacheFile() {
+      return cacheFile;
+    }
+
+    public void setCacheFile(String cacheFile) {
+      this.cacheFile = cacheFile;
+    }
+
+  }
+
+  /**
+   * The properties for recording metrics of statement executions using Micrometer.
+   *
+   * @since 4.1.1
+   */
+  public static class Metrics {
+
+    /**
+     * Whether record metrics of statement executions when a MeterRegistry is available. Default is true.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Percentiles of the execution latency to publish. Default is 0.5, 0.95 and 0.99.
+     */
+    private double[] percentiles = { 0.5, 0.95, 0.99 };
+
+    /**
+     * Whether publish a percentile histogram of the execution latency. Default is false.
+     */
+    private boolean percentileHistogram;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public double[] getPercentiles() {
+      return percentiles;
+    }
+
+    public void setPercentiles(double[] percentiles) {
+      this.percentiles = percentiles;
+    }
+
+    public boolean isPercentileHistogram() {
+      return percentileHistogram;
+    }
+
+    public void setPercentileHistogram(boolean percentileHistogram) {
+      this.percentileHistogram = percentileHistogram;
+    }
+
+  }
+
+  /**
+   * The properties for observing mapper method calls and statement executions using the Micrometer Observation API.
+   *
+   * @since 4.1.1
+   */
+  public static class Observation {
+
+    /**
+     * Whether observe mapper method calls and statement executions when an ObservationRegistry is available. Default is
+     * true.
+     */
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+  }
+
+  /**
+   * The properties for the second level cache implementations provided by this starter (e.g.
+   * {@link MybatisCaffeineCache}).
+   *
+   * @since 4.1.1
+   */
+  public static class Cache extends CacheSpec {
+
+    /**
+     * Settings per cache namespace. A setting that is not specified is inherited from the default settings.
+     */
+    private Map<String, CacheSpec> namespaces = new LinkedHashMap<>();
+
+    /**
+     * The settings of cache invalidation across application instances.
+     */
+    private final CacheInvalidation invalidation = new CacheInvalidation();
+
+    public Map<String, CacheSpec> getNamespaces() {
+      return namespaces;
+    }
+
+    public void setNamespaces(Map<String, CacheSpec> namespaces) {
+      this.namespaces = namespaces;
+    }
+
+    public CacheInvalidation getInvalidation() {
+      return invalidation;
+    }
+
+    /**
+     * Return the settings for the specified namespace merged with the default settings.
+     *
+     * @param namespace
+     *          a cache namespace
+     *
+     * @return merged settings
+     */
+    public CacheSpec resolve(String namespace) {
+      CacheSpec spec = namespaces.get(namespace);
+      CacheSpec resolved = new CacheSpec();
+      resolved.setMaximumWeight(
+          spec != null && spec.getMaximumWeight() != null ? spec.getMaximumWeight() : getMaximumWeight());
+      resolved.setExpireAfterWrite(
+          spec != null && spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : getExpireAfterWrite());
+      resolved.setRefreshAhead(
+          spec != null && spec.getRefreshAhead() != null ? spec.getRefreshAhead() : getRefreshAhead());
+      return resolved;
+    }
+
+  }
+
+  /**
+   * The properties for publishing cache flushes to other application instances via a
+   * {@link MybatisCacheInvalidationBus}.
+   *
+   * @since 4.1.1
+   */
+  public static class CacheInvalidation {
+
+    /**
+     * Whether to enable publishing and receiving cache flushes when a {@link MybatisCacheInvalidationBus} is available.
+     */
+    private boolean enabled = true;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+  }
+
+  /**
+   * The settings of a second level cache.
+   *
+   * @since 4.1.1
+   */
+  public static class CacheSpec {
+
+    /**
+     * The maximum weight (total number of rows) of entries in a cache.
+     */
+    private Long maximumWeight;
+
+    /**
+     * The duration that an entry expires after written.
+     */
+    private Duration expireAfterWrite;
+
+    /**
+     * The duration that an entry should be refreshed ahead of expiration after written. An entry older than it is
+     * reported as a miss to only one caller.
+     */
+    private Duration refreshAhead;
+
+    public Long getMaximumWeight() {
+      return maximumWeight;
+    }
+
+    public void setMaximumWeight(Long maximumWeight) {
+      this.maximumWeight = maximumWeight;
+    }
+
+    public Duration getExpireAfterWrite() {
+      return expireAfterWrite;
+    }
+
+    public void setExpireAfterWrite(Duration expireAfterWrite) {
+      this.expireAfterWrite = expireAfterWrite;
+    }
+
+    public Duration getRefreshAhead() {
+      return refreshAhead;
+    }
+
+    public void setRefreshAhead(Duration refreshAhead) {
+      this.refreshAhead = refreshAhead;
+    }
+
+  }
+
+  /**
+   * The properties for routing select statements to read replicas.
+   *
+   * @since 4.1.1
+   */
+  public static class Replicas {
+
+    /**
+     * Whether route select statements executed outside a transaction to read replicas. Default is false.
+     */
+    private boolean enabled;
+
+    /**
+     * The strategy for choosing a read replica. Default is round-robin.
+     */
+    private MybatisReplicaStrategy strategy = MybatisReplicaStrategy.ROUND_ROBIN;
+
+    /**
+     * Data source settings of read replicas (same as 'spring.datasource.*'). Settings specific to the pool
+     * implementation can be specified by 'pool.*' of each replica.
+     */
+    private List<DataSourceProperties> dataSources = new ArrayList<>();
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public MybatisReplicaStrategy getStrategy() {
+      return strategy;
+    }
+
+    public void setStrategy(MybatisReplicaStrategy strategy) {
+      this.strategy = strategy;
+    }
+
+    public List<DataSourceProperties> getDataSources() {
+      return dataSources;
+    }
+
+    public void setDataSources(List<DataSourceProperties> dataSources) {
+      this.dataSources = dataSources;
+    }
+
+  }
+
+  /**
+   * The properties of a named data source that has a dedicated SqlSessionFactory, SqlSessionTemplate and mapper scan.
+   * Data source settings are same as {@code spring.datasource.*} (e.g. {@code url}, {@code username} and
+   * {@code type}).
+   *
+   * @since 4.1.1
+   */
+  public static class NamedDataSource extends DataSourceProperties {
+
+    /**
+     * Base packages to scan mapper interfaces that bind to this data source.
+     */
+    private String[] basePackages;
+
+    /**
+     * Locations of MyBatis mapper files for this data source.
+     */
+    private String[] mapperLocations;
+
+    /**
+     * Packages to search type aliases. (Package delimiters are ",; \t\n")
+     */
+    private String typeAliasesPackage;
+
+    /**
+     * Packages to search for type handlers. (Package delimiters are ",; \t\n")
+     */
+    private String typeHandlersPackage;
+
+    /**
+     * Executor type of the SqlSessionTemplate for this data source.
+     */
+    private ExecutorType executorType;
+
+    public String[] getBasePackages() {
+      return basePackages;
+    }
+
+    public void setBasePackages(String[] basePackages) {
+      this.basePackages = basePackages;
+    }
+
+    public String[] getMapperLocations() {
+      return mapperLocations;
+    }
+
+    public void setMapperLocations(String[] mapperLocations) {
+      this.mapperLocations = mapperLocations;
+    }
+
+    public String getTypeAliasesPackage() {
+      return typeAliasesPackage;
+    }
+
+    public void setTypeAliasesPackage(String typeAliasesPackage) {
+      this.typeAliasesPackage = typeAliasesPackage;
+    }
+
+    public String getTypeHandlersPackage() {
+      return typeHandlersPackage;
+    }
+
+    public void setTypeHandlersPackage(String typeHandlersPackage) {
+      this.typeHandlersPackage = typeHandlersPackage;
+    }
+
+    public ExecutorType getExecutorType() {
+      return executorType;
+    }
+
+    public void setExecutorType(ExecutorType executorType) {
+      this.executorType = executorType;
+    }
+
+  }
+
+  /**
+   * The properties for routing statements to shards by the {@link MybatisShardedSqlSessionTemplate}.
+   *
+   * @since 4.1.1
+   */
+  public static class Sharding {
+
+    /**
+     * Names of data sources (specified by 'mybatis.datasources') used as shards. The names should not be changed after
+     * data are stored, because they determine the placement on the hash ring.
+     */
+    private List<String> dataSources = new ArrayList<>();
+
+    /**
+     * Base packages to scan mapper interfaces that bind to the sharded SqlSessionTemplate.
+     */
+    private String[] basePackages;
+
+    /**
+     * The number of virtual nodes per shard on the consistent hash ring. Default is 160.
+     */
+    private int virtualNodes = 160;
+
+    public List<String> getDataSources() {
+      return dataSources;
+    }
+
+    public void setDataSources(List<String> dataSources) {
+      this.dataSources = dataSources;
+    }
+
+    public String[] getBasePackages() {
+      return basePackages;
+    }
+
+    public void setBasePackages(String[] basePackages) {
+      this.basePackages = basePackages;
+    }
+
+    public int getVirtualNodes() {
+      return virtualNodes;
+    }
+
+    public void setVirtualNodes(int virtualNodes) {
+      this.virtualNodes = virtualNodes;
+    }
+
+  }
+
+  /**
+   * The properties for executing mapper calls concurrently by the {@link MybatisParallelExecutor}.
+   *
+   * @since 4.1.1
+   */
+  public static class Parallel {
+
+    /**
+     * The maximum number of mapper calls that execute at the same time. Default is half of the maximum size of the
+     * connection pool (or 5 when it cannot be detected).
+     */
+    private Integer maxConcurrency;
+
+    public Integer getMaxConcurrency() {
+      return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+    }
+
+  }
+
+  /**
+   * The properties for executing mapper methods that return {@link java.util.concurrent.CompletableFuture}
+   * asynchronously.
+   *
+   * @since 4.1.1
+   */
+  public static class Async {
+
+    /**
+     * Whether execute mapper methods that return CompletableFuture asynchronously. Default is false.
+     */
+    private boolean enabled;
+
+    /**
+     * The maximum number of asynchronous mapper calls that run at the same time on the default executor. Default is
+     * the maximum size of the connection pool (or 10 when it cannot be detected).
+     */
+    private Integer maxConcurrency;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public Integer getMaxConcurrency() {
+      return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(Integer maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+    }
+
+  }
+
+  /**
+   * The properties for executing mapper methods that return Reactor's {@code Flux} or {@code Mono}.
+   *
+   * @since 4.1.1
+   */
+  public static class Reactive {
+
+    /**
+     * Whether execute mapper methods that return Flux or Mono on a scheduler. Default is false.
+     */
+    private boolean enabled;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+  }
+
+  /**
+   * The properties for flushing statements of the {@code BATCH} executor automatically by the
+   * {@link MybatisBatchFlushInterceptor}.
+   *
+   * @since 4.1.1
+   */
+  public static class Batch {
+
+    /**
+     * The maximum number of statements that a batch executor holds before flushing them.
+     */
+    private Integer maxStatements;
+
+    /**
+     * The maximum delay from the first pending statement until flushing statements of a batch executor. It is checked
+     * when a next statement is added.
+     */
+    private Duration maxDelay;
+
+    public Integer getMaxStatements() {
+      return maxStatements;
+    }
+
+    public void setMaxStatements(Integer maxStatements) {
+      this.maxStatements = maxStatements;
+    }
+
+    public Duration getMaxDelay() {
+      return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+      this.maxDelay = maxDelay;
+    }
+
+  }
+
+  /**
+   * The properties for tuning fetch sizes by the {@link MybatisFetchSizeTuningInterceptor}.
+   *
+   * @since 4.1.1
+   */
+  public static class FetchSizeTuning {
+
+    /**
+     * Whether set a fetch size per select statement based on the number of rows it returned. Default is false.
+     */
+    private boolean enabled;
+
+    /**
+     * The minimum fetch size. Default is 10.
+     */
+    private int min = 10;
+
+    /**
+     * The maximum fetch size. Default is 1000.
+     */
+    private int max = 1000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getMin() {
+      return min;
+    }
+
+    public void setMin(int min) {
+      this.min = min;
+    }
+
+    public int getMax() {
+      return max;
+    }
+
+    public void setMax(int max) {
+      this.max = max;
+    }
+
+  }
+
+  /**
+   * The properties for logging slow statements by the {@link MybatisSlowQueryListener}.
+   *
+   * @since 4.1.1
+   */
+  public static class SlowQuery {
+
+    /**
+     * The execution time that a statement is logged as a slow statement. Slow statements are not logged when not
+     * specified.
+     */
+    private Duration threshold;
+
+    /**
+     * The fraction (0.0 to 1.0) of slow statement logs that contain bound parameter values. Default is 1.0.
+     */
+    private double parameterSampleRate = 1.0;
+
+    /**
+     * The minimum interval between logs of the same statement. Logs within the interval are suppressed and counted.
+     * Default is 1m.
+     */
+    private Duration minInterval = Duration.ofMinutes(1);
+
+    public Duration getThreshold() {
+      return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+      this.threshold = threshold;
+    }
+
+    public double getParameterSampleRate() {
+      return parameterSampleRate;
+    }
+
+    public void setParameterSampleRate(double parameterSampleRate) {
+      this.parameterSampleRate = parameterSampleRate;
+    }
+
+    public Duration getMinInterval() {
+      return minInterval;
+    }
+
+    public void setMinInterval(Duration minInterval) {
+      this.minInterval = minInterval;
+    }
+
+  }
+
+  /**
+   * The properties for detecting N+1 queries by the {@link MybatisNPlusOneDetector}.
+   *
+   * @since 4.1.1
+   */
+  public static class NPlusOne {
+
+    /**
+     * The maximum number of times that a select statement can run in a transaction or a web request. N+1 queries are
+     * not detected when not specified.
+     */
+    private Integer threshold;
+
+    /**
+     * The action when a select statement runs more than the threshold. Default is WARN.
+     */
+    private MybatisNPlusOneDetector.Action action = MybatisNPlusOneDetector.Action.WARN;
+
+    public Integer getThreshold() {
+      return threshold;
+    }
+
+    public void setThreshold(Integer threshold) {
+      this.threshold = threshold;
+    }
+
+    public MybatisNPlusOneDetector.Action getAction() {
+      return action;
+    }
+
+    public void setAction(MybatisNPlusOneDetector.Action action) {
+      this.action = action;
+    }
+
+  }
+
   /**
    * The configuration properties for mybatis core module.
    *
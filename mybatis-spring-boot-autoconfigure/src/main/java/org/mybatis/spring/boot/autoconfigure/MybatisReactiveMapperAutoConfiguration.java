@@ -0,0 +1,108 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for mapper methods that return {@link Flux} or {@link Mono}.
+ * <p>
+ * Mapper beans that declare such methods are wrapped by a {@link MybatisReactiveMapperInterceptor}. Statements run on
+ * the {@value #SCHEDULER_BEAN_NAME} bean, which is {@link Schedulers#boundedElastic()} by default and can be replaced
+ * by defining a {@link Scheduler} bean with the same name.
+ * </p>
+ * <p>
+ * This configuration is enabled when {@code mybatis.reactive.enabled} is {@code true}.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class, Flux.class })
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "reactive.enabled", havingValue = "true")
+@AutoConfigureAfter({ MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class })
+public class MybatisReactiveMapperAutoConfiguration {
+
+  /**
+   * The bean name of the scheduler for reactive mapper methods.
+   */
+  public static final String SCHEDULER_BEAN_NAME = "mybatisReactiveScheduler";
+
+  // The shared bounded elastic scheduler must not be disposed with the application context
+  @Bean(name = SCHEDULER_BEAN_NAME, destroyMethod = "")
+  @ConditionalOnMissingBean(name = SCHEDULER_BEAN_NAME)
+  Scheduler mybatisReactiveScheduler() {
+    return Schedulers.boundedElastic();
+  }
+
+  @Bean
+  static ReactiveMapperPostProcessor mybatisReactiveMapperPostProcessor(
+      @Qualifier(SCHEDULER_BEAN_NAME) ObjectProvider<Scheduler> scheduler) {
+    return new ReactiveMapperPostProcessor(scheduler);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that applies {@link MybatisReactiveMapperInterceptor} to mapper beans.
+   */
+  static class ReactiveMapperPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<Scheduler> scheduler;
+
+    private MybatisReactiveMapperInterceptor interceptor;
+
+    ReactiveMapperPostProcessor(ObjectProvider<Scheduler> scheduler) {
+      this.scheduler = scheduler;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      Object mapper = MapperProxies.getMapperProxy(bean);
+      if (mapper == null
+          || !MybatisReactiveMapperInterceptor.hasReactiveMethods(MapperProxies.getMapperInterface(mapper))) {
+        return bean;
+      }
+      DeferredMapperMethod.resolveResultTypes(mapper, Flux.class);
+      DeferredMapperMethod.resolveResultTypes(mapper, Mono.class);
+      // The reactive call does not proceed to other advices, so apply it first
+      return MapperProxies.advise(bean, getInterceptor(), true);
+    }
+
+    private synchronized MybatisReactiveMapperInterceptor getInterceptor() {
+      if (this.interceptor == null) {
+        this.interceptor = new MybatisReactiveMapperInterceptor(this.scheduler.getObject());
+      }
+      return this.interceptor;
+    }
+
+  }
+
+}
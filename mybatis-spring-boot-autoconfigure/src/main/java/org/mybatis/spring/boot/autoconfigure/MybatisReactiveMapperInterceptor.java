@@ -0,0 +1,127 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.ibatis.binding.BindingException;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.MyBatisExceptionTranslator;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+
+/**
+ * {@link MethodInterceptor} that executes mapper methods declaring {@link Flux} or {@link Mono} return types on a
+ * {@link Scheduler} (a bounded elastic scheduler by default).
+ * <p>
+ * A {@link Flux} method must be bound to a select statement, and streams rows from a MyBatis {@link Cursor} that is
+ * opened on subscription by a dedicated {@link SqlSession}. Rows are fetched as the subscriber requests them, so a
+ * large result set streams out with constant memory; the session is closed when the stream completes, fails or is
+ * cancelled. A {@link Mono} method executes its statement through the session of the mapper (usually a
+ * {@link SqlSessionTemplate}) and emits a value converted in the same way as a synchronous mapper method (a
+ * {@code null} result completes it empty).
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisReactiveMapperInterceptor implements MethodInterceptor {
+
+  private final Scheduler scheduler;
+
+  private final DeferredMapperMethod.Cache methods = new DeferredMapperMethod.Cache();
+
+  /**
+   * Constructor.
+   *
+   * @param scheduler
+   *          a scheduler that executes statements and fetches rows
+   */
+  public MybatisReactiveMapperInterceptor(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Return whether the specified mapper interface declares reactive methods.
+   *
+   * @param mapperInterface
+   *          a mapper interface
+   *
+   * @return {@code true} if the interface has an abstract method returning {@link Flux} or {@link Mono}
+   */
+  public static boolean hasReactiveMethods(Class<?> mapperInterface) {
+    return DeferredMapperMethod.hasDeferredMethods(mapperInterface, Flux.class)
+        || DeferredMapperMethod.hasDeferredMethods(mapperInterface, Mono.class);
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Method method = invocation.getMethod();
+    Object mapper = invocation.getThis();
+    boolean flux = DeferredMapperMethod.isDeferredMethod(method, Flux.class);
+    if (!(flux || DeferredMapperMethod.isDeferredMethod(method, Mono.class)) || !MapperProxies.isMapperProxy(mapper)) {
+      return invocation.proceed();
+    }
+    SqlSession sqlSession = MapperProxies.getSqlSession(mapper);
+    DeferredMapperMethod mapperMethod = this.methods.get(sqlSession.getConfiguration(),
+        MapperProxies.getMapperInterface(mapper), method);
+    Object[] args = invocation.getArguments();
+    if (flux) {
+      return flux(sqlSession, mapperMethod, args);
+    }
+    return Mono.fromCallable(() -> mapperMethod.execute(sqlSession, args)).subscribeOn(this.scheduler);
+  }
+
+  private Flux<Object> flux(SqlSession sqlSession, DeferredMapperMethod mapperMethod, Object[] args) {
+    if (mapperMethod.getSqlCommandType() != SqlCommandType.SELECT) {
+      return Flux.error(new BindingException(
+          "Flux can be returned only from a select statement: " + mapperMethod.getStatementId()));
+    }
+    SqlSessionFactory sqlSessionFactory = sqlSession instanceof SqlSessionTemplate
+        ? ((SqlSessionTemplate) sqlSession).getSqlSessionFactory() : null;
+    if (sqlSessionFactory == null) {
+      return Flux.error(new BindingException(
+          "Flux requires a mapper that bound to a SqlSessionTemplate: " + mapperMethod.getStatementId()));
+    }
+    SqlSessionTemplate sqlSessionTemplate = (SqlSessionTemplate) sqlSession;
+    PersistenceExceptionTranslator exceptionTranslator = sqlSessionTemplate.getPersistenceExceptionTranslator() != null
+        ? sqlSessionTemplate.getPersistenceExceptionTranslator()
+        : new MyBatisExceptionTranslator(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(), true);
+    // The cursor needs an open session until the stream terminates, so it cannot use the SqlSessionTemplate
+    return Flux.using(() -> sqlSessionFactory.openSession(sqlSessionTemplate.getExecutorType()),
+        session -> Flux.<Object> fromIterable(session.selectCursor(mapperMethod.getStatementId(),
+            mapperMethod.getParameter(args), DeferredMapperMethod.extractRowBounds(args))),
+        SqlSession::close).onErrorMap(PersistenceException.class, e -> translate(exceptionTranslator, e))
+        .subscribeOn(this.scheduler);
+  }
+
+  // Same as the SqlSessionTemplate, translate an exception of MyBatis to a DataAccessException if possible
+  private static Throwable translate(PersistenceExceptionTranslator exceptionTranslator, PersistenceException e) {
+    DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+    return translated != null ? translated : e;
+  }
+
+}
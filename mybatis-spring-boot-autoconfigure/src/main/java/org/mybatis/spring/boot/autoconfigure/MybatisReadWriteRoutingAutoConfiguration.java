@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EnableAutoConfiguration Auto-Configuration} for routing select statements to read replicas.
+ * <p>
+ * When {@code mybatis.replicas.enabled} is true, this configuration creates read replica data sources from
+ * {@code mybatis.replicas.data-sources}, and replaces the data source of the auto-configured {@link SqlSessionFactory}
+ * with a {@link MybatisReadWriteRoutingDataSource} that wraps the primary data source. The primary data source bean is
+ * not replaced, so a transaction manager and other components keep using it.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass({ SqlSessionFactory.class, SqlSessionFactoryBean.class })
+@ConditionalOnSingleCandidate(DataSource.class)
+@ConditionalOnProperty(prefix = MybatisProperties.MYBATIS_PREFIX, name = "replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(MybatisProperties.class)
+@AutoConfigureAfter(DataSourceAutoConfiguration.class)
+@AutoConfigureBefore(MybatisAutoConfiguration.class)
+public class MybatisReadWriteRoutingAutoConfiguration {
+
+  @Bean
+  ReadWriteRoutingSqlSessionFactoryBeanCustomizer mybatisReadWriteRoutingSqlSessionFactoryBeanCustomizer(
+      DataSource dataSource, MybatisProperties properties, Environment environment) {
+    MybatisProperties.Replicas replicas = properties.getReplicas();
+    Assert.state(!replicas.getDataSources().isEmpty(),
+        "At least one read replica should be specified by 'mybatis.replicas.data-sources'");
+    Binder binder = Binder.get(environment);
+    List<DataSource> replicaDataSources = new ArrayList<>();
+    for (int i = 0; i < replicas.getDataSources().size(); i++) {
+      replicaDataSources.add(DataSources.build(replicas.getDataSources().get(i), binder,
+          MybatisProperties.MYBATIS_PREFIX + ".replicas.data-sources[" + i + "]"));
+    }
+    return new ReadWriteRoutingSqlSessionFactoryBeanCustomizer(
+        new MybatisReadWriteRoutingDataSource(dataSource, replicaDataSources, replicas.getStrategy()));
+  }
+
+  /**
+   * {@link SqlSessionFactoryBeanCustomizer} that applies a {@link MybatisReadWriteRoutingDataSource}, and closes read
+   * replicas on destruction.
+   */
+  static class ReadWriteRoutingSqlSessionFactoryBeanCustomizer implements SqlSessionFactoryBeanCustomizer,
+      DisposableBean {
+
+    private final MybatisReadWriteRoutingDataSource dataSource;
+
+    ReadWriteRoutingSqlSessionFactoryBeanCustomizer(MybatisReadWriteRoutingDataSource dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    MybatisReadWriteRoutingDataSource getDataSource() {
+      return dataSource;
+    }
+
+    @Override
+    public void customize(SqlSessionFactoryBean factoryBean) {
+      factoryBean.setDataSource(this.dataSource);
+      factoryBean.addPlugins(new MybatisReadWriteRoutingInterceptor());
+    }
+
+    @Override
+    public void destroy() throws Exception {
+      for (DataSource replica : this.dataSource.getReplicas()) {
+        if (replica instanceof AutoCloseable) {
+          ((AutoCloseable) replica).close();
+        }
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,180 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.sql.DataSource;
+
+import org.springframework.core.InfrastructureProxy;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link DataSource} that routes connections for select statements to read replicas.
+ * <p>
+ * A connection is obtained from a read replica only while a {@link MybatisReadWriteRoutingInterceptor} executes a
+ * select statement outside a transaction synchronization scope; otherwise it is obtained from the primary data source.
+ * Because this data source is an {@link InfrastructureProxy} of the primary data source, a connection bound to a
+ * transaction (or a synchronization scope such as {@code PROPAGATION_SUPPORTS}) for the primary data source is shared
+ * with MyBatis, so statements in a {@code @Transactional} method are always executed on the primary data source.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisReadWriteRoutingDataSource extends AbstractDataSource implements InfrastructureProxy {
+
+  private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+  private final DataSource primary;
+
+  private final List<DataSource> replicas;
+
+  private final MybatisReplicaStrategy strategy;
+
+  private final AtomicInteger counter = new AtomicInteger();
+
+  private final AtomicIntegerArray outstanding;
+
+  /**
+   * Constructor.
+   *
+   * @param primary
+   *          a primary data source for writes and transactions
+   * @param replicas
+   *          read replicas
+   * @param strategy
+   *          a strategy for choosing a read replica
+   */
+  public MybatisReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas,
+      MybatisReplicaStrategy strategy) {
+    this.primary = primary;
+    this.replicas = List.copyOf(replicas);
+    this.strategy = strategy;
+    this.outstanding = new AtomicIntegerArray(replicas.size());
+  }
+
+  public DataSource getPrimary() {
+    return primary;
+  }
+
+  public List<DataSource> getReplicas() {
+    return replicas;
+  }
+
+  @Override
+  public Object getWrappedObject() {
+    return primary;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    int index = determineReplica();
+    return index < 0 ? primary.getConnection() : track(index, replicas.get(index).getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    int index = determineReplica();
+    return index < 0 ? primary.getConnection(username, password)
+        : track(index, replicas.get(index).getConnection(username, password));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this) || primary.isWrapperFor(iface);
+  }
+
+  /**
+   * Return the number of connections that are obtained from each read replica and not closed yet. This is tracked
+   * only when the strategy is {@link MybatisReplicaStrategy#LEAST_OUTSTANDING}.
+   *
+   * @param index
+   *          an index of read replica
+   *
+   * @return the number of outstanding connections
+   */
+  public int getOutstanding(int index) {
+    return outstanding.get(index);
+  }
+
+  static boolean isReadOnly() {
+    return Boolean.TRUE.equals(READ_ONLY.get());
+  }
+
+  static void setReadOnly(boolean value) {
+    if (value) {
+      READ_ONLY.set(Boolean.TRUE);
+    } else {
+      READ_ONLY.remove();
+    }
+  }
+
+  private int determineReplica() {
+    // A connection obtained in a synchronization scope (e.g. PROPAGATION_SUPPORTS) is bound to the primary data source
+    // and reused by later statements in the scope, so it should not be a replica's one even if no transaction is active
+    if (replicas.isEmpty() || !isReadOnly() || TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return -1;
+    }
+    if (strategy == MybatisReplicaStrategy.ROUND_ROBIN) {
+      return Math.floorMod(counter.getAndIncrement(), replicas.size());
+    }
+    // Start from a rotating position so that ties are spread across replicas
+    int start = Math.floorMod(counter.getAndIncrement(), replicas.size());
+    int index = start;
+    for (int i = 1; i < replicas.size(); i++) {
+      int candidate = (start + i) % replicas.size();
+      if (outstanding.get(candidate) < outstanding.get(index)) {
+        index = candidate;
+      }
+    }
+    return index;
+  }
+
+  private Connection track(int index, Connection connection) {
+    if (strategy != MybatisReplicaStrategy.LEAST_OUTSTANDING) {
+      return connection;
+    }
+    outstanding.incrementAndGet(index);
+    AtomicBoolean closed = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+        (proxy, method, args) -> {
+          if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+            outstanding.decrementAndGet(index);
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+          }
+        });
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.keygen.SelectKeyGenerator;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * {@link Interceptor} that marks select statement executions as read-only for the
+ * {@link MybatisReadWriteRoutingDataSource}.
+ * <p>
+ * A connection is obtained when a session executes the first statement, so a session that starts with a select
+ * statement outside a transaction uses a read replica until it is closed. A {@code SqlSessionTemplate} opens a new
+ * session for each statement outside a transaction, but a session opened directly from a {@code SqlSessionFactory}
+ * should not mix selects and writes without a transaction.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+        RowBounds.class, ResultHandler.class }),
+    @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+        RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+    @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class,
+        RowBounds.class }) })
+public class MybatisReadWriteRoutingInterceptor implements Interceptor {
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    // A select key statement runs before an insert statement on the same connection
+    if (mappedStatement.getSqlCommandType() != SqlCommandType.SELECT
+        || mappedStatement.getId().endsWith(SelectKeyGenerator.SELECT_KEY_SUFFIX)
+        || MybatisReadWriteRoutingDataSource.isReadOnly()) {
+      return invocation.proceed();
+    }
+    MybatisReadWriteRoutingDataSource.setReadOnly(true);
+    try {
+      return invocation.proceed();
+    } finally {
+      MybatisReadWriteRoutingDataSource.setReadOnly(false);
+    }
+  }
+
+}
@@ -0,0 +1,35 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+/**
+ * The strategy for choosing a read replica of the {@link MybatisReadWriteRoutingDataSource}.
+ *
+ * @since 4.1.1
+ */
+public enum MybatisReplicaStrategy {
+
+  /**
+   * Choose read replicas in turn.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Choose a read replica that has the least number of outstanding connections.
+   */
+  LEAST_OUTSTANDING
+
+}
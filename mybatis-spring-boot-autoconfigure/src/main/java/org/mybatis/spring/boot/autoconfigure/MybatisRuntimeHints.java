@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.cache.decorators.BlockingCache;
+import org.apache.ibatis.cache.decorators.FifoCache;
+import org.apache.ibatis.cache.decorators.LoggingCache;
+import org.apache.ibatis.cache.decorators.LruCache;
+import org.apache.ibatis.cache.decorators.ScheduledCache;
+import org.apache.ibatis.cache.decorators.SerializedCache;
+import org.apache.ibatis.cache.decorators.SoftCache;
+import org.apache.ibatis.cache.decorators.SynchronizedCache;
+import org.apache.ibatis.cache.decorators.WeakCache;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory;
+import org.apache.ibatis.scripting.defaults.RawLanguageDriver;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * {@link RuntimeHintsRegistrar} for types and resources that MyBatis core module accesses reflectively.
+ *
+ * @since 4.1.1
+ */
+class MybatisRuntimeHints implements RuntimeHintsRegistrar {
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    Stream.of(RawLanguageDriver.class, XMLLanguageDriver.class, JavassistProxyFactory.class, SpringBootVFS.class,
+        ArrayList.class, HashMap.class, TreeSet.class, HashSet.class)
+        .forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+    Stream.of("org.apache.ibatis.javassist.util.proxy.ProxyFactory",
+        "org.apache.ibatis.javassist.util.proxy.RuntimeSupport")
+        .forEach(typeName -> hints.reflection().registerType(TypeReference.of(typeName), MemberCategory.values()));
+    // Use type names because some logging implementations depend on optional libraries
+    Stream.of("org.apache.ibatis.logging.slf4j.Slf4jImpl",
+        "org.apache.ibatis.logging.commons.JakartaCommonsLoggingImpl", "org.apache.ibatis.logging.log4j2.Log4j2Impl",
+        "org.apache.ibatis.logging.jdk14.Jdk14LoggingImpl", "org.apache.ibatis.logging.stdout.StdOutImpl",
+        "org.apache.ibatis.logging.nologging.NoLoggingImpl")
+        .forEach(typeName -> hints.reflection().registerType(TypeReference.of(typeName),
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+    Stream.of(PerpetualCache.class, LruCache.class, FifoCache.class, SoftCache.class, WeakCache.class,
+        ScheduledCache.class, SerializedCache.class, LoggingCache.class, SynchronizedCache.class, BlockingCache.class)
+        .forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+            MemberCategory.INVOKE_PUBLIC_METHODS));
+    // Use a type name because the caffeine is an optional library
+    hints.reflection().registerType(TypeReference.of("org.mybatis.spring.boot.autoconfigure.MybatisCaffeineCache"),
+        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+    Stream.of("org/apache/ibatis/builder/xml/*.dtd", "org/apache/ibatis/builder/xml/*.xsd",
+        MybatisIndex.INDEX_LOCATION).forEach(hints.resources()::registerPattern);
+  }
+
+}
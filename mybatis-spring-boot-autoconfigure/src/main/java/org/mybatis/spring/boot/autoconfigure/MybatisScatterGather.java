@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicate that a mapper method is executed on all shards in parallel by the {@link MybatisShardedSqlSessionTemplate},
+ * and results are merged.
+ * <p>
+ * Lists are concatenated in order of shards, maps are merged, affected row counts are summed, and a single result is
+ * the only non-null result of shards.
+ * </p>
+ * <p>
+ * Shards are queried on worker threads, so a statement does not join a Spring managed transaction. A write statement
+ * (insert, update or delete) commits on each shard independently, and it is rejected with an
+ * {@link IllegalStateException} while a transaction is active. Rows are not sorted across shards, and a
+ * {@link org.apache.ibatis.session.RowBounds} is applied to concatenated rows (each shard is queried up to
+ * {@code offset + limit} rows). A row bounds for a map or a result handler is rejected with an
+ * {@link IllegalArgumentException}.
+ * </p>
+ *
+ * @since 4.1.1
+ *
+ * @see MybatisShardKey
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface MybatisScatterGather {
+}
@@ -0,0 +1,54 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specify a parameter of a mapper method that is used for choosing a shard by the
+ * {@link MybatisShardedSqlSessionTemplate}.
+ *
+ * <pre class="code">
+ * &#064;MybatisShardKey("userId")
+ * List&lt;Order&gt; findByUserId(&#064;Param("userId") long userId);
+ *
+ * &#064;MybatisShardKey("order.userId")
+ * int insert(&#064;Param("order") Order order);
+ * </pre>
+ *
+ * @since 4.1.1
+ *
+ * @see MybatisScatterGather
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface MybatisShardKey {
+
+  /**
+   * Return a name of parameter (or a property path such as {@code order.userId}) that holds a shard key. When a mapper
+   * method has a single parameter without the {@code @Param}, the parameter itself is used if it does not have a
+   * property of the name.
+   *
+   * @return a name of parameter
+   */
+  String value();
+
+}
@@ -0,0 +1,396 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.exceptions.TooManyResultsException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+
+/**
+ * {@link SqlSessionTemplate} that routes each statement to one of shards.
+ * <p>
+ * A shard is chosen by the consistent hashing (with virtual nodes) of a parameter value specified by the
+ * {@link MybatisShardKey} on a mapper method. A mapper method annotated with the {@link MybatisScatterGather} is
+ * executed on all shards in parallel, and results are merged. Each shard is a {@link SqlSessionTemplate}, and all
+ * shards should have same mapped statements.
+ * </p>
+ * <p>
+ * A statement with a shard key joins a Spring managed transaction of the chosen shard, but scatter-gather statements
+ * are executed on worker threads, so they do not join a transaction. Therefore a scatter-gather write is rejected while
+ * a transaction is active. See the {@link MybatisScatterGather} for restrictions of scatter-gather statements.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisShardedSqlSessionTemplate extends SqlSessionTemplate {
+
+  private final List<SqlSessionTemplate> shards;
+
+  private final ConsistentHash<SqlSessionTemplate> ring;
+
+  private final ExecutorService executor;
+
+  private final Map<String, Rule> rules = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param shards
+   *          shards keyed by name. A name is used for placing a shard on the hash ring, so it should not be changed.
+   * @param virtualNodes
+   *          the number of virtual nodes per shard
+   */
+  public MybatisShardedSqlSessionTemplate(Map<String, SqlSessionTemplate> shards, int virtualNodes) {
+    super(firstShard(shards).getSqlSessionFactory(), firstShard(shards).getExecutorType(),
+        firstShard(shards).getPersistenceExceptionTranslator());
+    this.shards = List.copyOf(shards.values());
+    this.ring = new ConsistentHash<>(shards, virtualNodes);
+    this.executor = Executors.newFixedThreadPool(shards.size(), createThreadFactory());
+  }
+
+  private static SqlSessionTemplate firstShard(Map<String, SqlSessionTemplate> shards) {
+    Assert.notEmpty(shards, "shards must not be empty");
+    return shards.values().iterator().next();
+  }
+
+  private static CustomizableThreadFactory createThreadFactory() {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mybatis-scatter-gather-");
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+
+  public List<SqlSessionTemplate> getShards() {
+    return shards;
+  }
+
+  /**
+   * Return a shard for the specified shard key.
+   *
+   * @param key
+   *          a shard key
+   *
+   * @return a shard
+   */
+  public SqlSessionTemplate getShard(Object key) {
+    return ring.get(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The mapper interface is also registered into each shard that does not know it.
+   * </p>
+   */
+  @Override
+  public <T> T getMapper(Class<T> type) {
+    for (SqlSessionTemplate shard : shards) {
+      if (!shard.getConfiguration().hasMapper(type)) {
+        shard.getConfiguration().addMapper(type);
+      }
+    }
+    return getConfiguration().getMapper(type, this);
+  }
+
+  @Override
+  public <T> T selectOne(String statement) {
+    return selectOne(statement, null);
+  }
+
+  @Override
+  public <T> T selectOne(String statement, Object parameter) {
+    return execute(statement, parameter, session -> session.<T> selectOne(statement, parameter), this::single);
+  }
+
+  @Override
+  public <K, V> Map<K, V> selectMap(String statement, String mapKey) {
+    return selectMap(statement, null, mapKey);
+  }
+
+  @Override
+  public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey) {
+    return execute(statement, parameter, session -> session.<K, V> selectMap(statement, parameter, mapKey),
+        MybatisShardedSqlSessionTemplate::mergeMaps);
+  }
+
+  @Override
+  public <K, V> Map<K, V> selectMap(String statement, Object parameter, String mapKey, RowBounds rowBounds) {
+    checkRowBounds(statement, rowBounds);
+    return execute(statement, parameter, session -> session.<K, V> selectMap(statement, parameter, mapKey, rowBounds),
+        MybatisShardedSqlSessionTemplate::mergeMaps);
+  }
+
+  @Override
+  public <T> Cursor<T> selectCursor(String statement) {
+    return selectCursor(statement, null);
+  }
+
+  @Override
+  public <T> Cursor<T> selectCursor(String statement, Object parameter) {
+    return selectCursor(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  @Override
+  public <T> Cursor<T> selectCursor(String statement, Object parameter, RowBounds rowBounds) {
+    if (resolveRule(statement).scatter) {
+      throw new UnsupportedOperationException("A cursor cannot be gathered from shards: " + statement);
+    }
+    return route(statement, parameter).selectCursor(statement, parameter, rowBounds);
+  }
+
+  @Override
+  public <E> List<E> selectList(String statement) {
+    return selectList(statement, null);
+  }
+
+  @Override
+  public <E> List<E> selectList(String statement, Object parameter) {
+    return selectList(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  @Override
+  public <E> List<E> selectList(String statement, Object parameter, RowBounds rowBounds) {
+    if (resolveRule(statement).scatter && rowBounds != null && rowBounds != RowBounds.DEFAULT) {
+      // Each shard may hold all rows of the requested page, so the page is cut out of merged rows
+      RowBounds shardRowBounds = new RowBounds(RowBounds.NO_ROW_OFFSET,
+          (int) Math.min((long) rowBounds.getOffset() + rowBounds.getLimit(), Integer.MAX_VALUE));
+      List<E> merged = mergeLists(scatter(session -> session.<E> selectList(statement, parameter, shardRowBounds)));
+      int fromIndex = Math.min(rowBounds.getOffset(), merged.size());
+      int toIndex = (int) Math.min((long) fromIndex + rowBounds.getLimit(), merged.size());
+      return new ArrayList<>(merged.subList(fromIndex, toIndex));
+    }
+    return execute(statement, parameter, session -> session.<E> selectList(statement, parameter, rowBounds),
+        MybatisShardedSqlSessionTemplate::mergeLists);
+  }
+
+  @Override
+  public void select(String statement, ResultHandler handler) {
+    select(statement, null, RowBounds.DEFAULT, handler);
+  }
+
+  @Override
+  public void select(String statement, Object parameter, ResultHandler handler) {
+    select(statement, parameter, RowBounds.DEFAULT, handler);
+  }
+
+  @Override
+  public void select(String statement, Object parameter, RowBounds rowBounds, ResultHandler handler) {
+    if (resolveRule(statement).scatter) {
+      checkRowBounds(statement, rowBounds);
+      // A result handler is not thread-safe, so shards are visited in turn
+      shards.forEach(shard -> shard.select(statement, parameter, rowBounds, handler));
+    } else {
+      route(statement, parameter).select(statement, parameter, rowBounds, handler);
+    }
+  }
+
+  @Override
+  public int insert(String statement) {
+    return insert(statement, null);
+  }
+
+  @Override
+  public int insert(String statement, Object parameter) {
+    checkTransaction(statement);
+    return execute(statement, parameter, session -> session.insert(statement, parameter),
+        MybatisShardedSqlSessionTemplate::sum);
+  }
+
+  @Override
+  public int update(String statement) {
+    return update(statement, null);
+  }
+
+  @Override
+  public int update(String statement, Object parameter) {
+    checkTransaction(statement);
+    return execute(statement, parameter, session -> session.update(statement, parameter),
+        MybatisShardedSqlSessionTemplate::sum);
+  }
+
+  @Override
+  public int delete(String statement) {
+    return delete(statement, null);
+  }
+
+  @Override
+  public int delete(String statement, Object parameter) {
+    checkTransaction(statement);
+    return execute(statement, parameter, session -> session.delete(statement, parameter),
+        MybatisShardedSqlSessionTemplate::sum);
+  }
+
+  @Override
+  public void clearCache() {
+    shards.forEach(SqlSession::clearCache);
+  }
+
+  @Override
+  public List<BatchResult> flushStatements() {
+    List<BatchResult> results = new ArrayList<>();
+    shards.forEach(shard -> results.addAll(shard.flushStatements()));
+    return results;
+  }
+
+  @Override
+  public Connection getConnection() {
+    throw new UnsupportedOperationException("A connection cannot be determined without a shard key");
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    super.destroy();
+    executor.shutdown();
+  }
+
+  private <T> T execute(String statement, Object parameter, Function<SqlSession, T> operation,
+      Function<List<T>, T> merger) {
+    if (resolveRule(statement).scatter) {
+      return merger.apply(scatter(operation));
+    }
+    return operation.apply(route(statement, parameter));
+  }
+
+  private <T> List<T> scatter(Function<SqlSession, T> operation) {
+    List<CompletableFuture<T>> futures = shards.stream()
+        .map(shard -> CompletableFuture.supplyAsync(() -> operation.apply(shard), executor)).toList();
+    try {
+      return futures.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void checkRowBounds(String statement, RowBounds rowBounds) {
+    if (resolveRule(statement).scatter && rowBounds != null && rowBounds != RowBounds.DEFAULT) {
+      throw new IllegalArgumentException(
+          "A row bounds is supported only for a list by a scatter-gather statement: " + statement);
+    }
+  }
+
+  private void checkTransaction(String statement) {
+    if (resolveRule(statement).scatter && TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException(
+          "A scatter-gather write cannot join the current transaction, so it is not allowed: " + statement);
+    }
+  }
+
+  private SqlSession route(String statement, Object parameter) {
+    String keyProperty = resolveRule(statement).keyProperty;
+    if (keyProperty == null) {
+      throw new IllegalStateException("The mapper method for the statement '" + statement
+          + "' should be annotated with @MybatisShardKey or @MybatisScatterGather");
+    }
+    Assert.notNull(parameter, () -> "A parameter for the shard key is required: " + statement);
+    MetaObject metaObject = getConfiguration().newMetaObject(parameter);
+    Object key = parameter instanceof Map || metaObject.hasGetter(keyProperty) ? metaObject.getValue(keyProperty)
+        : parameter;
+    Assert.notNull(key, () -> "The shard key '" + keyProperty + "' must not be null: " + statement);
+    return ring.get(key);
+  }
+
+  private Rule resolveRule(String statement) {
+    return rules.computeIfAbsent(statement, id -> {
+      int index = id.lastIndexOf('.');
+      if (index > 0) {
+        String typeName = id.substring(0, index);
+        String methodName = id.substring(index + 1);
+        for (Class<?> mapperInterface : getConfiguration().getMapperRegistry().getMappers()) {
+          if (!mapperInterface.getName().equals(typeName)) {
+            continue;
+          }
+          for (Method method : mapperInterface.getMethods()) {
+            if (method.getName().equals(methodName)) {
+              MybatisShardKey shardKey = method.getAnnotation(MybatisShardKey.class);
+              if (shardKey != null) {
+                return new Rule(shardKey.value(), false);
+              } else if (method.isAnnotationPresent(MybatisScatterGather.class)) {
+                return new Rule(null, true);
+              }
+            }
+          }
+        }
+      }
+      return new Rule(null, false);
+    });
+  }
+
+  private <T> T single(List<T> results) {
+    List<T> nonNullResults = results.stream().filter(Objects::nonNull).toList();
+    if (nonNullResults.size() > 1) {
+      RuntimeException e = new TooManyResultsException(
+          "Expected one result (or null) to be returned by selectOne(), but found: " + nonNullResults.size());
+      DataAccessException translated = getPersistenceExceptionTranslator().translateExceptionIfPossible(e);
+      throw translated != null ? translated : e;
+    }
+    return nonNullResults.isEmpty() ? null : nonNullResults.get(0);
+  }
+
+  private static <K, V> Map<K, V> mergeMaps(List<Map<K, V>> results) {
+    Map<K, V> merged = new LinkedHashMap<>();
+    results.forEach(merged::putAll);
+    return merged;
+  }
+
+  private static <E> List<E> mergeLists(List<List<E>> results) {
+    List<E> merged = new ArrayList<>();
+    results.forEach(merged::addAll);
+    return merged;
+  }
+
+  private static Integer sum(List<Integer> results) {
+    return results.stream().mapToInt(Integer::intValue).sum();
+  }
+
+  private static final class Rule {
+
+    private final String keyProperty;
+
+    private final boolean scatter;
+
+    private Rule(String keyProperty, boolean scatter) {
+      this.keyProperty = keyProperty;
+      this.scatter = scatter;
+    }
+
+  }
+
+}
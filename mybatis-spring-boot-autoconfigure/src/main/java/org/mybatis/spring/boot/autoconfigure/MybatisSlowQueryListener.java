@@ -0,0 +1,186 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link MybatisStatementListener} that logs statements whose execution time exceeds a threshold.
+ * <p>
+ * A log entry contains the statement id, the SQL, the caller of the mapper (the first stack frame outside MyBatis,
+ * Spring and the JDK) and parameter values (only for the sampled fraction of entries, and each value is truncated).
+ * Entries are rate limited per statement; entries suppressed within the minimum interval are counted and reported by
+ * the next entry of the statement.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisSlowQueryListener implements MybatisStatementListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(MybatisSlowQueryListener.class);
+
+  private static final int MAX_PARAMETER_LENGTH = 100;
+
+  private static final String[] FRAMEWORK_PACKAGES = { "org.apache.ibatis.", "org.mybatis.spring.SqlSession",
+      "org.springframework.", "java.", "javax.", "jdk.", "sun.", "com.sun.", "jakarta.", "reactor.", "io.micrometer." };
+
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+  private final long thresholdNanos;
+
+  private final double parameterSampleRate;
+
+  private final long minIntervalNanos;
+
+  private final Map<String, LogState> logStates = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param threshold
+   *          the execution time that a statement is considered slow
+   * @param parameterSampleRate
+   *          the fraction (0.0 to 1.0) of entries that contain parameter values
+   * @param minInterval
+   *          the minimum interval between entries of the same statement
+   */
+  public MybatisSlowQueryListener(Duration threshold, double parameterSampleRate, Duration minInterval) {
+    this.thresholdNanos = threshold.toNanos();
+    this.parameterSampleRate = parameterSampleRate;
+    this.minIntervalNanos = minInterval != null ? minInterval.toNanos() : 0;
+  }
+
+  @Override
+  public void afterStatement(MappedStatement mappedStatement, Object[] args, Object result, Throwable error,
+      long elapsedNanos, Object context) {
+    if (elapsedNanos >= thresholdNanos) {
+      onSlowStatement(mappedStatement, args, elapsedNanos);
+    }
+  }
+
+  private void onSlowStatement(MappedStatement mappedStatement, Object[] args, long elapsed) {
+    LogState state = logStates.computeIfAbsent(mappedStatement.getId(), id -> new LogState());
+    long suppressed = state.tryAcquire(System.nanoTime(), minIntervalNanos);
+    if (suppressed < 0 || !logger.isWarnEnabled()) {
+      return;
+    }
+    try {
+      BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : mappedStatement.getBoundSql(args[1]);
+      String parameters = ThreadLocalRandom.current().nextDouble() < parameterSampleRate
+          ? String.valueOf(extractParameters(mappedStatement.getConfiguration(), boundSql, args[1])) : "(not sampled)";
+      logger.warn("Slow statement: id={}, time={}ms, caller={}, sql=[{}], parameters={}, suppressed={}",
+          mappedStatement.getId(), TimeUnit.NANOSECONDS.toMillis(elapsed), findCaller(),
+          boundSql.getSql().replaceAll("\\s+", " ").trim(), parameters, suppressed);
+    } catch (RuntimeException e) {
+      // Logging must not fail the statement
+      logger.debug("Failed to log the slow statement '{}'", mappedStatement.getId(), e);
+    }
+  }
+
+  static List<String> extractParameters(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+    List<String> values = new ArrayList<>();
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      if (parameterMapping.getMode() == ParameterMode.OUT) {
+        continue;
+      }
+      String property = parameterMapping.getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameterObject == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+        value = parameterObject;
+      } else {
+        value = configuration.newMetaObject(parameterObject).getValue(property);
+      }
+      values.add(truncate(String.valueOf(value)));
+    }
+    return values;
+  }
+
+  private static String truncate(String value) {
+    return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+  }
+
+  private static String findCaller() {
+    Optional<StackWalker.StackFrame> caller = STACK_WALKER
+        .walk(frames -> frames.filter(frame -> !isFrameworkFrame(frame)).findFirst());
+    return caller.map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+        .orElse("unknown");
+  }
+
+  private static boolean isFrameworkFrame(StackWalker.StackFrame frame) {
+    Class<?> declaringClass = frame.getDeclaringClass();
+    // Skip proxies, interceptors and listeners (e.g. this listener and advices around mapper methods)
+    if (Proxy.isProxyClass(declaringClass) || declaringClass.getName().contains("$$")
+        || Interceptor.class.isAssignableFrom(declaringClass)
+        || MybatisStatementListener.class.isAssignableFrom(declaringClass)
+        || MethodInterceptor.class.isAssignableFrom(declaringClass)) {
+      return true;
+    }
+    String className = declaringClass.getName();
+    for (String frameworkPackage : FRAMEWORK_PACKAGES) {
+      if (className.startsWith(frameworkPackage)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class LogState {
+
+    private final AtomicLong lastLogged = new AtomicLong(Long.MIN_VALUE);
+
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Try to acquire a permit for logging.
+     *
+     * @return the number of suppressed entries since the last entry, or -1 if this entry should be suppressed
+     */
+    private long tryAcquire(long now, long minIntervalNanos) {
+      long last = lastLogged.get();
+      if ((last != Long.MIN_VALUE && now - last < minIntervalNanos) || !lastLogged.compareAndSet(last, now)) {
+        suppressed.increment();
+        return -1;
+      }
+      return suppressed.sumThenReset();
+    }
+
+  }
+
+}
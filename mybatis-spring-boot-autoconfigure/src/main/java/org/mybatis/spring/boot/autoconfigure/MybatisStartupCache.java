@@ -0,0 +1,262 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Local file cache for results of the classpath scanning that performed on startup.
+ * <p>
+ * This cache holds resolved mapper locations and class names found in type aliases and type handlers packages. Entries
+ * are keyed by a hash of MyBatis settings and the classpath (including size and last modified time of each jar file),
+ * so a stale cache is discarded and the scanning is performed again.
+ * </p>
+ * <p>
+ * The size and last modified time of a directory do not change when a nested file is added or removed, so the cache
+ * is limited to jar files: it is disabled when the classpath contains a directory (e.g. {@code target/classes} or an
+ * exploded {@code BOOT-INF/classes}), and a scanning result that contains a resource outside jar files is not cached.
+ * </p>
+ * <p>
+ * Parsed statements, result maps and caches are not stored because these objects refer to the live
+ * {@link org.apache.ibatis.session.Configuration} and are not serializable.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+class MybatisStartupCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(MybatisStartupCache.class);
+
+  private static final String KEY_PROPERTY = "key";
+
+  private static final String MAPPER_LOCATIONS_PROPERTY = "mapper-locations";
+
+  private static final String CLASSES_PROPERTY_PREFIX = "classes.";
+
+  private static final String VALUE_DELIMITER = "\n";
+
+  private final Path file;
+
+  private final String key;
+
+  private final Properties entries;
+
+  private boolean dirty;
+
+  private MybatisStartupCache(Path file, String key, Properties entries) {
+    this.file = file;
+    this.key = key;
+    this.entries = entries;
+  }
+
+  /**
+   * Load a cache from the given file.
+   *
+   * @param file
+   *          the cache file
+   * @param properties
+   *          the MyBatis properties used for calculating a cache key
+   *
+   * @return a loaded cache, an empty cache if the file does not exist or is stale, or {@code null} if the classpath
+   *         contains a directory
+   */
+  static MybatisStartupCache load(Path file, MybatisProperties properties) {
+    return load(file, properties, System.getProperty("java.class.path", ""));
+  }
+
+  static MybatisStartupCache load(Path file, MybatisProperties properties, String classpath) {
+    String[] classpathEntries = StringUtils.tokenizeToStringArray(classpath, File.pathSeparator);
+    for (String entry : classpathEntries) {
+      if (new File(entry).isDirectory()) {
+        logger.debug("The MyBatis startup cache is disabled because the classpath contains the directory '{}'.", entry);
+        return null;
+      }
+    }
+    String key = createKey(properties, classpathEntries);
+    Properties entries = new Properties();
+    if (Files.isRegularFile(file)) {
+      try (InputStream in = Files.newInputStream(file)) {
+        entries.load(in);
+      } catch (IOException | IllegalArgumentException e) {
+        logger.warn("Cannot read the MyBatis startup cache '{}'. Performs the classpath scanning.", file, e);
+        entries.clear();
+      }
+      if (!key.equals(entries.getProperty(KEY_PROPERTY))) {
+        logger.debug("The MyBatis startup cache '{}' is stale. Performs the classpath scanning.", file);
+        entries.clear();
+      }
+    }
+    MybatisStartupCache cache = new MybatisStartupCache(file, key, entries);
+    cache.dirty = entries.isEmpty();
+    return cache;
+  }
+
+  Resource[] resolveMapperLocations(MybatisProperties properties) {
+    String cached = this.entries.getProperty(MAPPER_LOCATIONS_PROPERTY);
+    if (cached != null) {
+      try {
+        List<Resource> resources = new ArrayList<>();
+        for (String url : StringUtils.tokenizeToStringArray(cached, VALUE_DELIMITER)) {
+          resources.add(new UrlResource(url));
+        }
+        return resources.toArray(new Resource[0]);
+      } catch (MalformedURLException e) {
+        logger.debug("Cannot restore mapper locations from the MyBatis startup cache.", e);
+      }
+    }
+    Resource[] resources = properties.resolveMapperLocations();
+    List<String> urls = new ArrayList<>();
+    for (Resource resource : resources) {
+      try {
+        URL url = resource.getURL();
+        if (!ResourceUtils.isJarURL(url)) {
+          // A file outside jar files can be added or removed without changing the cache key
+          return resources;
+        }
+        urls.add(url.toString());
+      } catch (IOException e) {
+        // Cannot cache a resource that does not have an url
+        return resources;
+      }
+    }
+    put(MAPPER_LOCATIONS_PROPERTY, urls);
+    return resources;
+  }
+
+  /**
+   * Return names of classes found by the given location pattern.
+   *
+   * @param location
+   *          a location pattern of class files
+   * @param scanner
+   *          a scanner that is called when an entry is not cached
+   *
+   * @return class names
+   *
+   * @throws IOException
+   *           if the scanner fails
+   */
+  List<String> listClassNames(String location, ClassScanner scanner) throws IOException {
+    String property = CLASSES_PROPERTY_PREFIX + location;
+    String cached = this.entries.getProperty(property);
+    if (cached != null) {
+      return Arrays.asList(StringUtils.tokenizeToStringArray(cached, VALUE_DELIMITER));
+    }
+    Map<String, URL> classes = scanner.scan();
+    List<String> classNames = new ArrayList<>(classes.keySet());
+    if (classes.values().stream().allMatch(ResourceUtils::isJarURL)) {
+      put(property, classNames);
+    }
+    return classNames;
+  }
+
+  private synchronized void put(String property, List<String> values) {
+    this.entries.setProperty(property, String.join(VALUE_DELIMITER, values));
+    this.dirty = true;
+  }
+
+  /**
+   * Save the cache to the file if entries are changed. An error is logged but not thrown.
+   */
+  synchronized void save() {
+    if (!this.dirty) {
+      return;
+    }
+    this.entries.setProperty(KEY_PROPERTY, this.key);
+    try {
+      Path parent = this.file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      Path temp = Files.createTempFile(parent, this.file.getFileName().toString(), ".tmp");
+      try (OutputStream out = Files.newOutputStream(temp)) {
+        this.entries.store(out, "MyBatis startup cache");
+      }
+      Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      this.dirty = false;
+    } catch (IOException e) {
+      logger.warn("Cannot write the MyBatis startup cache '{}'.", this.file, e);
+    }
+  }
+
+  private static String createKey(MybatisProperties properties, String[] classpathEntries) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      update(digest, properties.getConfigLocation());
+      update(digest,
+          properties.getMapperLocations() == null ? null : String.join(",", properties.getMapperLocations()));
+      update(digest, properties.getTypeAliasesPackage());
+      update(digest,
+          properties.getTypeAliasesSuperType() == null ? null : properties.getTypeAliasesSuperType().getName());
+      update(digest, properties.getTypeHandlersPackage());
+      for (String entry : classpathEntries) {
+        File classpathEntry = new File(entry);
+        update(digest, entry + ":" + classpathEntry.length() + ":" + classpathEntry.lastModified());
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  /**
+   * Callback for scanning classes when a cache entry is not found.
+   */
+  @FunctionalInterface
+  interface ClassScanner {
+
+    /**
+     * Scan classes.
+     *
+     * @return urls of class files keyed by class names
+     *
+     * @throws IOException
+     *           if an I/O error occurs
+     */
+    Map<String, URL> scan() throws IOException;
+
+  }
+
+}
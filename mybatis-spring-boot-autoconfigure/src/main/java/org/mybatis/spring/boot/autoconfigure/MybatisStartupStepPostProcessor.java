@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationStartupAware;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * {@link BeanPostProcessor} that records startup steps of MyBatis that run after a {@link SqlSessionFactory} is built.
+ * <p>
+ * When the {@link ApplicationStartup} of the application context records steps, this post processor records a
+ * {@code mybatis.mapper-interface.parse} step for adding a mapper interface (and parsing its annotations) to the
+ * {@link Configuration} on initializing a {@link MapperFactoryBean}. The initialization itself is not changed.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+class MybatisStartupStepPostProcessor implements BeanPostProcessor, ApplicationStartupAware {
+
+  private final Map<String, StartupStep> mapperSteps = new ConcurrentHashMap<>();
+
+  private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
+  @Override
+  public void setApplicationStartup(ApplicationStartup applicationStartup) {
+    this.applicationStartup = applicationStartup;
+  }
+
+  @Override
+  public Object postProcessBeforeInitialization(Object bean, String beanName) {
+    if (bean instanceof MapperFactoryBean && isRecording()) {
+      Class<?> mapperInterface = ((MapperFactoryBean<?>) bean).getMapperInterface();
+      mapperSteps.put(beanName, applicationStartup.start("mybatis.mapper-interface.parse").tag("mapperInterface",
+          mapperInterface != null ? mapperInterface.getName() : "unknown"));
+    }
+    return bean;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    StartupStep step = bean instanceof MapperFactoryBean ? mapperSteps.remove(beanName) : null;
+    if (step != null) {
+      step.end();
+    }
+    return bean;
+  }
+
+  private boolean isRecording() {
+    return applicationStartup != ApplicationStartup.DEFAULT;
+  }
+
+}
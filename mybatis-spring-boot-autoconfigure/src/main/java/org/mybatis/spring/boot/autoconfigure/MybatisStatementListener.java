@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * Listener that is notified of statement executions timed by the {@link MybatisStatementTimingInterceptor}.
+ * <p>
+ * A listener is called on the thread that executes the statement, and must not throw an exception.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public interface MybatisStatementListener {
+
+  /**
+   * Called before a statement is executed.
+   *
+   * @param mappedStatement
+   *          a statement to execute
+   * @param args
+   *          arguments of the executor method (the first argument is the mapped statement)
+   *
+   * @return a context that is passed to {@link #afterStatement}, or {@code null} if not needed
+   */
+  default Object beforeStatement(MappedStatement mappedStatement, Object[] args) {
+    return null;
+  }
+
+  /**
+   * Called after a statement is executed or failed.
+   *
+   * @param mappedStatement
+   *          an executed statement
+   * @param args
+   *          arguments of the executor method (the first argument is the mapped statement)
+   * @param result
+   *          a result of the executor method (a list, a cursor or the number of affected rows), or {@code null} if
+   *          failed
+   * @param error
+   *          an error thrown by the executor method, or {@code null} if succeeded
+   * @param elapsedNanos
+   *          the execution time in nanoseconds
+   * @param context
+   *          a context that returned by {@link #beforeStatement}
+   */
+  void afterStatement(MappedStatement mappedStatement, Object[] args, Object result, Throwable error,
+      long elapsedNanos, Object context);
+
+}
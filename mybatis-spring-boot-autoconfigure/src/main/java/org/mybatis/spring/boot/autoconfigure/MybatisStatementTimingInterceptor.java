@@ -0,0 +1,147 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.Arrays;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * {@link Interceptor} that times statement executions once and notifies {@link MybatisStatementListener}s.
+ * <p>
+ * Features that need the execution time of statements (the statistics of the {@code mybatis} endpoint, metrics,
+ * observations and the slow statement log) share a single instance of this interceptor per {@link Configuration}
+ * (obtained by {@link #of(Configuration)}), so an execution is intercepted and timed only once regardless of how many
+ * features are enabled. Listeners are notified in registration order before an execution, and in reverse order after
+ * it.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "update", args = { MappedStatement.class, Object.class }),
+    @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+        RowBounds.class, ResultHandler.class }),
+    @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+        RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+    @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class,
+        RowBounds.class }) })
+public class MybatisStatementTimingInterceptor implements Interceptor {
+
+  private volatile MybatisStatementListener[] listeners = new MybatisStatementListener[0];
+
+  /**
+   * Return the interceptor that added to the specified configuration, adding a new one if absent.
+   *
+   * @param configuration
+   *          a MyBatis configuration
+   *
+   * @return the interceptor of the specified configuration
+   */
+  public static MybatisStatementTimingInterceptor of(Configuration configuration) {
+    synchronized (configuration) {
+      for (Interceptor interceptor : configuration.getInterceptors()) {
+        if (interceptor instanceof MybatisStatementTimingInterceptor) {
+          return (MybatisStatementTimingInterceptor) interceptor;
+        }
+      }
+      MybatisStatementTimingInterceptor interceptor = new MybatisStatementTimingInterceptor();
+      configuration.addInterceptor(interceptor);
+      return interceptor;
+    }
+  }
+
+  /**
+   * Add a listener. A listener should be added before executors are created (i.e. before sessions are opened).
+   *
+   * @param listener
+   *          a listener to add
+   */
+  public synchronized void addListener(MybatisStatementListener listener) {
+    MybatisStatementListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+    newListeners[listeners.length] = listener;
+    this.listeners = newListeners;
+  }
+
+  /**
+   * Return the first listener of the specified type.
+   *
+   * @param <T>
+   *          the type of listener
+   * @param type
+   *          the type of listener
+   *
+   * @return the first listener of the specified type, or {@code null} if not added
+   */
+  public <T extends MybatisStatementListener> T getListener(Class<T> type) {
+    for (MybatisStatementListener listener : listeners) {
+      if (type.isInstance(listener)) {
+        return type.cast(listener);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    MybatisStatementListener[] listeners = this.listeners;
+    Object[] args = invocation.getArgs();
+    MappedStatement mappedStatement = (MappedStatement) args[0];
+    Object[] contexts = null;
+    for (int i = 0; i < listeners.length; i++) {
+      Object context = listeners[i].beforeStatement(mappedStatement, args);
+      if (context != null) {
+        if (contexts == null) {
+          contexts = new Object[listeners.length];
+        }
+        contexts[i] = context;
+      }
+    }
+    long start = System.nanoTime();
+    Object result = null;
+    Throwable error = null;
+    try {
+      result = invocation.proceed();
+      return result;
+    } catch (Throwable e) {
+      error = e;
+      throw e;
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      for (int i = listeners.length - 1; i >= 0; i--) {
+        listeners[i].afterStatement(mappedStatement, args, result, error, elapsed,
+            contexts == null ? null : contexts[i]);
+      }
+    }
+  }
+
+  @Override
+  public Object plugin(Object target) {
+    // Do not wrap executors when no feature listens
+    return listeners.length == 0 ? target : Interceptor.super.plugin(target);
+  }
+
+}
@@ -0,0 +1,130 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.mapping.MappedStatement;
+
+/**
+ * {@link MybatisStatementListener} that collects execution statistics per {@link MappedStatement}.
+ * <p>
+ * Statistics are collected with striped counters ({@link LongAdder} and {@link LongAccumulator}), so recording an
+ * execution does not take a lock even if many threads execute a same statement.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+public class MybatisStatisticsListener implements MybatisStatementListener {
+
+  private final Map<String, StatementStatistics> statistics = new ConcurrentHashMap<>();
+
+  @Override
+  public void afterStatement(MappedStatement mappedStatement, Object[] args, Object result, Throwable error,
+      long elapsedNanos, Object context) {
+    StatementStatistics statementStatistics = getStatementStatistics(mappedStatement.getId());
+    if (error != null) {
+      statementStatistics.errors.increment();
+    } else {
+      statementStatistics.rows.add(rows(result));
+    }
+    statementStatistics.record(elapsedNanos);
+  }
+
+  /**
+   * Return statistics of the specified statement.
+   *
+   * @param statementId
+   *          an id of statement
+   *
+   * @return statistics of the specified statement, or {@code null} if the statement has not been executed
+   */
+  public StatementStatistics getStatistics(String statementId) {
+    return statistics.get(statementId);
+  }
+
+  /**
+   * Reset all collected statistics.
+   */
+  public void reset() {
+    statistics.clear();
+  }
+
+  private StatementStatistics getStatementStatistics(String statementId) {
+    StatementStatistics statementStatistics = statistics.get(statementId);
+    if (statementStatistics == null) {
+      statementStatistics = statistics.computeIfAbsent(statementId, id -> new StatementStatistics());
+    }
+    return statementStatistics;
+  }
+
+  private static int rows(Object result) {
+    if (result instanceof Collection) {
+      return ((Collection<?>) result).size();
+    } else if (result instanceof Integer) {
+      return Math.max((Integer) result, 0);
+    }
+    return 0;
+  }
+
+  /**
+   * Execution statistics of a statement.
+   */
+  public static class StatementStatistics {
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    private final LongAdder rows = new LongAdder();
+
+    private void record(long nanos) {
+      count.increment();
+      totalNanos.add(nanos);
+      maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+      return count.sum();
+    }
+
+    public long getErrors() {
+      return errors.sum();
+    }
+
+    public long getTotalNanos() {
+      return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+      return maxNanos.get();
+    }
+
+    public long getRows() {
+      return rows.sum();
+    }
+
+  }
+
+}
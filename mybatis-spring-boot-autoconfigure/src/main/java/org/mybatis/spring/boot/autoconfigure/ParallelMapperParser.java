@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.ErrorContext;
+import org.apache.ibatis.session.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+
+/**
+ * Parser that reads mapper xml files concurrently and registers them into a {@link Configuration} in declared order.
+ * <p>
+ * Loading a mapper xml file and building its DOM does not modify the {@link Configuration}, so this work is done on a
+ * worker pool. Registering statements, result maps and caches is not thread-safe, so it is done on the calling thread
+ * in the order of the given resources, which keeps the result identical to the sequential parsing. When the pool size
+ * is 1, files are parsed on the calling thread.
+ * </p>
+ * <p>
+ * Registering each file is recorded as a {@code mybatis.mapper-xml.parse} step of the {@link ApplicationStartup}.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+class ParallelMapperParser {
+
+  private static final Logger logger = LoggerFactory.getLogger(ParallelMapperParser.class);
+
+  private final int poolSize;
+
+  private final ApplicationStartup applicationStartup;
+
+  ParallelMapperParser(int poolSize) {
+    this(poolSize, ApplicationStartup.DEFAULT);
+  }
+
+  ParallelMapperParser(int poolSize, ApplicationStartup applicationStartup) {
+    Assert.isTrue(poolSize > 0, "poolSize must be greater than 0");
+    this.poolSize = poolSize;
+    this.applicationStartup = applicationStartup;
+  }
+
+  void parse(Configuration configuration, Resource[] mapperLocations) throws IOException {
+    List<Resource> resources = Stream.of(mapperLocations).filter(Objects::nonNull).collect(Collectors.toList());
+    if (resources.isEmpty()) {
+      return;
+    }
+    if (this.poolSize == 1) {
+      for (Resource resource : resources) {
+        register(resource, () -> createBuilder(configuration, resource));
+      }
+      return;
+    }
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("mybatis-mapper-parser-");
+    threadFactory.setDaemon(true);
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.poolSize, resources.size()), threadFactory);
+    try {
+      List<CompletableFuture<XMLMapperBuilder>> builders = resources.stream()
+          .map(resource -> CompletableFuture.supplyAsync(() -> createBuilder(configuration, resource), executor))
+          .collect(Collectors.toList());
+      for (int i = 0; i < resources.size(); i++) {
+        register(resources.get(i), builders.get(i)::join);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void register(Resource resource, Supplier<XMLMapperBuilder> builder) throws IOException {
+    StartupStep step = this.applicationStartup.start("mybatis.mapper-xml.parse").tag("resource", resource.toString());
+    try {
+      builder.get().parse();
+    } catch (CompletionException e) {
+      throw new IOException("Failed to parse mapping resource: '" + resource + "'", e.getCause());
+    } catch (Exception e) {
+      throw new IOException("Failed to parse mapping resource: '" + resource + "'", e);
+    } finally {
+      ErrorContext.instance().reset();
+      step.end();
+    }
+    logger.debug("Parsed mapper file: '{}'", resource);
+  }
+
+  private static XMLMapperBuilder createBuilder(Configuration configuration, Resource resource) {
+    try (InputStream inputStream = resource.getInputStream()) {
+      return new XMLMapperBuilder(inputStream, configuration, resource.toString(), configuration.getSqlFragments());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      ErrorContext.instance().reset();
+    }
+  }
+
+}
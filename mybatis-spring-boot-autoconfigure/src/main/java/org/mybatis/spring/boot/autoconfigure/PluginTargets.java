@@ -0,0 +1,64 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.lang.reflect.Proxy;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.reflection.SystemMetaObject;
+
+/**
+ * Utility methods for accessing objects that are wrapped by MyBatis plugins.
+ *
+ * @since 4.1.1
+ */
+final class PluginTargets {
+
+  private PluginTargets() {
+    // NOP
+  }
+
+  /**
+   * Return the target that is wrapped by plugins.
+   *
+   * @param target
+   *          an object that may be wrapped by other plugins
+   *
+   * @return the innermost target
+   */
+  static Object unwrap(Object target) {
+    Object object = target;
+    while (Proxy.isProxyClass(object.getClass()) && Proxy.getInvocationHandler(object) instanceof Plugin) {
+      object = SystemMetaObject.forObject(Proxy.getInvocationHandler(object)).getValue("target");
+    }
+    return object;
+  }
+
+  /**
+   * Return the {@link MappedStatement} that is executed by the statement handler.
+   *
+   * @param statementHandler
+   *          a {@code RoutingStatementHandler} that may be wrapped by other plugins
+   *
+   * @return the mapped statement
+   */
+  static MappedStatement getMappedStatement(StatementHandler statementHandler) {
+    return (MappedStatement) SystemMetaObject.forObject(unwrap(statementHandler)).getValue("delegate.mappedStatement");
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2015-2023 the original author or authors.
+ *    Copyright 2015-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -33,6 +33,13 @@ import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.util.ClassUtils;
 
 /**
+ * {@link VFS} implementation for Spring Boot applications.
+ * <p>
+ * When the classpath root of a searched package has a {@code META-INF/mybatis.index} file that generated by the
+ * mybatis-spring-boot-autoconfigure-processor, class files are listed from that index instead of scanning the
+ * classpath.
+ * </p>
+ *
  * @author Hans Westerbeek
  * @author Eddú Meléndez
  * @author Kazuki Shimizu
@@ -42,6 +49,7 @@ public class SpringBootVFS extends VFS {
   private static Charset urlDecodingCharset;
   private static Supplier<ClassLoader> classLoaderSupplier;
   private final ResourcePatternResolver resourceResolver;
+  private final MybatisIndex index;
 
   static {
     setUrlDecodingCharset(Charset.defaultCharset());
@@ -49,7 +57,9 @@ public class SpringBootVFS extends VFS {
   }
 
   public SpringBootVFS() {
-    this.resourceResolver = new PathMatchingResourcePatternResolver(classLoaderSupplier.get());
+    ClassLoader classLoader = classLoaderSupplier.get();
+    this.resourceResolver = new PathMatchingResourcePatternResolver(classLoader);
+    this.index = MybatisIndex.get(classLoader);
   }
 
   @Override
@@ -59,6 +69,14 @@ public class SpringBootVFS extends VFS {
 
   @Override
   protected List<String> list(URL url, String path) throws IOException {
+    List<String> indexedClassFiles = index.listClassFiles(url.toString(), path);
+    if (indexedClassFiles != null) {
+      return indexedClassFiles;
+    }
+    return scan(url, path);
+  }
+
+  private List<String> scan(URL url, String path) throws IOException {
     String urlString = URLDecoder.decode(url.toString(), urlDecodingCharset);
     String baseUrlString = urlString.endsWith("/") ? urlString : urlString.concat("/");
     Resource[] resources = resourceResolver.getResources(baseUrlString + "**/*.class");
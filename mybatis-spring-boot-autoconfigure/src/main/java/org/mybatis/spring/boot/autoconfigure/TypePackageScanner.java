@@ -0,0 +1,161 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Scanner for classes in type aliases and type handlers packages, that registers them to a {@link Configuration} in the
+ * same way as the {@link SqlSessionFactoryBean}.
+ * <p>
+ * Unlike the {@link SqlSessionFactoryBean}, class names in a package are taken from the {@link MybatisIndex} when all
+ * classpath roots that contain the package have an index file, or from the given {@link MybatisStartupCache} when it
+ * holds them.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+final class TypePackageScanner {
+
+  private static final Logger logger = LoggerFactory.getLogger(TypePackageScanner.class);
+
+  private static final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+
+  private static final MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory();
+
+  private final MybatisIndex index;
+
+  private final MybatisStartupCache startupCache;
+
+  /**
+   * Constructor.
+   *
+   * @param index
+   *          an index of types
+   * @param startupCache
+   *          a cache of class names (can be {@code null})
+   */
+  TypePackageScanner(MybatisIndex index, MybatisStartupCache startupCache) {
+    this.index = index;
+    this.startupCache = startupCache;
+  }
+
+  /**
+   * Register type aliases of classes in the given packages (same as {@code typeAliasesPackage} of the
+   * {@link SqlSessionFactoryBean}).
+   *
+   * @param configuration
+   *          a configuration
+   * @param packagePatterns
+   *          packages delimited by {@code ",; \t\n"}
+   * @param superType
+   *          a super type of classes (can be {@code null})
+   *
+   * @throws IOException
+   *           if the classpath cannot be scanned
+   */
+  void registerTypeAliases(Configuration configuration, String packagePatterns, Class<?> superType)
+      throws IOException {
+    for (Class<?> type : scanClasses(packagePatterns, superType)) {
+      if (!type.isAnonymousClass() && !type.isInterface() && !type.isMemberClass()) {
+        configuration.getTypeAliasRegistry().registerAlias(type);
+      }
+    }
+  }
+
+  /**
+   * Register type handlers in the given packages (same as {@code typeHandlersPackage} of the
+   * {@link SqlSessionFactoryBean}).
+   *
+   * @param configuration
+   *          a configuration
+   * @param packagePatterns
+   *          packages delimited by {@code ",; \t\n"}
+   *
+   * @throws IOException
+   *           if the classpath cannot be scanned
+   */
+  void registerTypeHandlers(Configuration configuration, String packagePatterns) throws IOException {
+    for (Class<?> type : scanClasses(packagePatterns, TypeHandler.class)) {
+      if (!type.isAnonymousClass() && !type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+        configuration.getTypeHandlerRegistry().register(type);
+      }
+    }
+  }
+
+  private Set<Class<?>> scanClasses(String packagePatterns, Class<?> assignableType) throws IOException {
+    Set<Class<?>> classes = new LinkedHashSet<>();
+    for (String packagePattern : StringUtils.tokenizeToStringArray(packagePatterns,
+        ConfigurableApplicationContext.CONFIG_LOCATION_DELIMITERS)) {
+      String packageName = new StandardEnvironment().resolveRequiredPlaceholders(packagePattern);
+      String location = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+          + ClassUtils.convertClassNameToResourcePath(packageName) + "/**/*.class";
+      Collection<String> classNames;
+      if (this.index.isIndexed(packageName)) {
+        logger.debug("Using types listed in '{}' for the package '{}'", MybatisIndex.INDEX_LOCATION, packageName);
+        classNames = this.index.getTypes(packageName);
+      } else if (this.startupCache != null) {
+        classNames = this.startupCache.listClassNames(location, () -> scanClassNames(location));
+      } else {
+        classNames = scanClassNames(location).keySet();
+      }
+      for (String className : classNames) {
+        try {
+          Class<?> type = Resources.classForName(className);
+          if (assignableType == null || assignableType.isAssignableFrom(type)) {
+            classes.add(type);
+          }
+        } catch (Throwable e) {
+          logger.warn("Cannot load the '{}'. Cause by {}", className, e.toString());
+        }
+      }
+    }
+    return classes;
+  }
+
+  private static Map<String, URL> scanClassNames(String location) throws IOException {
+    Map<String, URL> classNames = new LinkedHashMap<>();
+    for (Resource resource : resourceResolver.getResources(location)) {
+      classNames.put(metadataReaderFactory.getMetadataReader(resource).getClassMetadata().getClassName(),
+          resource.getURL());
+    }
+    return classNames;
+  }
+
+}
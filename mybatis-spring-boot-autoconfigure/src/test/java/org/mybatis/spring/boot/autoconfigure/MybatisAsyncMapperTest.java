@@ -0,0 +1,205 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.builder.annotation.ProviderContext;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+import org.mybatis.spring.boot.autoconfigure.async.AsyncArchivedCityFinderMapper;
+import org.mybatis.spring.boot.autoconfigure.async.AsyncCityFinderMapper;
+import org.mybatis.spring.boot.autoconfigure.async.AsyncCityMapper;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Tests for {@link MybatisAsyncMapperInterceptor} and {@link MybatisAsyncMapperAutoConfiguration}.
+ */
+class MybatisAsyncMapperTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class,
+          MybatisAsyncMapperAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class)
+      .withPropertyValues("mybatis.async.enabled:true");
+
+  @Test
+  void testAsyncMethods() {
+    this.contextRunner.run(context -> {
+      AsyncCityMapper mapper = context.getBean(AsyncCityMapper.class);
+      City city = new City();
+      city.setId(1L);
+      city.setName("San Francisco");
+      assertThat(mapper.insert(city).join()).isEqualTo(1);
+      city.setId(2L);
+      city.setName("Tokyo");
+      assertThat(mapper.insert(city).join()).isEqualTo(1);
+
+      assertThat(mapper.findById(1L).join().getName()).isEqualTo("San Francisco");
+      assertThat(mapper.findOptionalById(3L).join()).isEmpty();
+      assertThat(mapper.findAll().join()).extracting(City::getName).containsExactly("San Francisco", "Tokyo");
+      assertThat(mapper.findAllAsMap().join()).containsOnlyKeys(1L, 2L);
+      assertThat(mapper.findByIdSync(2L).getName()).isEqualTo("Tokyo");
+
+      CompletableFuture<Integer> duplicated = mapper.insert(city);
+      assertThatExceptionOfType(CompletionException.class).isThrownBy(duplicated::join)
+          .withCauseInstanceOf(DuplicateKeyException.class);
+    });
+  }
+
+  @Test
+  void testInheritedMethods() {
+    this.contextRunner.run(context -> {
+      try (Connection connection = context.getBean(DataSource.class).getConnection();
+          Statement statement = connection.createStatement()) {
+        statement.execute("CREATE TABLE archived_city (id INT PRIMARY KEY, name VARCHAR(50), state VARCHAR(50))");
+        statement.execute("INSERT INTO city (id, name) VALUES (1, 'San Francisco')");
+        statement.execute("INSERT INTO archived_city (id, name) VALUES (1, 'Edo')");
+      }
+      // The same inherited method is bound to a statement of each mapper interface
+      assertThat(context.getBean(AsyncCityFinderMapper.class).findById(1L).join().getName())
+          .isEqualTo("San Francisco");
+      assertThat(context.getBean(AsyncArchivedCityFinderMapper.class).findById(1L).join().getName())
+          .isEqualTo("Edo");
+    });
+  }
+
+  @Test
+  void testCustomExecutor() {
+    this.contextRunner.withUserConfiguration(ExecutorConfiguration.class).run(context -> {
+      assertThat(context.getBean(AsyncCityMapper.class).findAll().join()).isEmpty();
+      assertThat(context.getBean(ExecutorConfiguration.class).count).hasValue(1);
+    });
+  }
+
+  @Test
+  void testDefaultMaxConcurrency() {
+    // The pool size of the embedded data source cannot be detected
+    this.contextRunner.run(context -> assertThat(getConcurrencyLimit(
+        context.getBean(MybatisAsyncMapperAutoConfiguration.EXECUTOR_BEAN_NAME, Executor.class))).isEqualTo(10));
+  }
+
+  @Test
+  void testMaxConcurrency() {
+    this.contextRunner.withPropertyValues("mybatis.async.max-concurrency:2").run(context -> assertThat(
+        getConcurrencyLimit(context.getBean(MybatisAsyncMapperAutoConfiguration.EXECUTOR_BEAN_NAME, Executor.class)))
+        .isEqualTo(2));
+  }
+
+  @Test
+  void testTransactionManagerOfMapperDataSource() {
+    this.contextRunner.withConfiguration(AutoConfigurations.of(MybatisDataSourcesAutoConfiguration.class))
+        .withUserConfiguration(OrdersMapperConfiguration.class)
+        .withPropertyValues("mybatis.datasources.orders.url:jdbc:h2:mem:async-orders;DB_CLOSE_DELAY=-1")
+        .run(context -> {
+          // A call runs in a transaction of the ordersTransactionManager, not of the primary transaction manager
+          assertThat(context.getBean("ordersAsyncCityMapper", AsyncCityMapper.class).isAutoCommit().join()).isFalse();
+        });
+  }
+
+  @Test
+  void testDisabledByDefault() {
+    new ApplicationContextRunner()
+        .withConfiguration(
+            AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisAsyncMapperAutoConfiguration.class))
+        .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+        .run(context -> assertThat(context).doesNotHaveBean(MybatisAsyncMapperAutoConfiguration.EXECUTOR_BEAN_NAME));
+  }
+
+  private static int getConcurrencyLimit(Executor executor) {
+    if (executor instanceof ThreadPoolTaskExecutor) {
+      ThreadPoolTaskExecutor threadPool = (ThreadPoolTaskExecutor) executor;
+      assertThat(threadPool.getCorePoolSize()).isEqualTo(threadPool.getMaxPoolSize());
+      return threadPool.getMaxPoolSize();
+    }
+    return ((SimpleAsyncTaskExecutor) executor).getConcurrencyLimit();
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @MapperScan(basePackageClasses = AsyncCityMapper.class)
+  static class MapperConfiguration {
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class OrdersMapperConfiguration {
+
+    @Bean
+    MapperFactoryBean<AsyncCityMapper> ordersAsyncCityMapper(
+        @Qualifier("ordersSqlSessionFactory") SqlSessionFactory sqlSessionFactory) {
+      MapperFactoryBean<AsyncCityMapper> factoryBean = new MapperFactoryBean<>(AsyncCityMapper.class);
+      factoryBean.setSqlSessionFactory(sqlSessionFactory);
+      return factoryBean;
+    }
+
+  }
+
+  public interface AsyncFinderMapper<T> {
+
+    @SelectProvider(type = FinderSqlProvider.class, method = "findById")
+    CompletableFuture<T> findById(@Param("id") Long id);
+
+  }
+
+  public static class FinderSqlProvider {
+
+    public static String findById(ProviderContext context) throws ReflectiveOperationException {
+      return "SELECT * FROM " + context.getMapperType().getField("TABLE").get(null) + " WHERE id = #{id}";
+    }
+
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class ExecutorConfiguration {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Bean(name = MybatisAsyncMapperAutoConfiguration.EXECUTOR_BEAN_NAME)
+    Executor mybatisAsyncExecutor() {
+      return command -> {
+        this.count.incrementAndGet();
+        command.run();
+      };
+    }
+
+  }
+
+}
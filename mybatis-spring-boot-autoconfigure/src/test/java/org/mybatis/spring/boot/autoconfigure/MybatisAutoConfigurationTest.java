@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.example.mapper.DateTimeMapper;
 
 import java.math.BigInteger;
+import java.nio.file.Path;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -51,6 +52,7 @@ import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeHandlerRegistry;
 import org.flywaydb.core.Flyway;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.mybatis.scripting.freemarker.FreeMarkerLanguageDriver;
 import org.mybatis.scripting.thymeleaf.ThymeleafLanguageDriver;
@@ -336,6 +338,37 @@ class MybatisAutoConfigurationTest {
                 .hasSize(2));
   }
 
+  @Test
+  void testWithMapperLocationAndParallelMapperParsing() {
+    this.contextRunner
+        .withUserConfiguration(EmbeddedDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+        .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+            "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/repository/CityMapper.xml",
+            "mybatis.startup.parallel-mapper-parsing:true", "mybatis.startup.parallel-mapper-parsing-pool-size:2")
+        .run(context -> {
+          org.apache.ibatis.session.Configuration configuration = context.getBean(SqlSessionFactory.class)
+              .getConfiguration();
+          assertThat(configuration.getMappedStatementNames()).hasSize(2);
+          assertThat(configuration.hasStatement(CityMapperImpl.class.getName() + ".selectCityById")).isTrue();
+        });
+  }
+
+  @Test
+  void testWithMapperLocationAndStartupCache(@TempDir Path tempDir) {
+    Path cacheFile = tempDir.resolve("mybatis-startup.cache");
+    ApplicationContextRunner runner = this.contextRunner
+        .withUserConfiguration(EmbeddedDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+        .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+            "mybatis.mapper-locations:classpath*:org/mybatis/spring/boot/autoconfigure/repository/*Mapper.xml",
+            "mybatis.startup.cache-file:" + cacheFile);
+    runner.run(context -> assertThat(context.getBean(SqlSessionFactory.class).getConfiguration()
+        .hasStatement(CityMapperImpl.class.getName() + ".selectCityById")).isTrue());
+    // The cache is disabled because the classpath of tests contains directories
+    assertThat(cacheFile).doesNotExist();
+    runner.run(context -> assertThat(context.getBean(SqlSessionFactory.class).getConfiguration()
+        .hasStatement(CityMapperImpl.class.getName() + ".selectCityById")).isTrue());
+  }
+
   @Test
   void testWithExecutorType() {
     this.contextRunner
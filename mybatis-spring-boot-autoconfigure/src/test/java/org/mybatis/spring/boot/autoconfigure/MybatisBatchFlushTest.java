@@ -0,0 +1,152 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tests for {@link MybatisBatchFlushInterceptor} and {@link MybatisBatchFlushAutoConfiguration}.
+ */
+class MybatisBatchFlushTest {
+
+  private static final String STATEMENT_ID = "org.mybatis.spring.boot.autoconfigure.cache.CityCacheMapper"
+      + ".updateCityName";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisBatchFlushAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/cache/CityCacheMapper.xml");
+
+  @Test
+  void testMaxStatements() {
+    this.contextRunner.withPropertyValues("mybatis.batch.max-statements:2").run(context -> {
+      try (SqlSession sqlSession = openBatchSession(context)) {
+        update(sqlSession, 5);
+        List<BatchResult> results = sqlSession.flushStatements();
+        assertThat(results).extracting(result -> result.getUpdateCounts().length).containsExactly(2, 2, 1);
+        // Parameter objects of automatically flushed statements are not retained
+        assertThat(results).extracting(result -> result.getParameterObjects().size()).containsExactly(0, 0, 1);
+        assertThat(sqlSession.flushStatements()).isEmpty();
+        sqlSession.commit();
+      }
+    });
+  }
+
+  @Test
+  void testMaxDelay() {
+    this.contextRunner.withPropertyValues("mybatis.batch.max-delay:0ms").run(context -> {
+      try (SqlSession sqlSession = openBatchSession(context)) {
+        update(sqlSession, 3);
+        assertThat(sqlSession.flushStatements()).extracting(result -> result.getUpdateCounts().length)
+            .containsExactly(1, 1, 1);
+      }
+    });
+  }
+
+  @Test
+  void testFlushThroughOtherInterceptors() {
+    this.contextRunner.withUserConfiguration(FlushCountingInterceptorConfiguration.class)
+        .withPropertyValues("mybatis.batch.max-statements:2").run(context -> {
+          FlushCountingInterceptor interceptor = context.getBean(FlushCountingInterceptor.class);
+          try (SqlSession sqlSession = openBatchSession(context)) {
+            update(sqlSession, 5);
+            assertThat(interceptor.flushes).hasValue(2);
+            sqlSession.flushStatements();
+            assertThat(interceptor.flushes).hasValue(3);
+          }
+        });
+  }
+
+  @Test
+  void testNotConfigured() {
+    this.contextRunner.run(context -> {
+      try (SqlSession sqlSession = openBatchSession(context)) {
+        update(sqlSession, 3);
+        assertThat(sqlSession.flushStatements()).extracting(result -> result.getUpdateCounts().length)
+            .containsExactly(3);
+      }
+    });
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class FlushCountingInterceptorConfiguration {
+
+    @Bean
+    FlushCountingInterceptor flushCountingInterceptor() {
+      return new FlushCountingInterceptor();
+    }
+
+  }
+
+  @Intercepts(@Signature(type = Executor.class, method = "flushStatements", args = {}))
+  static class FlushCountingInterceptor implements Interceptor {
+
+    private final AtomicInteger flushes = new AtomicInteger();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      flushes.incrementAndGet();
+      return invocation.proceed();
+    }
+
+  }
+
+  private static SqlSession openBatchSession(ApplicationContext context) throws Exception {
+    try (Connection connection = context.getBean(DataSource.class).getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+    }
+    return context.getBean(SqlSessionFactory.class).openSession(ExecutorType.BATCH);
+  }
+
+  private static void update(SqlSession sqlSession, int count) {
+    for (int i = 0; i < count; i++) {
+      City city = new City();
+      city.setId(1L);
+      city.setName("City " + i);
+      sqlSession.update(STATEMENT_ID, city);
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.annotation.MapperScan;
+import org.mybatis.spring.boot.autoconfigure.batch.BatchCityMapper;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link MybatisBatchMapperInterceptor} and {@link MybatisBatchSqlSessionTemplateAutoConfiguration}.
+ */
+class MybatisBatchSqlSessionTemplateTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class,
+          MybatisBatchSqlSessionTemplateAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class);
+
+  @Test
+  void testTemplates() {
+    this.contextRunner.run(context -> {
+      assertThat(context.getBean(SqlSessionTemplate.class).getExecutorType()).isEqualTo(ExecutorType.SIMPLE);
+      assertThat(context.getBean(MybatisBatchSqlSessionTemplateAutoConfiguration.BATCH_SQL_SESSION_TEMPLATE_BEAN_NAME,
+          SqlSessionTemplate.class).getExecutorType()).isEqualTo(ExecutorType.BATCH);
+    });
+  }
+
+  @Test
+  void testBatchMethods() {
+    this.contextRunner.run(context -> {
+      BatchCityMapper mapper = context.getBean(BatchCityMapper.class);
+      List<BatchResult> results = new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+          .execute(status -> {
+            for (long id = 1; id <= 3; id++) {
+              City city = new City();
+              city.setId(id);
+              city.setName("City " + id);
+              mapper.insert(city);
+            }
+            return mapper.flush();
+          });
+      assertThat(results).hasSize(1);
+      assertThat(results.get(0).getUpdateCounts()).containsExactly(1, 1, 1);
+      assertThat(mapper.findById(3L).getName()).isEqualTo("City 3");
+    });
+  }
+
+  @Test
+  void testReadAndWriteInTransaction() {
+    this.contextRunner.run(context -> {
+      BatchCityMapper mapper = context.getBean(BatchCityMapper.class);
+      List<BatchResult> results = new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+          .execute(status -> {
+            assertThat(mapper.findById(1L)).isNull();
+            City city = new City();
+            city.setId(1L);
+            city.setName("City 1");
+            mapper.insert(city);
+            // A select flushes pending statements on the same session
+            assertThat(mapper.findById(1L).getName()).isEqualTo("City 1");
+            return mapper.flush();
+          });
+      assertThat(results).isEmpty();
+    });
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @MapperScan(basePackageClasses = BatchCityMapper.class)
+  static class MapperConfiguration {
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.ibatis.cache.impl.PerpetualCache;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.boot.autoconfigure.handler.AtomicNumberTypeHandler;
+import org.mybatis.spring.boot.autoconfigure.mapper.CityMapper;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Tests for {@link MybatisBeanFactoryInitializationAotProcessor} and {@link MybatisRuntimeHints}.
+ */
+class MybatisBeanFactoryInitializationAotProcessorTest {
+
+  @Test
+  void testMapperHints() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerBeanDefinition("cityMapper", BeanDefinitionBuilder
+        .genericBeanDefinition(MapperFactoryBean.class).addConstructorArgValue(CityMapper.class)
+        .addPropertyValue("mapperInterface", CityMapper.class).getBeanDefinition());
+
+    RuntimeHints hints = process(beanFactory);
+
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(CityMapper.class)).accepts(hints);
+    Object mapper = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { CityMapper.class },
+        (proxy, method, args) -> null);
+    Object advisedMapper = MapperProxies.advise(mapper, (MethodInterceptor) MethodInvocation::proceed, true);
+    assertThat(RuntimeHintsPredicates.proxies().forInterfaces(advisedMapper.getClass().getInterfaces()))
+        .accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(City.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource()
+        .forResource("org/mybatis/spring/boot/autoconfigure/mapper/CityMapper.xml")).accepts(hints);
+  }
+
+  @Test
+  void testPropertiesHints() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerSingleton(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, new MockEnvironment()
+        .withProperty("mybatis.type-handlers-package", "org.mybatis.spring.boot.autoconfigure.handler")
+        .withProperty("mybatis.mapper-locations",
+            "classpath*:org/mybatis/spring/boot/autoconfigure/repository/*Mapper.xml"));
+
+    RuntimeHints hints = process(beanFactory);
+
+    assertThat(RuntimeHintsPredicates.reflection().onType(AtomicNumberTypeHandler.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource()
+        .forResource("org/mybatis/spring/boot/autoconfigure/repository/CityMapper.xml")).accepts(hints);
+  }
+
+  @Test
+  void testNoContribution() {
+    assertThat(new MybatisBeanFactoryInitializationAotProcessor()
+        .processAheadOfTime(new DefaultListableBeanFactory())).isNull();
+  }
+
+  @Test
+  void testRuntimeHints() {
+    RuntimeHints hints = new RuntimeHints();
+    new MybatisRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    assertThat(RuntimeHintsPredicates.reflection().onType(PerpetualCache.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(SpringBootVFS.class)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.resource().forResource("org/apache/ibatis/builder/xml/mybatis-3-mapper.dtd"))
+        .accepts(hints);
+  }
+
+  private RuntimeHints process(DefaultListableBeanFactory beanFactory) {
+    BeanFactoryInitializationAotContribution contribution = new MybatisBeanFactoryInitializationAotProcessor()
+        .processAheadOfTime(beanFactory);
+    assertThat(contribution).isNotNull();
+    RuntimeHints hints = new RuntimeHints();
+    GenerationContext generationContext = Mockito.mock(GenerationContext.class);
+    Mockito.when(generationContext.getRuntimeHints()).thenReturn(hints);
+    contribution.applyTo(generationContext, Mockito.mock(BeanFactoryInitializationCode.class));
+    return hints;
+  }
+
+}
@@ -0,0 +1,141 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+import org.mybatis.spring.boot.autoconfigure.MybatisBulkInsert.Dialect;
+import org.mybatis.spring.boot.autoconfigure.bulk.BulkCityMapper;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Tests for {@link MybatisBulkInsertProvider} and {@link MybatisBulkInsertMapperInterceptor}.
+ */
+class MybatisBulkInsertTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisBulkInsertAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class)
+      .withPropertyValues(
+          "mybatis.configuration.default-sql-provider-type:" + MybatisBulkInsertProvider.class.getName());
+
+  @Test
+  void testInsertAndUpsert() {
+    this.contextRunner.run(context -> {
+      BulkCityMapper mapper = context.getBean(BulkCityMapper.class);
+      assertThat(mapper.insertAll(cities(1, 5, "City"))).isEqualTo(5);
+      assertThat(mapper.insertAll(new ArrayList<>())).isZero();
+      assertThat(mapper.count()).isEqualTo(5);
+
+      assertThat(mapper.upsertAll(cities(4, 6, "New City"))).isEqualTo(3);
+      assertThat(mapper.count()).isEqualTo(6);
+      assertThat(mapper.findNameById(1L)).isEqualTo("City 1");
+      assertThat(mapper.findNameById(5L)).isEqualTo("New City 5");
+    });
+  }
+
+  @Test
+  void testBuildSql() throws Exception {
+    MybatisBulkInsert bulkInsert = BulkCityMapper.class.getMethod("upsertAll", List.class)
+        .getAnnotation(MybatisBulkInsert.class);
+    assertThat(MybatisBulkInsertProvider.buildSql(bulkInsert, Dialect.POSTGRESQL, "list", 2))
+        .isEqualTo("INSERT INTO city (id, name) VALUES (#{list[0].id}, #{list[0].name}), (#{list[1].id}, "
+            + "#{list[1].name}) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+    assertThat(MybatisBulkInsertProvider.buildSql(bulkInsert, Dialect.MYSQL, "list", 1))
+        .isEqualTo("INSERT INTO city (id, name) VALUES (#{list[0].id}, #{list[0].name}) "
+            + "ON DUPLICATE KEY UPDATE name = VALUES(name)");
+    assertThat(MybatisBulkInsertProvider.buildSql(bulkInsert, Dialect.H2, "list", 1))
+        .isEqualTo("MERGE INTO city (id, name) KEY (id) VALUES (#{list[0].id}, #{list[0].name})");
+  }
+
+  @Test
+  void testMaxRows() throws Exception {
+    MybatisBulkInsert bulkInsert = BulkCityMapper.class.getMethod("upsertAll", List.class)
+        .getAnnotation(MybatisBulkInsert.class);
+    assertThat(MybatisBulkInsertProvider.maxRows(bulkInsert, Dialect.GENERIC)).isEqualTo(1000);
+    assertThat(Dialect.AUTO.resolve("PostgreSQL")).isEqualTo(Dialect.POSTGRESQL);
+    assertThat(Dialect.AUTO.resolve(null)).isEqualTo(Dialect.GENERIC);
+  }
+
+  @Test
+  void testChunksInSingleTransaction() {
+    this.contextRunner.run(context -> {
+      BulkCityMapper mapper = context.getBean(BulkCityMapper.class);
+      assertThat(mapper.insertAll(cities(1, 1, "City"))).isEqualTo(1);
+      List<City> cities = cities(2, 5, "City");
+      cities.addAll(cities(1, 1, "Duplicate City"));
+      // The last chunk fails, so preceding chunks are rolled back
+      assertThatThrownBy(() -> mapper.insertAll(cities)).isInstanceOf(DataIntegrityViolationException.class);
+      assertThat(mapper.count()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void testMaxRowsWithoutMapperBean() {
+    this.contextRunner.run(context -> {
+      try (SqlSession sqlSession = context.getBean(SqlSessionFactory.class).openSession()) {
+        BulkCityMapper mapper = sqlSession.getMapper(BulkCityMapper.class);
+        assertThat(mapper.insertAll(cities(1, 2, "City"))).isEqualTo(2);
+        assertThatThrownBy(() -> mapper.insertAll(cities(3, 5, "City")))
+            .satisfies(e -> assertThat(NestedExceptionUtils.getMostSpecificCause(e))
+                .isInstanceOf(BuilderException.class).hasMessageContaining("at most 2 rows"));
+      }
+    });
+  }
+
+  private static List<City> cities(long from, long to, String prefix) {
+    List<City> cities = new ArrayList<>();
+    for (long id = from; id <= to; id++) {
+      City city = new City();
+      city.setId(id);
+      city.setName(prefix + " " + id);
+      cities.add(city);
+    }
+    return cities;
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @MapperScan(basePackageClasses = BulkCityMapper.class)
+  static class MapperConfiguration {
+
+    @Bean
+    VendorDatabaseIdProvider databaseIdProvider() {
+      return new VendorDatabaseIdProvider();
+    }
+
+  }
+
+}
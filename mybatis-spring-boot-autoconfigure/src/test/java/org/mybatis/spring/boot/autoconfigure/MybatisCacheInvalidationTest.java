@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link MybatisCacheInvalidationAutoConfiguration}.
+ */
+class MybatisCacheInvalidationTest {
+
+  private static final String NAMESPACE = "org.mybatis.spring.boot.autoconfigure.cache.CityCacheMapper";
+
+  private final MybatisCacheInvalidationBus bus = new InMemoryMybatisCacheInvalidationBus();
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class,
+          MybatisCaffeineCacheAutoConfiguration.class, MybatisCacheInvalidationAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+      .withBean(MybatisCacheInvalidationBus.class, () -> bus)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/cache/CityCacheMapper.xml");
+
+  @Test
+  void testInvalidateOnCommit() {
+    this.contextRunner.run(publisher -> this.contextRunner.run(subscriber -> {
+      initialize(publisher);
+      initialize(subscriber);
+      subscriber.getBean(SqlSessionTemplate.class).selectOne(NAMESPACE + ".selectCityById", 1);
+      assertThat(cache(subscriber).getSize()).isEqualTo(1);
+
+      try (SqlSession sqlSession = publisher.getBean(SqlSessionFactory.class).openSession()) {
+        sqlSession.update(NAMESPACE + ".updateCityName", Map.of("id", 1, "name", "Tokyo"));
+        sqlSession.rollback();
+      }
+      assertThat(cache(subscriber).getSize()).isEqualTo(1);
+
+      publisher.getBean(SqlSessionTemplate.class).update(NAMESPACE + ".updateCityName",
+          Map.of("id", 1, "name", "Tokyo"));
+      assertThat(cache(subscriber).getSize()).isZero();
+    }));
+  }
+
+  @Test
+  void testInvalidateAfterTransactionCommit() {
+    this.contextRunner.run(publisher -> this.contextRunner.run(subscriber -> {
+      initialize(publisher);
+      initialize(subscriber);
+      subscriber.getBean(SqlSessionTemplate.class).selectOne(NAMESPACE + ".selectCityById", 1);
+
+      AtomicInteger sizeBeforeCompletion = new AtomicInteger(-1);
+      new TransactionTemplate(new JdbcTransactionManager(publisher.getBean(DataSource.class))).executeWithoutResult(
+          status -> {
+            publisher.getBean(SqlSessionTemplate.class).update(NAMESPACE + ".updateCityName",
+                Map.of("id", 1, "name", "Tokyo"));
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+              @Override
+              public void beforeCompletion() {
+                // The session has been committed, but the connection has not been committed yet
+                sizeBeforeCompletion.set(cache(subscriber).getSize());
+              }
+            });
+          });
+      assertThat(sizeBeforeCompletion).hasValue(1);
+      assertThat(cache(subscriber).getSize()).isZero();
+    }));
+  }
+
+  @Test
+  void testDisabled() {
+    this.contextRunner.withPropertyValues("mybatis.cache.invalidation.enabled:false")
+        .run(publisher -> this.contextRunner.run(subscriber -> {
+          initialize(publisher);
+          initialize(subscriber);
+          subscriber.getBean(SqlSessionTemplate.class).selectOne(NAMESPACE + ".selectCityById", 1);
+          publisher.getBean(SqlSessionTemplate.class).update(NAMESPACE + ".updateCityName",
+              Map.of("id", 1, "name", "Tokyo"));
+          assertThat(cache(subscriber).getSize()).isEqualTo(1);
+        }));
+  }
+
+  private static void initialize(AssertableApplicationContext context) throws Exception {
+    try (Connection connection = context.getBean(DataSource.class).getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+    }
+  }
+
+  private static Cache cache(AssertableApplicationContext context) {
+    return context.getBean(SqlSessionFactory.class).getConfiguration().getCache(NAMESPACE);
+  }
+
+}
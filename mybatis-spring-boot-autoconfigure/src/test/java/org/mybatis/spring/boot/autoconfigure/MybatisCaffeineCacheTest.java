@@ -0,0 +1,109 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.decorators.LoggingCache;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.EmbeddedDataSourceConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link MybatisCaffeineCache} and {@link MybatisCaffeineCacheAutoConfiguration}.
+ */
+class MybatisCaffeineCacheTest {
+
+  private static final String NAMESPACE = "org.mybatis.spring.boot.autoconfigure.cache.CityCacheMapper";
+
+  @Test
+  void testBasicOperations() {
+    MybatisCaffeineCache cache = new MybatisCaffeineCache("test");
+    cache.putObject("a", "A");
+    assertThat(cache.getObject("a")).isEqualTo("A");
+    assertThat(cache.getSize()).isEqualTo(1);
+    assertThat(cache.removeObject("a")).isEqualTo("A");
+    assertThat(cache.getObject("a")).isNull();
+    cache.putObject("b", "B");
+    cache.putObject("b", null);
+    assertThat(cache.getObject("b")).isNull();
+    cache.putObject("c", "C");
+    cache.clear();
+    assertThat(cache.getObject("c")).isNull();
+    assertThat(cache).isEqualTo(new MybatisCaffeineCache("test")).hasSameHashCodeAs(new MybatisCaffeineCache("test"));
+  }
+
+  @Test
+  void testRefreshAhead() {
+    AtomicLong nanos = new AtomicLong();
+    MybatisCaffeineCache cache = new MybatisCaffeineCache("test");
+    cache.setTicker(nanos::get);
+    cache.applyDefaults(null, Duration.ofMinutes(10), Duration.ofMinutes(8));
+    cache.putObject("a", "A");
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(9));
+    // Only one caller gets a miss for refreshing an entry
+    assertThat(cache.getObject("a")).isNull();
+    assertThat(cache.getObject("a")).isEqualTo("A");
+    cache.putObject("a", "A2");
+    assertThat(cache.getObject("a")).isEqualTo("A2");
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+    assertThat(cache.getObject("a")).isNull();
+  }
+
+  @Test
+  void testApplyDefaults() {
+    MybatisCaffeineCache cache = new MybatisCaffeineCache("test");
+    cache.setMaximumWeight(100);
+    cache.setExpireAfterWrite("5m");
+    cache.applyDefaults(5000L, Duration.ofMinutes(10), Duration.ofMinutes(8));
+    assertThat(cache.getMaximumWeight()).isEqualTo(100);
+    assertThat(cache.getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(5));
+    assertThat(cache.getRefreshAhead()).isEqualTo(Duration.ofMinutes(8));
+    assertThat(new MybatisCaffeineCache("test").getMaximumWeight()).isEqualTo(1024);
+  }
+
+  @Test
+  void testAutoConfiguration() {
+    new ApplicationContextRunner()
+        .withConfiguration(
+            AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisCaffeineCacheAutoConfiguration.class))
+        .withUserConfiguration(EmbeddedDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+        .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+            "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/cache/CityCacheMapper.xml",
+            "mybatis.cache.maximum-weight:5000", "mybatis.cache.expire-after-write:10m",
+            "mybatis.cache.namespaces.[" + NAMESPACE + "].refresh-ahead:8m")
+        .run(context -> {
+          Cache cache = context.getBean(SqlSessionFactory.class).getConfiguration().getCache(NAMESPACE);
+          assertThat(cache).isInstanceOf(LoggingCache.class);
+          MybatisCaffeineCache caffeineCache = (MybatisCaffeineCache) SystemMetaObject.forObject(cache)
+              .getValue("delegate");
+          // A property of the cache element takes precedence over mybatis.cache.*
+          assertThat(caffeineCache.getMaximumWeight()).isEqualTo(100);
+          assertThat(caffeineCache.getExpireAfterWrite()).isEqualTo(Duration.ofMinutes(10));
+          assertThat(caffeineCache.getRefreshAhead()).isEqualTo(Duration.ofMinutes(8));
+        });
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.mapper.DateTimeMapper;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.mapper.CityMapper;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+/**
+ * Tests for {@link MybatisDataSourcesAutoConfiguration}.
+ */
+class MybatisDataSourcesAutoConfigurationTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class);
+
+  @Test
+  void testNamedDataSources() {
+    this.contextRunner.withPropertyValues("mybatis.datasources.orders.url:jdbc:h2:mem:orders;DB_CLOSE_DELAY=-1",
+        "mybatis.datasources.orders.base-packages:org.mybatis.spring.boot.autoconfigure.mapper",
+        "mybatis.datasources.users.url:jdbc:h2:mem:users;DB_CLOSE_DELAY=-1",
+        "mybatis.datasources.users.base-packages:com.example.mapper",
+        "mybatis.datasources.users.executor-type:reuse").run(context -> {
+          assertThat(context).hasBean("ordersDataSource").hasBean("ordersTransactionManager")
+              .hasBean("ordersSqlSessionFactory").hasBean("ordersSqlSessionTemplate").hasBean("usersDataSource")
+              .hasBean("usersSqlSessionFactory").hasBean("usersSqlSessionTemplate").doesNotHaveBean("sqlSessionFactory")
+              .doesNotHaveBean("sqlSessionTemplate");
+          assertThat(context.getBean("ordersTransactionManager", DataSourceTransactionManager.class).getDataSource())
+              .isSameAs(context.getBean("ordersDataSource"));
+          assertThat(context.getBean("ordersSqlSessionFactory", SqlSessionFactory.class).getConfiguration()
+              .getEnvironment().getDataSource()).isSameAs(context.getBean("ordersDataSource"));
+          assertThat(context.getBean("usersSqlSessionTemplate", SqlSessionTemplate.class).getExecutorType())
+              .isEqualTo(ExecutorType.REUSE);
+
+          assertThat(context.getBean("&cityMapper", MapperFactoryBean.class).getSqlSession())
+              .isSameAs(context.getBean("ordersSqlSessionTemplate"));
+          // Only interfaces annotated with @Mapper are registered
+          assertThat(context).doesNotHaveBean(DateTimeMapper.class);
+
+          CityDataSourceConfiguration.createSchema(context.getBean("ordersDataSource", DataSource.class));
+          try (Connection connection = context.getBean("ordersDataSource", DataSource.class).getConnection();
+              Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+          }
+          assertThat(context.getBean(CityMapper.class).findById(1L).getName()).isEqualTo("San Francisco");
+
+          // Named data sources are not default candidates
+          assertThat(context.getBean(DataSource.class)).isSameAs(context.getBean("dataSource"));
+        });
+  }
+
+  @Test
+  void testSqlSessionFactoryBuiltSameAsAutoConfigured() {
+    this.contextRunner.withUserConfiguration(CustomizerConfiguration.class)
+        .withPropertyValues("mybatis.datasources.orders.url:jdbc:h2:mem:orders;DB_CLOSE_DELAY=-1",
+            "mybatis.configuration.map-underscore-to-camel-case:true",
+            "mybatis.datasources.orders.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain")
+        .run(context -> {
+          org.apache.ibatis.session.Configuration configuration = context
+              .getBean("ordersSqlSessionFactory", SqlSessionFactory.class).getConfiguration();
+          assertThat(configuration.isMapUnderscoreToCamelCase()).isTrue();
+          assertThat(configuration.getDefaultFetchSize()).isEqualTo(100);
+          assertThat(configuration.getTypeAliasRegistry().getTypeAliases()).containsKey("city");
+        });
+  }
+
+  @Test
+  void testPoolSettings() {
+    this.contextRunner.withPropertyValues("mybatis.datasources.orders.url:jdbc:h2:mem:orders;DB_CLOSE_DELAY=-1",
+        "mybatis.datasources.orders.type:" + SimpleDriverDataSource.class.getName(),
+        "mybatis.datasources.orders.pool.schema:orders").run(context -> {
+          assertThat(context.getBean("ordersDataSource")).isInstanceOfSatisfying(SimpleDriverDataSource.class,
+              dataSource -> assertThat(dataSource.getSchema()).isEqualTo("orders"));
+        });
+  }
+
+  @Test
+  void testNoNamedDataSources() {
+    this.contextRunner.run(context -> assertThat(context).hasSingleBean(SqlSessionFactory.class)
+        .hasBean("sqlSessionFactory").doesNotHaveBean("ordersDataSource"));
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class CustomizerConfiguration {
+
+    @Bean
+    ConfigurationCustomizer fetchSizeCustomizer() {
+      return configuration -> configuration.setDefaultFetchSize(100);
+    }
+
+  }
+
+}
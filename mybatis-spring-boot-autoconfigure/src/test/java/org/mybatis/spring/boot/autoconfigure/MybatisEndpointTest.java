@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.MybatisEndpoint.StatementDescriptor;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.repository.CityMapperImpl;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * Tests for {@link MybatisEndpoint} and {@link MybatisEndpointAutoConfiguration}.
+ */
+class MybatisEndpointTest {
+
+  private static final String STATEMENT_ID = CityMapperImpl.class.getName() + ".selectCityById";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisEndpointAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/repository/CityMapper.xml");
+
+  @Test
+  void testStatements() {
+    this.contextRunner.withPropertyValues("management.endpoints.web.exposure.include=mybatis").run(context -> {
+      try (Connection connection = context.getBean(DataSource.class).getConnection();
+          Statement statement = connection.createStatement()) {
+        statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+      }
+      SqlSessionTemplate sqlSessionTemplate = context.getBean(SqlSessionTemplate.class);
+      sqlSessionTemplate.selectOne(STATEMENT_ID, 1L);
+      sqlSessionTemplate.selectOne(STATEMENT_ID, 2L);
+
+      MybatisEndpoint endpoint = context.getBean(MybatisEndpoint.class);
+      List<StatementDescriptor> statements = endpoint.statements().getSqlSessionFactories().get("sqlSessionFactory");
+      StatementDescriptor descriptor = statements.stream().filter(s -> s.getId().equals(STATEMENT_ID)).findFirst()
+          .orElseThrow();
+      assertThat(descriptor.getCommand()).isEqualTo("SELECT");
+      assertThat(descriptor.getCount()).isEqualTo(2);
+      assertThat(descriptor.getRows()).isEqualTo(1);
+      assertThat(descriptor.getErrors()).isZero();
+      assertThat(descriptor.getMaxTime()).isPositive();
+      assertThat(descriptor.getMeanTime()).isEqualTo(descriptor.getTotalTime() / 2);
+      assertThat(descriptor.getCacheHitRatio()).isNull();
+
+      assertThat(endpoint.topStatements("count", 1).getSqlSessionFactories().get("sqlSessionFactory"))
+          .extracting(StatementDescriptor::getId).containsExactly(STATEMENT_ID);
+      assertThatIllegalArgumentException().isThrownBy(() -> endpoint.topStatements("unknown", 1));
+      assertThatIllegalArgumentException().isThrownBy(() -> endpoint.topStatements("count", -1));
+      assertThat(endpoint.topStatements("count", 0).getSqlSessionFactories().get("sqlSessionFactory")).isEmpty();
+
+      endpoint.reset();
+      assertThat(endpoint.topStatements("count", 1).getSqlSessionFactories().get("sqlSessionFactory").get(0)
+          .getCount()).isZero();
+    });
+  }
+
+  @Test
+  void testSharedTimingInterceptor() {
+    this.contextRunner
+        .withConfiguration(
+            AutoConfigurations.of(MybatisMetricsAutoConfiguration.class, MybatisSlowQueryAutoConfiguration.class))
+        .withBean(SimpleMeterRegistry.class)
+        .withPropertyValues("management.endpoints.web.exposure.include=mybatis", "mybatis.slow-query.threshold:1h")
+        .run(context -> {
+          org.apache.ibatis.session.Configuration configuration = context.getBean(SqlSessionFactory.class)
+              .getConfiguration();
+          assertThat(configuration.getInterceptors()).singleElement()
+              .isInstanceOf(MybatisStatementTimingInterceptor.class);
+          MybatisStatementTimingInterceptor interceptor = MybatisStatementTimingInterceptor.of(configuration);
+          assertThat(interceptor.getListener(MybatisStatisticsListener.class)).isNotNull();
+          assertThat(interceptor.getListener(MybatisMetricsListener.class)).isNotNull();
+          assertThat(interceptor.getListener(MybatisSlowQueryListener.class)).isNotNull();
+
+          context.getBean(SqlSessionTemplate.class).selectOne(STATEMENT_ID, 1L);
+          assertThat(interceptor.getListener(MybatisStatisticsListener.class).getStatistics(STATEMENT_ID).getCount())
+              .isEqualTo(1);
+          assertThat(context.getBean(MeterRegistry.class).get(MybatisMetricsListener.STATEMENT_METER_NAME)
+              .tag("statement", STATEMENT_ID).timer().count()).isEqualTo(1);
+        });
+  }
+
+  @Test
+  void testNotExposed() {
+    this.contextRunner.run(context -> assertThat(context).doesNotHaveBean(MybatisEndpoint.class));
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.city.CityTestMapper;
+import org.mybatis.spring.boot.autoconfigure.city.CityTestMapper.State;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tests for {@link MybatisFetchSizeTuningInterceptor} and {@link MybatisFetchSizeTuningAutoConfiguration}.
+ */
+class MybatisFetchSizeTuningTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisFetchSizeTuningAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class);
+
+  @Test
+  void testFetchSize() {
+    this.contextRunner.withPropertyValues("mybatis.fetch-size-tuning.enabled:true").run(context -> {
+      try (Connection connection = context.getBean(DataSource.class).getConnection();
+          Statement statement = connection.createStatement()) {
+        for (int id = 1; id <= 200; id++) {
+          statement.execute("INSERT INTO city (id, name) VALUES (" + id + ", 'City " + id + "')");
+        }
+      }
+      CityTestMapper mapper = context.getBean(SqlSessionTemplate.class).getMapper(CityTestMapper.class);
+      MybatisFetchSizeTuningInterceptor interceptor = getInterceptor(context.getBean(SqlSessionFactory.class));
+      String findAll = CityTestMapper.class.getName() + ".findAll";
+      String findById = CityTestMapper.class.getName() + ".findById";
+      assertThat(interceptor.getFetchSize(findAll)).isNull();
+
+      assertThat(mapper.findAll()).hasSize(200);
+      assertThat(mapper.findById(1L)).isNotNull();
+      assertThat(interceptor.getFetchSize(findAll)).isEqualTo(250);
+      assertThat(interceptor.getFetchSize(findById)).isEqualTo(10);
+    });
+  }
+
+  @Test
+  void testNestedResultMapsNotTuned() {
+    this.contextRunner.withPropertyValues("mybatis.fetch-size-tuning.enabled:true").run(context -> {
+      try (Connection connection = context.getBean(DataSource.class).getConnection();
+          Statement statement = connection.createStatement()) {
+        for (int id = 1; id <= 200; id++) {
+          statement.execute("INSERT INTO city VALUES (" + id + ", 'City " + id + "', 'CA')");
+        }
+      }
+      CityTestMapper mapper = context.getBean(SqlSessionTemplate.class).getMapper(CityTestMapper.class);
+      MybatisFetchSizeTuningInterceptor interceptor = getInterceptor(context.getBean(SqlSessionFactory.class));
+
+      List<State> states = mapper.findStates();
+      assertThat(states).hasSize(1);
+      assertThat(states.get(0).getCities()).hasSize(200);
+      // 200 rows are collapsed into a single object
+      assertThat(interceptor.getFetchSize(CityTestMapper.class.getName() + ".findStates")).isNull();
+    });
+  }
+
+  @Test
+  void testBounds() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new MybatisFetchSizeTuningInterceptor(0, 100));
+    assertThatIllegalArgumentException().isThrownBy(() -> new MybatisFetchSizeTuningInterceptor(100, 10));
+  }
+
+  @Test
+  void testDisabled() {
+    this.contextRunner.run(context -> assertThat(context.getBean(SqlSessionFactory.class).getConfiguration()
+        .getInterceptors()).noneMatch(MybatisFetchSizeTuningInterceptor.class::isInstance));
+  }
+
+  private static MybatisFetchSizeTuningInterceptor getInterceptor(SqlSessionFactory sqlSessionFactory) {
+    for (Interceptor interceptor : sqlSessionFactory.getConfiguration().getInterceptors()) {
+      if (interceptor instanceof MybatisFetchSizeTuningInterceptor) {
+        return (MybatisFetchSizeTuningInterceptor) interceptor;
+      }
+    }
+    throw new IllegalStateException("The interceptor is not added");
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class MapperConfiguration {
+
+    @Bean
+    ConfigurationCustomizer cityTestMapperCustomizer() {
+      return configuration -> configuration.addMapper(CityTestMapper.class);
+    }
+
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.spring.boot.autoconfigure.MybatisAutoConfiguration.AutoConfiguredMapperScannerRegistrar;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.AnnotationMetadata;
+
+/**
+ * Tests for {@link MybatisIndex}.
+ */
+class MybatisIndexTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testListClassFiles() throws IOException {
+    Path root = createIndexedRoot();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+      MybatisIndex index = MybatisIndex.get(classLoader);
+      URL packageUrl = classLoader.getResource("com/example/domain");
+      assertThat(index.listClassFiles(packageUrl.toString(), "com/example/domain"))
+          .containsExactly("com/example/domain/City.class", "com/example/domain/sub/Country.class");
+      assertThat(index.listClassFiles("file:/not-indexed/com/example/domain", "com/example/domain")).isNull();
+    }
+  }
+
+  @Test
+  void testTypes() throws IOException {
+    Path root = createIndexedRoot();
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() }, null)) {
+      MybatisIndex index = MybatisIndex.get(classLoader);
+      assertThat(index.isIndexed("com.example")).isTrue();
+      assertThat(index.isIndexed("org.example")).isFalse();
+      assertThat(index.getTypes("com.example.domain")).containsExactly("com.example.domain.City",
+          "com.example.domain.sub.Country");
+      assertThat(index.getTypes("com.example", MybatisIndex.MAPPER_STEREOTYPE))
+          .containsExactly("com.example.mapper.CityMapper");
+    }
+  }
+
+  @Test
+  void testRegisterIndexedMappers() throws IOException {
+    Path root = this.tempDir.resolve("classes");
+    Files.createDirectories(root.resolve("org/mybatis/spring/boot/autoconfigure"));
+    Files.createDirectories(root.resolve("META-INF"));
+    Files.writeString(root.resolve(MybatisIndex.INDEX_LOCATION),
+        "org.mybatis.spring.boot.autoconfigure.mapper.CityMapper=mapper\n"
+            + "org.mybatis.spring.boot.autoconfigure.sharding.ShardedCityMapper=\n");
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() },
+        getClass().getClassLoader()) {
+      @Override
+      public Enumeration<URL> getResources(String name) throws IOException {
+        // Hide the test classes directory, so that the package can be served from the index
+        return findResources(name);
+      }
+    }) {
+      DefaultListableBeanFactory beanFactory = registerMappers(classLoader);
+      assertThat(beanFactory.containsBeanDefinition("cityMapper")).isTrue();
+      assertThat(beanFactory.getBeanDefinition("cityMapper").getPropertyValues().contains("sqlSessionTemplate"))
+          .isTrue();
+      assertThat(beanFactory.containsBeanDefinition("shardedCityMapper")).isFalse();
+      assertThat(beanFactory.containsBeanDefinition(MapperScannerConfigurer.class.getName())).isFalse();
+    }
+  }
+
+  @Test
+  void testRegisterMapperScannerConfigurerWithoutIndex() {
+    DefaultListableBeanFactory beanFactory = registerMappers(getClass().getClassLoader());
+    assertThat(beanFactory.containsBeanDefinition(MapperScannerConfigurer.class.getName())).isTrue();
+    assertThat(beanFactory.containsBeanDefinition("cityMapper")).isFalse();
+  }
+
+  @Test
+  void testNoIndex() throws IOException {
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { this.tempDir.toUri().toURL() }, null)) {
+      MybatisIndex index = MybatisIndex.get(classLoader);
+      assertThat(index.isEmpty()).isTrue();
+      assertThat(index.isIndexed("com.example")).isFalse();
+    }
+  }
+
+  private DefaultListableBeanFactory registerMappers(ClassLoader classLoader) {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    AutoConfigurationPackages.register(beanFactory, "org.mybatis.spring.boot.autoconfigure");
+    AutoConfiguredMapperScannerRegistrar registrar = new AutoConfiguredMapperScannerRegistrar();
+    registrar.setBeanFactory(beanFactory);
+    registrar.setEnvironment(new StandardEnvironment());
+    registrar.setResourceLoader(new DefaultResourceLoader(classLoader));
+    registrar.registerBeanDefinitions(AnnotationMetadata.introspect(getClass()), beanFactory);
+    return beanFactory;
+  }
+
+  private Path createIndexedRoot() throws IOException {
+    Path root = this.tempDir.resolve("classes");
+    Files.createDirectories(root.resolve("com/example/domain/sub"));
+    Files.createDirectories(root.resolve("com/example/mapper"));
+    Files.createDirectories(root.resolve("META-INF"));
+    Files.writeString(root.resolve(MybatisIndex.INDEX_LOCATION),
+        "com.example.domain.City=alias\n" + "com.example.domain.sub.Country=\n"
+            + "com.example.mapper.CityMapper=mapper\n" + "com.example.handler.CityTypeHandler=type-handler\n");
+    return root;
+  }
+
+}
@@ -0,0 +1,165 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.boot.autoconfigure.repository.CityMapperImpl;
+import org.mybatis.spring.boot.autoconfigure.streaming.StreamingCityMapper;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Tests for {@link MybatisMetricsAutoConfiguration}.
+ */
+class MybatisMetricsAutoConfigurationTest {
+
+  private static final String STATEMENT_ID = CityMapperImpl.class.getName() + ".selectCityById";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisMetricsAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/repository/CityMapper.xml");
+
+  @Test
+  void testMetrics() {
+    this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class)
+        .withPropertyValues("mybatis.metrics.percentiles:0.5,0.99").run(context -> {
+          MeterRegistry registry = context.getBean(MeterRegistry.class);
+          Timer timer = registry.find(MybatisMetricsListener.STATEMENT_METER_NAME).tag("statement", STATEMENT_ID)
+              .tag("command", "SELECT").tag("sqlSessionFactory", "sqlSessionFactory").timer();
+          assertThat(timer).isNotNull();
+          assertThat(timer.count()).isZero();
+
+          try (Connection connection = context.getBean(DataSource.class).getConnection();
+              Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+          }
+          City city = context.getBean(SqlSessionTemplate.class).selectOne(STATEMENT_ID, 1L);
+          assertThat(city.getName()).isEqualTo("San Francisco");
+
+          assertThat(timer.count()).isEqualTo(1);
+          assertThat(timer.takeSnapshot().percentileValues()).hasSize(2);
+          assertThat(registry.get(MybatisMetricsListener.ROWS_METER_NAME).tag("statement", STATEMENT_ID).summary()
+              .totalAmount()).isEqualTo(1);
+          assertThat(registry.get(MybatisMetricsListener.ERRORS_METER_NAME).tag("statement", STATEMENT_ID)
+              .counter().count()).isZero();
+        });
+  }
+
+  @Test
+  void testDefaultPercentiles() {
+    this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).run(context -> {
+      Timer timer = context.getBean(MeterRegistry.class).get(MybatisMetricsListener.STATEMENT_METER_NAME)
+          .tag("statement", STATEMENT_ID).timer();
+      assertThat(timer.takeSnapshot().percentileValues()).hasSize(3);
+    });
+  }
+
+  @Test
+  void testCursorAndBatch() {
+    this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).run(context -> {
+      SqlSessionFactory sqlSessionFactory = context.getBean(SqlSessionFactory.class);
+      sqlSessionFactory.getConfiguration().addMapper(StreamingCityMapper.class);
+      try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+        StreamingCityMapper mapper = session.getMapper(StreamingCityMapper.class);
+        for (long id = 1; id <= 3; id++) {
+          City city = new City();
+          city.setId(id);
+          city.setName("City " + id);
+          mapper.insert(city);
+        }
+        session.commit();
+        try (Cursor<City> cursor = mapper.findAll()) {
+          assertThat(cursor).hasSize(3);
+        }
+      }
+
+      MeterRegistry registry = context.getBean(MeterRegistry.class);
+      String insertId = StreamingCityMapper.class.getName() + ".insert";
+      String findAllId = StreamingCityMapper.class.getName() + ".findAll";
+      assertThat(registry.get(MybatisMetricsListener.STATEMENT_METER_NAME).tag("statement", insertId).timer()
+          .count()).isEqualTo(3);
+      // The batch executor does not return affected rows
+      assertThat(registry.get(MybatisMetricsListener.ROWS_METER_NAME).tag("statement", insertId).summary()
+          .count()).isZero();
+      assertThat(registry.get(MybatisMetricsListener.STATEMENT_METER_NAME).tag("statement", findAllId).timer()
+          .count()).isEqualTo(1);
+      assertThat(registry.get(MybatisMetricsListener.ROWS_METER_NAME).tag("statement", findAllId).summary()
+          .count()).isZero();
+    });
+  }
+
+  @Test
+  void testErrorCount() {
+    this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class).run(context -> {
+      assertThatThrownBy(() -> context.getBean(SqlSessionTemplate.class).selectOne(STATEMENT_ID, 1L))
+          .isInstanceOf(DataAccessException.class);
+      MeterRegistry registry = context.getBean(MeterRegistry.class);
+      assertThat(registry.get(MybatisMetricsListener.ERRORS_METER_NAME).tag("statement", STATEMENT_ID).counter()
+          .count()).isEqualTo(1);
+      assertThat(registry.get(MybatisMetricsListener.STATEMENT_METER_NAME).tag("statement", STATEMENT_ID).timer()
+          .count()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void testNoMeterRegistry() {
+    this.contextRunner.run(context -> assertThat(
+        context.getBean(SqlSessionFactory.class).getConfiguration().getInterceptors()).isEmpty());
+  }
+
+  @Test
+  void testDisabled() {
+    this.contextRunner.withUserConfiguration(MeterRegistryConfiguration.class)
+        .withPropertyValues("mybatis.metrics.enabled:false").run(context -> {
+          assertThat(context).doesNotHaveBean(MybatisMetricsAutoConfiguration.class);
+          assertThat(context.getBean(MeterRegistry.class).getMeters()).isEmpty();
+        });
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class MeterRegistryConfiguration {
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.city.CityTestMapper;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link MybatisNPlusOneDetector} and {@link MybatisNPlusOneDetectorAutoConfiguration}.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class MybatisNPlusOneDetectorTest {
+
+  private static final String FIND_BY_ID = CityTestMapper.class.getName() + ".findById";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class,
+          DataSourceTransactionManagerAutoConfiguration.class, MybatisNPlusOneDetectorAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class);
+
+  @Test
+  void testWarn(CapturedOutput output) {
+    this.contextRunner.withPropertyValues("mybatis.n-plus-one.threshold:2").run(context -> {
+      insertCities(context.getBean(DataSource.class));
+      MybatisNPlusOneDetector detector = context.getBean(MybatisNPlusOneDetector.class);
+      inTransaction(context, () -> {
+        assertThat(mapper(context).findRefs()).hasSize(3);
+        assertThat(detector.getStatementCounts()).containsEntry(FIND_BY_ID, 3)
+            .containsEntry(CityTestMapper.class.getName() + ".findRefs", 1);
+        assertThat(detector.getViolations()).containsExactly(entry(FIND_BY_ID, 3));
+        detector.reset();
+        assertThat(detector.getViolations()).isEmpty();
+      });
+      assertThat(output).contains("Possible N+1 queries: the statement '" + FIND_BY_ID + "' ran 3 times");
+      // Statements outside of a transaction are not counted
+      assertThat(mapper(context).findRefs()).hasSize(3);
+      assertThat(detector.getStatementCounts()).isEmpty();
+    });
+  }
+
+  @Test
+  void testException() {
+    this.contextRunner.withPropertyValues("mybatis.n-plus-one.threshold:2", "mybatis.n-plus-one.action:exception")
+        .run(context -> {
+          insertCities(context.getBean(DataSource.class));
+          assertThatThrownBy(() -> inTransaction(context, () -> mapper(context).findRefs()))
+              .hasStackTraceContaining("Possible N+1 queries: the statement '" + FIND_BY_ID + "' ran 3 times");
+          // Counts are scoped to a transaction
+          inTransaction(context, () -> assertThat(mapper(context).findById(1L).getName()).isEqualTo("San Francisco"));
+        });
+  }
+
+  @Test
+  void testNotConfigured() {
+    this.contextRunner.run(context -> assertThat(context).doesNotHaveBean(MybatisNPlusOneDetector.class));
+  }
+
+  private static CityTestMapper mapper(ApplicationContext context) {
+    return context.getBean(SqlSessionTemplate.class).getMapper(CityTestMapper.class);
+  }
+
+  private static void inTransaction(ApplicationContext context, Runnable action) {
+    new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+        .executeWithoutResult(status -> action.run());
+  }
+
+  private static void insertCities(DataSource dataSource) throws Exception {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA'), (2, 'Los Angeles', 'CA'),"
+          + " (3, 'Seattle', 'WA')");
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class MapperConfiguration {
+
+    @Bean
+    ConfigurationCustomizer cityTestMapperCustomizer() {
+      return configuration -> configuration.addMapper(CityTestMapper.class);
+    }
+
+  }
+
+}
@@ -0,0 +1,169 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.mapper.CityMapper;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tests for {@link MybatisObservationAutoConfiguration} and {@link MybatisObservationInterceptor}.
+ */
+class MybatisObservationAutoConfigurationTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisObservationAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class);
+
+  @Test
+  void testMapperAndStatementObservations() {
+    this.contextRunner.withUserConfiguration(ObservationRegistryConfiguration.class).run(context -> {
+      insertCities(context.getBean(DataSource.class));
+      CityMapper cityMapper = context.getBean(CityMapper.class);
+      assertThat(AopUtils.isAopProxy(cityMapper)).isTrue();
+      assertThat(cityMapper.findById(1L).getName()).isEqualTo("San Francisco");
+
+      List<Observation.Context> contexts = context.getBean(RecordingHandler.class).contexts;
+      assertThat(contexts).extracting(Observation.Context::getName).containsExactly(
+          MybatisObservationInterceptor.STATEMENT_OBSERVATION_NAME,
+          MybatisObservationAutoConfiguration.MAPPER_OBSERVATION_NAME);
+      Observation.Context statement = contexts.get(0);
+      assertThat(statement.getLowCardinalityKeyValue("mybatis.statement").getValue())
+          .isEqualTo(CityMapper.class.getName() + ".findById");
+      assertThat(statement.getHighCardinalityKeyValue("mybatis.rows").getValue()).isEqualTo("1");
+      assertThat(statement.getParentObservation().getContextView().getName())
+          .isEqualTo(MybatisObservationAutoConfiguration.MAPPER_OBSERVATION_NAME);
+    });
+  }
+
+  @Test
+  void testBatchObservation() {
+    this.contextRunner.withUserConfiguration(ObservationRegistryConfiguration.class).run(context -> {
+      insertCities(context.getBean(DataSource.class));
+      SqlSessionFactory sqlSessionFactory = context.getBean(SqlSessionFactory.class);
+      org.apache.ibatis.session.Configuration configuration = sqlSessionFactory.getConfiguration();
+      configuration.addMappedStatement(new MappedStatement.Builder(configuration, "insertCity",
+          new StaticSqlSource(configuration, "INSERT INTO city (id, name, state) VALUES (100, 'Tokyo', 'JP')"),
+          SqlCommandType.INSERT).build());
+      try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+        sqlSession.insert("insertCity");
+        sqlSession.commit();
+        sqlSession.insert("insertCity");
+        sqlSession.insert("insertCity");
+        assertThatThrownBy(sqlSession::flushStatements).isInstanceOf(PersistenceException.class);
+      }
+      List<Observation.Context> allContexts = context.getBean(RecordingHandler.class).contexts;
+      // An update on the batch executor is observed when it is added to the batch, and again when it is flushed
+      String statementName = MybatisObservationInterceptor.STATEMENT_OBSERVATION_NAME;
+      String batchName = MybatisObservationInterceptor.BATCH_OBSERVATION_NAME;
+      assertThat(allContexts).extracting(Observation.Context::getName).containsExactly(statementName, batchName,
+          statementName, statementName, batchName);
+      assertThat(allContexts.get(0).getHighCardinalityKeyValue("mybatis.rows")).isNull();
+      List<Observation.Context> contexts = allContexts.stream().filter(c -> c.getName().equals(batchName)).toList();
+      assertThat(contexts.get(0).getHighCardinalityKeyValue("mybatis.batch.size").getValue()).isEqualTo("1");
+      assertThat(contexts.get(0).getHighCardinalityKeyValue("mybatis.statement").getValue()).isEqualTo("insertCity");
+      assertThat(contexts.get(0).getLowCardinalityKeyValue("mybatis.statement")).isNull();
+      assertThat(contexts.get(1).getHighCardinalityKeyValue("mybatis.batch.size").getValue()).isEqualTo("2");
+      assertThat(contexts.get(1).getError()).isNotNull();
+    });
+  }
+
+  @Test
+  void testNoObservationRegistry() {
+    this.contextRunner.run(context -> {
+      assertThat(AopUtils.isAopProxy(context.getBean(CityMapper.class))).isFalse();
+      assertThat(context.getBean(SqlSessionFactory.class).getConfiguration().getInterceptors()).isEmpty();
+    });
+  }
+
+  private static void insertCities(DataSource dataSource) throws Exception {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class MapperConfiguration {
+    @Bean
+    MapperFactoryBean<CityMapper> cityMapper(SqlSessionFactory sqlSessionFactory) {
+      MapperFactoryBean<CityMapper> factoryBean = new MapperFactoryBean<>(CityMapper.class);
+      factoryBean.setSqlSessionFactory(sqlSessionFactory);
+      return factoryBean;
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class ObservationRegistryConfiguration {
+    @Bean
+    RecordingHandler recordingHandler() {
+      return new RecordingHandler();
+    }
+
+    @Bean
+    ObservationRegistry observationRegistry(RecordingHandler recordingHandler) {
+      ObservationRegistry registry = ObservationRegistry.create();
+      registry.observationConfig().observationHandler(recordingHandler);
+      return registry;
+    }
+  }
+
+  static class RecordingHandler implements ObservationHandler<Observation.Context> {
+
+    private final List<Observation.Context> contexts = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onStop(Observation.Context context) {
+      contexts.add(context);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+      return true;
+    }
+
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.boot.autoconfigure.repository.CityMapperImpl;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Tests for {@link MybatisParallelExecutor} and {@link MybatisParallelExecutorAutoConfiguration}.
+ */
+class MybatisParallelExecutorTest {
+
+  private static final String STATEMENT_ID = CityMapperImpl.class.getName() + ".selectCityById";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisParallelExecutorAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/repository/CityMapper.xml");
+
+  @Test
+  void testDefaultMaxConcurrency() {
+    this.contextRunner
+        .run(context -> assertThat(context.getBean(MybatisParallelExecutor.class).getMaxConcurrency()).isEqualTo(5));
+  }
+
+  @Test
+  void testExecutorClosedWithContext() {
+    this.contextRunner.run(context -> {
+      MybatisParallelExecutor executor = context.getBean(MybatisParallelExecutor.class);
+      context.close();
+      assertThatExceptionOfType(RejectedExecutionException.class)
+          .isThrownBy(() -> executor.submit(sqlSession -> sqlSession.selectOne(STATEMENT_ID, 1L)));
+    });
+  }
+
+  @Test
+  void testInvokeAll() {
+    this.contextRunner.withPropertyValues("mybatis.parallel.max-concurrency:2").run(context -> {
+      try (Connection connection = context.getBean(DataSource.class).getConnection();
+          Statement statement = connection.createStatement()) {
+        statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+        statement.execute("INSERT INTO city VALUES (2, 'Tokyo', 'TK')");
+      }
+      MybatisParallelExecutor executor = context.getBean(MybatisParallelExecutor.class);
+      assertThat(executor.getMaxConcurrency()).isEqualTo(2);
+
+      AtomicInteger running = new AtomicInteger();
+      AtomicInteger maxRunning = new AtomicInteger();
+      List<Function<SqlSession, String>> calls = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        long id = i % 2 + 1;
+        calls.add(sqlSession -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            Thread.sleep(50);
+            City city = sqlSession.selectOne(STATEMENT_ID, id);
+            return city.getName();
+          } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+          } finally {
+            running.decrementAndGet();
+          }
+        });
+      }
+      assertThat(executor.invokeAll(calls)).containsExactly("San Francisco", "Tokyo", "San Francisco", "Tokyo",
+          "San Francisco", "Tokyo");
+      assertThat(maxRunning.get()).isBetween(1, 2);
+    });
+  }
+
+  @Test
+  void testTranslateException() {
+    this.contextRunner.run(context -> {
+      CompletableFuture<Object> future = context.getBean(MybatisParallelExecutor.class)
+          .submit(sqlSession -> sqlSession.selectOne(STATEMENT_ID, 1L));
+      assertThatExceptionOfType(CompletionException.class).isThrownBy(future::join)
+          .withCauseInstanceOf(DataAccessException.class);
+    });
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.apache.ibatis.binding.BindingException;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.boot.autoconfigure.reactive.ReactiveCityMapper;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.BadSqlGrammarException;
+
+/**
+ * Tests for {@link MybatisReactiveMapperInterceptor} and {@link MybatisReactiveMapperAutoConfiguration}.
+ */
+class MybatisReactiveMapperTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisReactiveMapperAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class)
+      .withPropertyValues("mybatis.reactive.enabled:true");
+
+  @Test
+  void testReactiveMethods() {
+    this.contextRunner.run(context -> {
+      ReactiveCityMapper mapper = context.getBean(ReactiveCityMapper.class);
+      for (long id = 1; id <= 100; id++) {
+        City city = new City();
+        city.setId(id);
+        city.setName("City " + id);
+        assertThat(mapper.insert(city).block()).isEqualTo(1);
+      }
+
+      assertThat(mapper.findById(1L).block().getName()).isEqualTo("City 1");
+      assertThat(mapper.findById(101L).blockOptional()).isEmpty();
+      assertThat(mapper.findAll().count().block()).isEqualTo(100);
+      assertThat(mapper.findAll().limitRate(10).take(3).map(City::getName).collectList().block())
+          .containsExactly("City 1", "City 2", "City 3");
+      assertThatExceptionOfType(BindingException.class)
+          .isThrownBy(() -> mapper.insertAsFlux(new City()).blockFirst());
+    });
+  }
+
+  @Test
+  void testFluxErrorTranslated() {
+    this.contextRunner.run(context -> {
+      // The table does not exist
+      ReactiveCityMapper mapper = context.getBean(ReactiveCityMapper.class);
+      assertThatExceptionOfType(BadSqlGrammarException.class).isThrownBy(() -> mapper.findAll().blockFirst());
+    });
+  }
+
+  @Test
+  void testDisabledByDefault() {
+    new ApplicationContextRunner()
+        .withConfiguration(
+            AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisReactiveMapperAutoConfiguration.class))
+        .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+        .run(context -> assertThat(context)
+            .doesNotHaveBean(MybatisReactiveMapperAutoConfiguration.SCHEDULER_BEAN_NAME));
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @MapperScan(basePackageClasses = ReactiveCityMapper.class)
+  static class MapperConfiguration {
+  }
+
+}
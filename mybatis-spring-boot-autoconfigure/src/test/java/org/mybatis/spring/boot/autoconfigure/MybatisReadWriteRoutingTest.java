@@ -0,0 +1,146 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.h2.Driver;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.boot.autoconfigure.repository.CityMapperImpl;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link MybatisReadWriteRoutingAutoConfiguration} and {@link MybatisReadWriteRoutingDataSource}.
+ */
+class MybatisReadWriteRoutingTest {
+
+  private static final String STATEMENT_ID = CityMapperImpl.class.getName() + ".selectCityById";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisReadWriteRoutingAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:classpath:org/mybatis/spring/boot/autoconfigure/repository/CityMapper.xml");
+
+  @Test
+  void testRouteSelectsToReplicas() {
+    this.contextRunner.withPropertyValues("mybatis.replicas.enabled:true",
+        "mybatis.replicas.data-sources[0].url:jdbc:h2:mem:replica-a;DB_CLOSE_DELAY=-1",
+        "mybatis.replicas.data-sources[1].url:jdbc:h2:mem:replica-b;DB_CLOSE_DELAY=-1").run(context -> {
+          DataSource primary = context.getBean(DataSource.class);
+          initialize(primary, "Primary");
+          initialize(dataSource("jdbc:h2:mem:replica-a"), "Replica A");
+          initialize(dataSource("jdbc:h2:mem:replica-b"), "Replica B");
+          assertThat(context.getBean(SqlSessionFactory.class).getConfiguration().getEnvironment().getDataSource())
+              .isInstanceOf(MybatisReadWriteRoutingDataSource.class);
+
+          SqlSessionTemplate sqlSessionTemplate = context.getBean(SqlSessionTemplate.class);
+          assertThat(List.of(selectCity(sqlSessionTemplate).getName(), selectCity(sqlSessionTemplate).getName()))
+              .containsExactlyInAnyOrder("Replica A", "Replica B");
+
+          City city = new TransactionTemplate(new DataSourceTransactionManager(primary))
+              .execute(status -> selectCity(sqlSessionTemplate));
+          assertThat(city.getName()).isEqualTo("Primary");
+
+          // A connection in a synchronization scope is bound to the primary data source and reused by later writes
+          TransactionTemplate supports = new TransactionTemplate(new DataSourceTransactionManager(primary));
+          supports.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+          assertThat(supports.execute(status -> selectCity(sqlSessionTemplate)).getName()).isEqualTo("Primary");
+        });
+  }
+
+  @Test
+  void testPoolSettings() {
+    this.contextRunner.withPropertyValues("mybatis.replicas.enabled:true",
+        "mybatis.replicas.data-sources[0].url:jdbc:h2:mem:replica-e;DB_CLOSE_DELAY=-1",
+        "mybatis.replicas.data-sources[0].type:" + SimpleDriverDataSource.class.getName(),
+        "mybatis.replicas.data-sources[0].pool.schema:replica").run(context -> {
+          MybatisReadWriteRoutingDataSource dataSource = context
+              .getBean(MybatisReadWriteRoutingAutoConfiguration.ReadWriteRoutingSqlSessionFactoryBeanCustomizer.class)
+              .getDataSource();
+          assertThat(dataSource.getReplicas()).singleElement().isInstanceOfSatisfying(SimpleDriverDataSource.class,
+              replica -> assertThat(replica.getSchema()).isEqualTo("replica"));
+        });
+  }
+
+  @Test
+  void testDisabled() {
+    this.contextRunner.run(context -> {
+      assertThat(context).doesNotHaveBean(MybatisReadWriteRoutingAutoConfiguration.class);
+      assertThat(context.getBean(SqlSessionFactory.class).getConfiguration().getEnvironment().getDataSource())
+          .isSameAs(context.getBean(DataSource.class));
+    });
+  }
+
+  @Test
+  void testLeastOutstanding() throws Exception {
+    DataSource primary = dataSource("jdbc:h2:mem:primary-c");
+    MybatisReadWriteRoutingDataSource dataSource = new MybatisReadWriteRoutingDataSource(primary,
+        List.of(dataSource("jdbc:h2:mem:replica-c"), dataSource("jdbc:h2:mem:replica-d")),
+        MybatisReplicaStrategy.LEAST_OUTSTANDING);
+    MybatisReadWriteRoutingDataSource.setReadOnly(true);
+    try (Connection first = dataSource.getConnection()) {
+      assertThat(dataSource.getOutstanding(0)).isEqualTo(1);
+      try (Connection second = dataSource.getConnection()) {
+        assertThat(dataSource.getOutstanding(1)).isEqualTo(1);
+      }
+      assertThat(dataSource.getOutstanding(1)).isZero();
+      try (Connection third = dataSource.getConnection()) {
+        // The replica that has no outstanding connection is chosen
+        assertThat(dataSource.getOutstanding(1)).isEqualTo(1);
+      }
+    } finally {
+      MybatisReadWriteRoutingDataSource.setReadOnly(false);
+    }
+    assertThat(dataSource.getOutstanding(0)).isZero();
+    try (Connection connection = dataSource.getConnection()) {
+      assertThat(connection.getMetaData().getURL()).isEqualTo("jdbc:h2:mem:primary-c");
+    }
+  }
+
+  private static City selectCity(SqlSessionTemplate sqlSessionTemplate) {
+    return sqlSessionTemplate.selectOne(STATEMENT_ID, 1L);
+  }
+
+  private static DataSource dataSource(String url) {
+    return new SimpleDriverDataSource(new Driver(), url);
+  }
+
+  private static void initialize(DataSource dataSource, String name) throws Exception {
+    CityDataSourceConfiguration.createSchema(dataSource);
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO city VALUES (1, '" + name + "', 'CA')");
+    }
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+import org.mybatis.spring.boot.autoconfigure.sharding.ShardedCityMapper;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link MybatisShardedSqlSessionTemplate}.
+ */
+class MybatisShardedSqlSessionTemplateTest {
+
+  private static final String[] SHARDS = { "shard0", "shard1", "shard2" };
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(
+          AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisDataSourcesAutoConfiguration.class))
+      .withUserConfiguration(PropertyPlaceholderAutoConfiguration.class)
+      .withPropertyValues("mybatis.datasources.shard0.url:jdbc:h2:mem:shard0;DB_CLOSE_DELAY=-1",
+          "mybatis.datasources.shard1.url:jdbc:h2:mem:shard1;DB_CLOSE_DELAY=-1",
+          "mybatis.datasources.shard2.url:jdbc:h2:mem:shard2;DB_CLOSE_DELAY=-1",
+          "mybatis.sharding.data-sources:shard0,shard1,shard2",
+          "mybatis.sharding.base-packages:org.mybatis.spring.boot.autoconfigure.sharding");
+
+  @Test
+  void testRouteAndScatterGather() {
+    this.contextRunner.run(context -> {
+      createSchema(context);
+      ShardedCityMapper mapper = context.getBean(ShardedCityMapper.class);
+      MybatisShardedSqlSessionTemplate template = context.getBean(MybatisShardedSqlSessionTemplate.class);
+      assertThat(template.getShards()).hasSize(3);
+
+      Map<SqlSessionTemplate, Integer> expectedCounts = new HashMap<>();
+      for (long id = 1; id <= 30; id++) {
+        City city = new City();
+        city.setId(id);
+        city.setName("City " + id);
+        assertThat(mapper.insert(city)).isEqualTo(1);
+        expectedCounts.merge(template.getShard(id), 1, Integer::sum);
+      }
+      for (int i = 0; i < SHARDS.length; i++) {
+        assertThat(count(context, SHARDS[i])).isEqualTo(expectedCounts.getOrDefault(template.getShards().get(i), 0));
+      }
+      assertThat(expectedCounts).hasSizeGreaterThan(1);
+
+      assertThat(mapper.findById(7L).getName()).isEqualTo("City 7");
+      assertThat(mapper.findAll()).hasSize(30);
+      assertThatIllegalStateException().isThrownBy(mapper::findAllWithoutShardKey);
+      assertThat(mapper.deleteAll()).isEqualTo(30);
+      assertThat(mapper.findAll()).isEmpty();
+    });
+  }
+
+  @Test
+  void testScatterGatherWithRowBounds() {
+    this.contextRunner.run(context -> {
+      createSchema(context);
+      ShardedCityMapper mapper = context.getBean(ShardedCityMapper.class);
+      MybatisShardedSqlSessionTemplate template = context.getBean(MybatisShardedSqlSessionTemplate.class);
+      for (long id = 1; id <= 30; id++) {
+        City city = new City();
+        city.setId(id);
+        city.setName("City " + id);
+        mapper.insert(city);
+      }
+
+      assertThat(mapper.findPage(new RowBounds(0, 10))).hasSize(10);
+      assertThat(mapper.findPage(new RowBounds(25, 10))).hasSize(5);
+      assertThat(mapper.findPage(new RowBounds(30, 10))).isEmpty();
+      assertThat(mapper.findPage(RowBounds.DEFAULT)).hasSize(30);
+      assertThat(mapper.findPage(new RowBounds(10, 10))).extracting(City::getId)
+          .doesNotContainAnyElementsOf(mapper.findPage(new RowBounds(0, 10)).stream().map(City::getId).toList());
+      assertThatIllegalArgumentException().isThrownBy(() -> template.selectMap(
+          ShardedCityMapper.class.getName() + ".findAll", null, "id", new RowBounds(0, 10)));
+    });
+  }
+
+  @Test
+  void testScatterGatherWriteInTransaction() {
+    this.contextRunner.run(context -> {
+      createSchema(context);
+      ShardedCityMapper mapper = context.getBean(ShardedCityMapper.class);
+      TransactionTemplate transactionTemplate = new TransactionTemplate(
+          context.getBean("shard0TransactionManager", PlatformTransactionManager.class));
+      assertThatIllegalStateException()
+          .isThrownBy(() -> transactionTemplate.executeWithoutResult(status -> mapper.deleteAll()));
+      assertThat(transactionTemplate.execute(status -> mapper.findAll())).isEmpty();
+      assertThat(mapper.deleteAll()).isZero();
+    });
+  }
+
+  private static void createSchema(AssertableApplicationContext context) {
+    for (String shard : SHARDS) {
+      CityDataSourceConfiguration.createSchema(context.getBean(shard + "DataSource", DataSource.class));
+    }
+  }
+
+  private static int count(AssertableApplicationContext context, String shard) throws Exception {
+    try (Connection connection = context.getBean(shard + "DataSource", DataSource.class).getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM city")) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.mybatis.spring.boot.autoconfigure.city.CityDataSourceConfiguration;
+import org.mybatis.spring.boot.autoconfigure.city.CityTestMapper;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tests for {@link MybatisSlowQueryListener} and {@link MybatisSlowQueryAutoConfiguration}.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class MybatisSlowQueryTest {
+
+  private static final String STATEMENT_ID = CityTestMapper.class.getName() + ".findByName";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class, MybatisSlowQueryAutoConfiguration.class))
+      .withUserConfiguration(CityDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class);
+
+  @Test
+  void testSlowQuery(CapturedOutput output) {
+    this.contextRunner.withPropertyValues("mybatis.slow-query.threshold:0ms", "mybatis.slow-query.min-interval:1h")
+        .run(context -> {
+          insertCities(context.getBean(DataSource.class));
+          CityTestMapper mapper = context.getBean(SqlSessionTemplate.class).getMapper(CityTestMapper.class);
+          assertThat(mapper.findByName("San Francisco")).hasSize(1);
+          assertThat(mapper.findByName("Tokyo")).isEmpty();
+
+          // The second execution is suppressed by the rate limit
+          assertThat(output.getOut().split("Slow statement: id=" + STATEMENT_ID, -1)).hasSize(2);
+          assertThat(output).contains("sql=[SELECT * FROM city WHERE name = ?]", "parameters=[San Francisco]",
+              "caller=" + MybatisSlowQueryTest.class.getName() + ".lambda$testSlowQuery$", "suppressed=0")
+              .doesNotContain("parameters=[Tokyo]");
+        });
+  }
+
+  @Test
+  void testParameterSampling(CapturedOutput output) {
+    this.contextRunner.withPropertyValues("mybatis.slow-query.threshold:0ms", "mybatis.slow-query.min-interval:0ms",
+        "mybatis.slow-query.parameter-sample-rate:0").run(context -> {
+          insertCities(context.getBean(DataSource.class));
+          context.getBean(SqlSessionTemplate.class).getMapper(CityTestMapper.class).findByName("San Francisco");
+          assertThat(output).contains("Slow statement: id=" + STATEMENT_ID, "parameters=(not sampled)")
+              .doesNotContain("parameters=[San Francisco]");
+        });
+  }
+
+  @Test
+  void testNotConfigured() {
+    this.contextRunner.run(context -> assertThat(context.getBean(SqlSessionFactory.class).getConfiguration()
+        .getInterceptors()).noneMatch(MybatisStatementTimingInterceptor.class::isInstance));
+  }
+
+  private static void insertCities(DataSource dataSource) throws Exception {
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO city VALUES (1, 'San Francisco', 'CA')");
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  static class MapperConfiguration {
+
+    @Bean
+    ConfigurationCustomizer cityTestMapperCustomizer() {
+      return configuration -> configuration.addMapper(CityTestMapper.class);
+    }
+
+  }
+
+}
@@ -0,0 +1,158 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link MybatisStartupCache}.
+ */
+class MybatisStartupCacheTest {
+
+  private static final String LOCATION = "classpath*:com/example/domain/**/*.class";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testCachedOnJarClasspath() throws IOException {
+    Path jar = createJar("app.jar", "com/example/domain/City.class");
+    Path cacheFile = this.tempDir.resolve("mybatis-startup.cache");
+    AtomicInteger scans = new AtomicInteger();
+    MybatisStartupCache.ClassScanner scanner = jarScanner(jar, scans);
+
+    MybatisStartupCache cache = MybatisStartupCache.load(cacheFile, new MybatisProperties(), jar.toString());
+    assertThat(cache.listClassNames(LOCATION, scanner)).containsExactly("com.example.domain.City");
+    cache.save();
+    assertThat(cacheFile).exists();
+
+    cache = MybatisStartupCache.load(cacheFile, new MybatisProperties(), jar.toString());
+    assertThat(cache.listClassNames(LOCATION, scanner)).containsExactly("com.example.domain.City");
+    assertThat(scans).hasValue(1);
+  }
+
+  @Test
+  void testInvalidatedByJarChange() throws IOException {
+    Path jar = createJar("app.jar", "com/example/domain/City.class");
+    Path cacheFile = this.tempDir.resolve("mybatis-startup.cache");
+    AtomicInteger scans = new AtomicInteger();
+    MybatisStartupCache.ClassScanner scanner = jarScanner(jar, scans);
+
+    MybatisStartupCache cache = MybatisStartupCache.load(cacheFile, new MybatisProperties(), jar.toString());
+    cache.listClassNames(LOCATION, scanner);
+    cache.save();
+
+    FileTime lastModified = Files.getLastModifiedTime(jar);
+    createJar("app.jar", "com/example/domain/City.class", "com/example/domain/Country.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified.toMillis() + 1000));
+
+    cache = MybatisStartupCache.load(cacheFile, new MybatisProperties(), jar.toString());
+    assertThat(cache.listClassNames(LOCATION, scanner)).containsExactlyInAnyOrder("com.example.domain.City",
+        "com.example.domain.Country");
+    assertThat(scans).hasValue(2);
+  }
+
+  @Test
+  void testInvalidatedBySettingsChange() throws IOException {
+    Path jar = createJar("app.jar", "com/example/domain/City.class");
+    Path cacheFile = this.tempDir.resolve("mybatis-startup.cache");
+    AtomicInteger scans = new AtomicInteger();
+    MybatisStartupCache.ClassScanner scanner = jarScanner(jar, scans);
+
+    MybatisStartupCache cache = MybatisStartupCache.load(cacheFile, new MybatisProperties(), jar.toString());
+    cache.listClassNames(LOCATION, scanner);
+    cache.save();
+
+    MybatisProperties properties = new MybatisProperties();
+    properties.setTypeAliasesPackage("com.example.domain");
+    cache = MybatisStartupCache.load(cacheFile, properties, jar.toString());
+    cache.listClassNames(LOCATION, scanner);
+    assertThat(scans).hasValue(2);
+  }
+
+  @Test
+  void testDisabledOnDirectoryClasspath() throws IOException {
+    Path jar = createJar("app.jar", "com/example/domain/City.class");
+    Path classes = Files.createDirectories(this.tempDir.resolve("classes"));
+    String classpath = jar + File.pathSeparator + classes;
+    assertThat(MybatisStartupCache.load(this.tempDir.resolve("mybatis-startup.cache"), new MybatisProperties(),
+        classpath)).isNull();
+  }
+
+  @Test
+  void testNotCachedOutsideJarFiles() throws IOException {
+    Path jar = createJar("app.jar", "com/example/domain/City.class");
+    Path cacheFile = this.tempDir.resolve("mybatis-startup.cache");
+    URL classFile = this.tempDir.resolve("City.class").toUri().toURL();
+    AtomicInteger scans = new AtomicInteger();
+    MybatisStartupCache.ClassScanner scanner = () -> {
+      scans.incrementAndGet();
+      return Map.of("com.example.domain.City", classFile);
+    };
+
+    MybatisStartupCache cache = MybatisStartupCache.load(cacheFile, new MybatisProperties(), jar.toString());
+    cache.listClassNames(LOCATION, scanner);
+    cache.listClassNames(LOCATION, scanner);
+    cache.save();
+    assertThat(scans).hasValue(2);
+  }
+
+  private Path createJar(String name, String... entries) throws IOException {
+    Path jar = this.tempDir.resolve(name);
+    try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+      for (String entry : entries) {
+        jarOut.putNextEntry(new JarEntry(entry));
+        jarOut.write(new byte[] { (byte) 0xCA, (byte) 0xFE });
+        jarOut.closeEntry();
+      }
+    }
+    return jar;
+  }
+
+  private static MybatisStartupCache.ClassScanner jarScanner(Path jar, AtomicInteger scans) {
+    return () -> {
+      scans.incrementAndGet();
+      Map<String, URL> classes = new TreeMap<>();
+      try (JarFile jarFile = new JarFile(jar.toFile())) {
+        for (JarEntry entry : Collections.list(jarFile.entries())) {
+          String className = entry.getName().replace(".class", "").replace('/', '.');
+          classes.put(className, URI.create("jar:" + jar.toUri() + "!/" + entry.getName()).toURL());
+        }
+      }
+      return classes;
+    };
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.annotation.MapperScan;
+import org.mybatis.spring.boot.autoconfigure.mapper.CityMapper;
+import org.mybatis.spring.boot.autoconfigure.repository.CityMapperImpl;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.boot.context.properties.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.EmbeddedDataSourceConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Tests for startup steps recorded by {@link MybatisAutoConfiguration} and {@link MybatisStartupStepPostProcessor}.
+ */
+class MybatisStartupStepTest {
+
+  private static final String MAPPER_LOCATION = "classpath:org/mybatis/spring/boot/autoconfigure/repository/"
+      + "CityMapper.xml";
+
+  private static final String STATEMENT_ID = CityMapperImpl.class.getName() + ".selectCityById";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MybatisAutoConfiguration.class))
+      .withUserConfiguration(EmbeddedDataSourceConfiguration.class, PropertyPlaceholderAutoConfiguration.class,
+          MapperConfiguration.class)
+      .withPropertyValues("mybatis.type-aliases-package:org.mybatis.spring.boot.autoconfigure.domain",
+          "mybatis.mapper-locations:" + MAPPER_LOCATION);
+
+  @Test
+  void testStepsRecorded() {
+    BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(1000);
+    this.contextRunner.withInitializer(context -> context.setApplicationStartup(applicationStartup))
+        .run(context -> {
+          assertThat(context).hasNotFailed();
+          List<StartupStep> steps = mybatisSteps(applicationStartup);
+          assertThat(steps).extracting(StartupStep::getName).contains("mybatis.mapper-locations.resolve",
+              "mybatis.sql-session-factory.build", "mybatis.mapper-interface.parse");
+          // Mapper xml files are parsed by the SqlSessionFactoryBean as without recording
+          assertThat(steps).extracting(StartupStep::getName).doesNotContain("mybatis.mapper-xml.parse");
+          assertThat(tag(steps, "mybatis.sql-session-factory.build", "typeAliasesPackage"))
+              .isEqualTo("org.mybatis.spring.boot.autoconfigure.domain");
+          assertThat(tag(steps, "mybatis.mapper-interface.parse", "mapperInterface"))
+              .isEqualTo(CityMapper.class.getName());
+          assertThat(context.getBean(SqlSessionFactory.class).getConfiguration().hasStatement(STATEMENT_ID)).isTrue();
+        });
+  }
+
+  @Test
+  void testStepsRecordedWithParallelMapperParsing() {
+    BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(1000);
+    this.contextRunner.withInitializer(context -> context.setApplicationStartup(applicationStartup))
+        .withPropertyValues("mybatis.startup.parallel-mapper-parsing:true").run(context -> {
+          assertThat(context).hasNotFailed();
+          List<StartupStep> steps = mybatisSteps(applicationStartup);
+          assertThat(tag(steps, "mybatis.mapper-xml.parse", "resource")).contains("CityMapper.xml");
+          assertThat(context.getBean(SqlSessionFactory.class).getConfiguration().hasStatement(STATEMENT_ID)).isTrue();
+        });
+  }
+
+  @Test
+  void testStepsNotRecordedByDefault() {
+    this.contextRunner.run(context -> {
+      assertThat(context).hasNotFailed();
+      assertThat(context).hasSingleBean(MybatisStartupStepPostProcessor.class);
+      assertThat(context.getBean(SqlSessionFactory.class).getConfiguration().hasStatement(STATEMENT_ID)).isTrue();
+    });
+  }
+
+  private static List<StartupStep> mybatisSteps(BufferingApplicationStartup applicationStartup) {
+    return applicationStartup.getBufferedTimeline().getEvents().stream().map(TimelineEvent::getStartupStep)
+        .filter(step -> step.getName().startsWith("mybatis.")).toList();
+  }
+
+  private static String tag(List<StartupStep> steps, String name, String key) {
+    return steps.stream().filter(step -> step.getName().equals(name))
+        .flatMap(step -> StreamSupport.stream(step.getTags().spliterator(), false))
+        .filter(tag -> tag.getKey().equals(key)).map(StartupStep.Tag::getValue).findFirst().orElse(null);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @MapperScan(basePackageClasses = CityMapper.class)
+  static class MapperConfiguration {
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.MapKey;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+
+public interface AsyncCityMapper {
+
+  @Insert("INSERT INTO city (id, name) VALUES (#{id}, #{name})")
+  CompletableFuture<Integer> insert(City city);
+
+  @Select("SELECT * FROM city WHERE id = #{id}")
+  CompletableFuture<City> findById(@Param("id") Long id);
+
+  @Select("SELECT * FROM city WHERE id = #{id}")
+  CompletableFuture<Optional<City>> findOptionalById(@Param("id") Long id);
+
+  @Select("SELECT * FROM city ORDER BY id")
+  CompletableFuture<List<City>> findAll();
+
+  @MapKey("id")
+  @Select("SELECT * FROM city")
+  CompletableFuture<Map<Long, City>> findAllAsMap();
+
+  @Select("SELECT * FROM city WHERE id = #{id}")
+  City findByIdSync(@Param("id") Long id);
+
+  @Select("SELECT AUTOCOMMIT()")
+  CompletableFuture<Boolean> isAutoCommit();
+
+}
@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.bulk;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.mybatis.spring.boot.autoconfigure.MybatisBulkInsert;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+
+public interface BulkCityMapper {
+
+  @InsertProvider
+  @MybatisBulkInsert(table = "city", columns = { "id", "name" }, maxRows = 2)
+  int insertAll(List<City> cities);
+
+  @InsertProvider
+  @MybatisBulkInsert(table = "city", columns = { "id", "name" }, conflictColumns = "id")
+  long upsertAll(@Param("cities") List<City> cities);
+
+  @Select("SELECT COUNT(*) FROM city")
+  int count();
+
+  @Select("SELECT name FROM city WHERE id = #{id}")
+  String findNameById(@Param("id") Long id);
+
+}
@@ -0,0 +1,52 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.city;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Configuration of an embedded data source that has the {@code city} table created by {@value #SCHEMA_LOCATION}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class CityDataSourceConfiguration {
+
+  public static final String SCHEMA_LOCATION = "db/city/schema.sql";
+
+  @Bean(destroyMethod = "shutdown")
+  EmbeddedDatabase dataSource() {
+    return new EmbeddedDatabaseBuilder().generateUniqueName(true).setType(EmbeddedDatabaseType.H2)
+        .addScript(SCHEMA_LOCATION).build();
+  }
+
+  /**
+   * Create (or recreate) the {@code city} table on the given data source.
+   *
+   * @param dataSource
+   *          a data source that is not created by this configuration (e.g. a named data source)
+   */
+  public static void createSchema(DataSource dataSource) {
+    new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_LOCATION)).execute(dataSource);
+  }
+
+}
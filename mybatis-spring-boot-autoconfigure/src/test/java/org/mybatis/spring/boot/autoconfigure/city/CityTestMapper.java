@@ -0,0 +1,102 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.city;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Many;
+import org.apache.ibatis.annotations.One;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+
+/**
+ * Mapper for the {@code city} table of the {@link CityDataSourceConfiguration}.
+ */
+public interface CityTestMapper {
+
+  @Results(id = "cityResult", value = { @Result(property = "id", column = "id", id = true),
+      @Result(property = "name", column = "name") })
+  @Select("SELECT * FROM city ORDER BY id")
+  List<City> findAll();
+
+  @Select("SELECT * FROM city WHERE id = #{id}")
+  City findById(@Param("id") Long id);
+
+  @Select("SELECT * FROM city WHERE name = #{name}")
+  List<City> findByName(@Param("name") String name);
+
+  @Results({ @Result(property = "name", column = "state", id = true),
+      @Result(property = "cities", javaType = List.class, many = @Many(resultMap = "cityResult")) })
+  @Select("SELECT * FROM city ORDER BY state, id")
+  List<State> findStates();
+
+  @Select("SELECT id FROM city ORDER BY id")
+  @Results({ @Result(property = "id", column = "id", id = true),
+      @Result(property = "city", column = "id", one = @One(select = "findById")) })
+  List<CityRef> findRefs();
+
+  class State {
+
+    private String name;
+
+    private List<City> cities;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public List<City> getCities() {
+      return cities;
+    }
+
+    public void setCities(List<City> cities) {
+      this.cities = cities;
+    }
+
+  }
+
+  class CityRef {
+
+    private Long id;
+
+    private City city;
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+
+    public City getCity() {
+      return city;
+    }
+
+    public void setCity(City city) {
+      this.city = city;
+    }
+
+  }
+
+}
@@ -0,0 +1,40 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+
+public interface ReactiveCityMapper {
+
+  @Insert("INSERT INTO city (id, name) VALUES (#{id}, #{name})")
+  Mono<Integer> insert(City city);
+
+  @Insert("INSERT INTO city (id, name) VALUES (#{id}, #{name})")
+  Flux<Integer> insertAsFlux(City city);
+
+  @Select("SELECT * FROM city WHERE id = #{id}")
+  Mono<City> findById(@Param("id") Long id);
+
+  @Select("SELECT * FROM city ORDER BY id")
+  Flux<City> findAll();
+
+}
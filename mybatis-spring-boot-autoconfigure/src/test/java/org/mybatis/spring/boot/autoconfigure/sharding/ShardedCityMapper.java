@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.autoconfigure.sharding;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.RowBounds;
+import org.mybatis.spring.boot.autoconfigure.MybatisScatterGather;
+import org.mybatis.spring.boot.autoconfigure.MybatisShardKey;
+import org.mybatis.spring.boot.autoconfigure.domain.City;
+
+@Mapper
+public interface ShardedCityMapper {
+
+  @MybatisShardKey("id")
+  @Insert("INSERT INTO city (id, name) VALUES (#{id}, #{name})")
+  int insert(City city);
+
+  @MybatisShardKey("id")
+  @Select("SELECT * FROM city WHERE id = #{id}")
+  City findById(@Param("id") Long id);
+
+  @MybatisScatterGather
+  @Select("SELECT * FROM city ORDER BY id")
+  List<City> findAll();
+
+  @MybatisScatterGather
+  @Select("SELECT * FROM city ORDER BY id")
+  List<City> findPage(RowBounds rowBounds);
+
+  @MybatisScatterGather
+  @Delete("DELETE FROM city")
+  int deleteAll();
+
+  @Select("SELECT * FROM city")
+  List<City> findAllWithoutShardKey();
+
+}
@@ -0,0 +1,57 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * The application that benchmarks run against. It uses an embedded H2 database that initialized with 1000 cities.
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+
+  /**
+   * Start the application.
+   *
+   * @param properties
+   *          additional properties in form {@literal key=value}
+   *
+   * @return the application context
+   */
+  public static ConfigurableApplicationContext start(String... properties) {
+    return start(ApplicationStartup.DEFAULT, properties);
+  }
+
+  /**
+   * Start the application with recording startup steps.
+   *
+   * @param applicationStartup
+   *          the application startup that records startup steps
+   * @param properties
+   *          additional properties in form {@literal key=value}
+   *
+   * @return the application context
+   */
+  public static ConfigurableApplicationContext start(ApplicationStartup applicationStartup, String... properties) {
+    return new SpringApplicationBuilder(BenchmarkApplication.class).web(WebApplicationType.NONE)
+        .applicationStartup(applicationStartup).properties(properties).run();
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures inserting rows in a transaction with each {@link ExecutorType}. The transaction is rolled back after each
+ * invocation for keeping the table size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExecutorTypeBenchmark {
+
+  @Param({ "SIMPLE", "REUSE", "BATCH" })
+  private ExecutorType executorType;
+
+  @Param({ "1", "100" })
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+
+  private SqlSessionTemplate sqlSessionTemplate;
+
+  private CityMapper cityMapper;
+
+  private TransactionTemplate transactionTemplate;
+
+  @Setup
+  public void setUp() {
+    this.context = BenchmarkApplication.start();
+    this.sqlSessionTemplate = new SqlSessionTemplate(context.getBean(SqlSessionFactory.class), executorType);
+    this.cityMapper = sqlSessionTemplate.getMapper(CityMapper.class);
+    this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+  }
+
+  @Benchmark
+  public int insert() {
+    return transactionTemplate.execute(status -> {
+      int count = 0;
+      for (int i = 0; i < rows; i++) {
+        count += cityMapper.insert(new City("City " + i, "CA", "US"));
+      }
+      sqlSessionTemplate.flushStatements();
+      status.setRollbackOnly();
+      return count;
+    });
+  }
+
+}
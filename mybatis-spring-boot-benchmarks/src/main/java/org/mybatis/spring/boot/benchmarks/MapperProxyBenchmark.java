@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the overhead of invoking a statement via a mapper proxy compared with invoking it by the statement id,
+ * on a {@code DefaultSqlSession} and on a mapper bean (backed by the {@code SqlSessionTemplate}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperProxyBenchmark {
+
+  private static final String FIND_BY_ID = CityMapper.class.getName() + ".findById";
+
+  private ConfigurableApplicationContext context;
+
+  private SqlSession sqlSession;
+
+  private CityMapper sessionMapper;
+
+  private CityMapper mapperBean;
+
+  @Setup
+  public void setUp() {
+    this.context = BenchmarkApplication.start();
+    this.sqlSession = context.getBean(SqlSessionFactory.class).openSession(true);
+    this.sessionMapper = sqlSession.getMapper(CityMapper.class);
+    this.mapperBean = context.getBean(CityMapper.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.sqlSession.close();
+    this.context.close();
+  }
+
+  @Benchmark
+  public City statementId() {
+    return sqlSession.selectOne(FIND_BY_ID, 1L);
+  }
+
+  @Benchmark
+  public City mapperProxy() {
+    return sessionMapper.findById(1L);
+  }
+
+  @Benchmark
+  public City mapperBean() {
+    return mapperBean.findById(1L);
+  }
+
+}
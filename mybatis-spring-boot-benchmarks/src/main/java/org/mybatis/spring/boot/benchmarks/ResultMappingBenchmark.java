@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures mapping rows to objects with the auto-mapping compared with an explicit result map.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultMappingBenchmark {
+
+  @Param({ "10", "100", "1000" })
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+
+  private SqlSession sqlSession;
+
+  private CityMapper cityMapper;
+
+  @Setup
+  public void setUp() {
+    this.context = BenchmarkApplication.start();
+    this.sqlSession = context.getBean(SqlSessionFactory.class).openSession(true);
+    this.cityMapper = sqlSession.getMapper(CityMapper.class);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.sqlSession.close();
+    this.context.close();
+  }
+
+  @Benchmark
+  public List<City> autoMapping() {
+    return cityMapper.findAllWithAutoMapping(rows);
+  }
+
+  @Benchmark
+  public List<City> resultMap() {
+    return cityMapper.findAllWithResultMap(rows);
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures a select via a mapper bean when the second level cache hits, with the default cache (a synchronized
+ * {@code PerpetualCache} that returns a deserialized copy) and the {@code MybatisCaffeineCache}, compared with a select
+ * without the cache. Runs on 4 threads for showing the contention on the cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SecondLevelCacheBenchmark {
+
+  private ConfigurableApplicationContext context;
+
+  private CityMapper cityMapper;
+
+  private CachedCityMapper cachedCityMapper;
+
+  private CaffeineCachedCityMapper caffeineCachedCityMapper;
+
+  @Setup
+  public void setUp() {
+    this.context = BenchmarkApplication.start();
+    this.cityMapper = context.getBean(CityMapper.class);
+    this.cachedCityMapper = context.getBean(CachedCityMapper.class);
+    this.caffeineCachedCityMapper = context.getBean(CaffeineCachedCityMapper.class);
+    // A result is put into the second level cache when a session is committed
+    this.cachedCityMapper.findById(1L);
+    this.caffeineCachedCityMapper.findById(1L);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.context.close();
+  }
+
+  @Benchmark
+  public City noCache() {
+    return cityMapper.findById(1L);
+  }
+
+  @Benchmark
+  public City defaultCache() {
+    return cachedCityMapper.findById(1L);
+  }
+
+  @Benchmark
+  public City caffeineCache() {
+    return caffeineCachedCityMapper.findById(1L);
+  }
+
+}
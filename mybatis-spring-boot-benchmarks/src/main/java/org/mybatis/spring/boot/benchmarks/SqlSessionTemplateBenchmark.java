@@ -0,0 +1,90 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures the overhead of the {@link SqlSessionTemplate} proxy compared with a {@code DefaultSqlSession} that is
+ * opened once, with and without a Spring managed transaction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SqlSessionTemplateBenchmark {
+
+  private static final String FIND_BY_ID = CityMapper.class.getName() + ".findById";
+
+  private ConfigurableApplicationContext context;
+
+  private SqlSession sqlSession;
+
+  private SqlSessionTemplate sqlSessionTemplate;
+
+  private TransactionTemplate transactionTemplate;
+
+  @Setup
+  public void setUp() {
+    this.context = BenchmarkApplication.start();
+    this.sqlSession = context.getBean(SqlSessionFactory.class).openSession(true);
+    this.sqlSessionTemplate = context.getBean(SqlSessionTemplate.class);
+    this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.sqlSession.close();
+    this.context.close();
+  }
+
+  @Benchmark
+  public City defaultSqlSession() {
+    return sqlSession.selectOne(FIND_BY_ID, 1L);
+  }
+
+  @Benchmark
+  public City sqlSessionTemplate() {
+    return sqlSessionTemplate.selectOne(FIND_BY_ID, 1L);
+  }
+
+  @Benchmark
+  public City sqlSessionTemplateInTransaction() {
+    return transactionTemplate.execute(status -> sqlSessionTemplate.selectOne(FIND_BY_ID, 1L));
+  }
+
+}
@@ -0,0 +1,190 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures the startup time of an application that has a large number of synthetic mapper xml files, with and without
+ * the parallel mapper parsing.
+ * <p>
+ * Each synthetic mapper has a result map that extends a result map of the next mapper, so that the forward references
+ * are resolved as pending result maps. Running the {@link #main(String[])} prints the total duration of each MyBatis
+ * startup step recorded by a {@link BufferingApplicationStartup}.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+  @Param({ "100", "1000", "3000" })
+  private int mappers;
+
+  @Param({ "false", "true" })
+  private boolean parallel;
+
+  private Path directory;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.directory = generateMappers(mappers);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    delete(directory);
+  }
+
+  @Benchmark
+  public int startup() {
+    try (ConfigurableApplicationContext context = BenchmarkApplication.start(properties(directory, parallel))) {
+      return context.getBean(SqlSessionFactory.class).getConfiguration().getMappedStatementNames().size();
+    }
+  }
+
+  /**
+   * Print the startup time and the total duration of each MyBatis startup step for the given number of mappers
+   * (default is 1000). Recording steps does not change the code path that is measured by {@link #startup()}.
+   *
+   * @param args
+   *          the number of mappers and whether parse mapper xml files in parallel
+   *
+   * @throws IOException
+   *           if synthetic mapper xml files cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    int mappers = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+    boolean parallel = args.length > 1 && Boolean.parseBoolean(args[1]);
+    Path directory = generateMappers(mappers);
+    try {
+      BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(mappers * 4 + 1000);
+      applicationStartup.addFilter(step -> step.getName().startsWith("mybatis."));
+      long start = System.nanoTime();
+      BenchmarkApplication.start(applicationStartup, properties(directory, parallel)).close();
+      Duration startup = Duration.ofNanos(System.nanoTime() - start);
+      Map<String, Duration> durations = new TreeMap<>();
+      Map<String, Integer> counts = new TreeMap<>();
+      for (TimelineEvent event : applicationStartup.getBufferedTimeline().getEvents()) {
+        String name = event.getStartupStep().getName();
+        durations.merge(name, event.getDuration(), Duration::plus);
+        counts.merge(name, 1, Integer::sum);
+      }
+      System.out.printf("%d mappers (parallel=%s): %d ms%n", mappers, parallel, startup.toMillis());
+      durations.forEach((name, duration) -> System.out.printf("  %-36s %6d steps %8d ms%n", name, counts.get(name),
+          duration.toMillis()));
+    } finally {
+      delete(directory);
+    }
+  }
+
+  private static String[] properties(Path directory, boolean parallel) {
+    return new String[] { "mybatis.mapper-locations=" + directory.toUri() + "*.xml",
+        "mybatis.startup.parallel-mapper-parsing=" + parallel, "spring.sql.init.mode=never" };
+  }
+
+  private static Path generateMappers(int mappers) throws IOException {
+    Path directory = Files.createTempDirectory("mybatis-mappers");
+    for (int i = 0; i < mappers; i++) {
+      Files.writeString(directory.resolve("SyntheticMapper" + i + ".xml"), mapperXml(i, (i + 1) % mappers),
+          StandardCharsets.UTF_8);
+    }
+    return directory;
+  }
+
+  private static String mapperXml(int index, int next) {
+    String namespace = "synthetic.Mapper" + index;
+    return """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <!DOCTYPE mapper PUBLIC "-//mybatis.org//DTD Mapper 3.0//EN" "https://mybatis.org/dtd/mybatis-3-mapper.dtd">
+        <mapper namespace="%1$s">
+          <resultMap id="cityMap" type="City">
+            <id property="id" column="id"/>
+            <result property="name" column="name"/>
+          </resultMap>
+          <resultMap id="detailMap" type="City" extends="synthetic.Mapper%2$d.cityMap">
+            <result property="state" column="state"/>
+            <result property="country" column="country"/>
+          </resultMap>
+          <sql id="columns">id, name, state, country</sql>
+          <select id="findById" resultMap="detailMap">
+            SELECT <include refid="columns"/> FROM city WHERE id = #{id}
+          </select>
+          <select id="findByName" resultMap="cityMap">
+            SELECT <include refid="columns"/> FROM city
+            <where>
+              <if test="name != null">name LIKE #{name}</if>
+            </where>
+          </select>
+          <insert id="insert" useGeneratedKeys="true" keyProperty="id">
+            INSERT INTO city (name, state, country) VALUES (#{name}, #{state}, #{country})
+          </insert>
+          <update id="update">
+            UPDATE city
+            <set>
+              <if test="name != null">name = #{name},</if>
+              <if test="state != null">state = #{state},</if>
+            </set>
+            WHERE id = #{id}
+          </update>
+          <delete id="delete">DELETE FROM city WHERE id = #{id}</delete>
+        </mapper>
+        """.formatted(namespace, next);
+  }
+
+  private static void delete(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+        try {
+          Files.delete(path);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
+
+}
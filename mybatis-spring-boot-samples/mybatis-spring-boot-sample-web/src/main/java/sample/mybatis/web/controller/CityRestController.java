@@ -1,5 +1,5 @@
 /*
- *    Copyright 2015-2022 the original author or authors.
+ *    Copyright 2015-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,13 +15,19 @@
  */
 package sample.mybatis.web.controller;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import sample.mybatis.web.domain.City;
 import sample.mybatis.web.mapper.CityMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 @RequestMapping("/cities")
 @RestController
@@ -29,8 +35,15 @@ public class CityRestController {
 
   private final CityMapper cityMapper;
 
-  public CityRestController(CityMapper cityMapper) {
+  private final PlatformTransactionManager transactionManager;
+
+  private final JsonMapper jsonMapper;
+
+  public CityRestController(CityMapper cityMapper, PlatformTransactionManager transactionManager,
+      JsonMapper jsonMapper) {
     this.cityMapper = cityMapper;
+    this.transactionManager = transactionManager;
+    this.jsonMapper = jsonMapper;
   }
 
   @GetMapping("{state}")
@@ -38,4 +51,17 @@ public class CityRestController {
     return cityMapper.findByState(state);
   }
 
+  @GetMapping(produces = CursorStreamingResponseBody.NDJSON_CONTENT_TYPE)
+  StreamingResponseBody exportCitiesAsNdjson() {
+    return CursorStreamingResponseBody.ndjson(transactionManager, cityMapper::findAll,
+        jsonMapper::writeValueAsString);
+  }
+
+  @GetMapping(produces = CursorStreamingResponseBody.CSV_CONTENT_TYPE)
+  StreamingResponseBody exportCitiesAsCsv() {
+    return CursorStreamingResponseBody.csv(transactionManager, cityMapper::findAll,
+        List.of("id", "name", "state", "country"),
+        city -> Arrays.asList(city.getId(), city.getName(), city.getState(), city.getCountry()));
+  }
+
 }
@@ -0,0 +1,216 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package sample.mybatis.web.controller;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * {@link StreamingResponseBody} that writes rows of a MyBatis {@link Cursor} to a response as NDJSON or CSV.
+ * <p>
+ * The cursor is opened by calling a mapper method in a read-only transaction when the response starts streaming, and
+ * the transaction is committed after the last row is written. Rows are written through a small buffer that is flushed
+ * every {@link #withChunkSize(int) chunk}, so the memory usage does not depend on the number of rows (please specify
+ * the {@code fetchSize} of the statement for a JDBC driver that reads all rows by default).
+ * </p>
+ *
+ * <pre class="code">
+ * &#64;GetMapping(path = "/cities", produces = CursorStreamingResponseBody.NDJSON_CONTENT_TYPE)
+ * StreamingResponseBody exportCities() {
+ *   return CursorStreamingResponseBody.ndjson(transactionManager, cityMapper::findAll,
+ *       jsonMapper::writeValueAsString);
+ * }
+ * </pre>
+ *
+ * @param <T>
+ *          the type of rows
+ */
+public class CursorStreamingResponseBody<T> implements StreamingResponseBody {
+
+  /**
+   * The content type of NDJSON.
+   */
+  public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+  /**
+   * The content type of CSV.
+   */
+  public static final String CSV_CONTENT_TYPE = "text/csv";
+
+  private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+  private final TransactionOperations transactionOperations;
+
+  private final Supplier<Cursor<T>> query;
+
+  private final Function<? super T, String> lineEncoder;
+
+  private final String headerLine;
+
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  /**
+   * Constructor.
+   *
+   * @param transactionOperations
+   *          transaction operations that wrap the streaming
+   * @param query
+   *          a query that opens a cursor (e.g. a method reference to a mapper method returning {@link Cursor})
+   * @param lineEncoder
+   *          an encoder that converts a row to a line (without a line separator)
+   * @param headerLine
+   *          a first line (without a line separator), or {@code null}
+   */
+  public CursorStreamingResponseBody(TransactionOperations transactionOperations, Supplier<Cursor<T>> query,
+      Function<? super T, String> lineEncoder, String headerLine) {
+    this.transactionOperations = transactionOperations;
+    this.query = query;
+    this.lineEncoder = lineEncoder;
+    this.headerLine = headerLine;
+  }
+
+  /**
+   * Create a response body that writes each row as a JSON line.
+   *
+   * @param <T>
+   *          the type of rows
+   * @param transactionManager
+   *          a transaction manager that the mapper uses
+   * @param query
+   *          a query that opens a cursor
+   * @param jsonEncoder
+   *          an encoder that converts a row to a single line JSON (e.g. {@code jsonMapper::writeValueAsString})
+   *
+   * @return a response body
+   */
+  public static <T> CursorStreamingResponseBody<T> ndjson(PlatformTransactionManager transactionManager,
+      Supplier<Cursor<T>> query, Function<? super T, String> jsonEncoder) {
+    return new CursorStreamingResponseBody<>(readOnly(transactionManager), query, jsonEncoder, null);
+  }
+
+  /**
+   * Create a response body that writes each row as a CSV record.
+   *
+   * @param <T>
+   *          the type of rows
+   * @param transactionManager
+   *          a transaction manager that the mapper uses
+   * @param query
+   *          a query that opens a cursor
+   * @param header
+   *          column names of the header record
+   * @param columnsExtractor
+   *          an extractor that returns column values of a row (a {@code null} is written as an empty field)
+   *
+   * @return a response body
+   */
+  public static <T> CursorStreamingResponseBody<T> csv(PlatformTransactionManager transactionManager,
+      Supplier<Cursor<T>> query, List<String> header, Function<? super T, List<?>> columnsExtractor) {
+    return new CursorStreamingResponseBody<>(readOnly(transactionManager), query,
+        row -> toCsvRecord(columnsExtractor.apply(row)), toCsvRecord(header));
+  }
+
+  /**
+   * Set the number of rows that are written between flushes. Default is 1000.
+   *
+   * @param chunkSize
+   *          the number of rows
+   *
+   * @return this response body
+   */
+  public CursorStreamingResponseBody<T> withChunkSize(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be greater than 0");
+    }
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  @Override
+  public void writeTo(OutputStream outputStream) throws IOException {
+    // Do not close the writer, because the output stream is managed by the servlet container
+    Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    try {
+      this.transactionOperations.executeWithoutResult(status -> write(writer));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+  }
+
+  private void write(Writer writer) {
+    try (Cursor<T> cursor = this.query.get()) {
+      if (this.headerLine != null) {
+        writeLine(writer, this.headerLine);
+      }
+      int count = 0;
+      for (T row : cursor) {
+        writeLine(writer, this.lineEncoder.apply(row));
+        if (++count % this.chunkSize == 0) {
+          writer.flush();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeLine(Writer writer, String line) throws IOException {
+    writer.write(line);
+    writer.write('\n');
+  }
+
+  private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+    return transactionTemplate;
+  }
+
+  static String toCsvRecord(List<?> values) {
+    StringBuilder record = new StringBuilder();
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        record.append(',');
+      }
+      Object value = values.get(i);
+      if (value == null) {
+        continue;
+      }
+      String field = value.toString();
+      if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+        record.append('"').append(field.replace("\"", "\"\"")).append('"');
+      } else {
+        record.append(field);
+      }
+    }
+    return record.toString();
+  }
+
+}
@@ -16,8 +16,10 @@
 package sample.mybatis.web.mapper;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
 
 import sample.mybatis.web.domain.City;
 
@@ -30,4 +32,8 @@ public interface CityMapper {
   @Select("select id, name, state, country from city where state = #{state}")
   City findByState(@Param("state") String state);
 
+  @Options(fetchSize = 1000)
+  @Select("select id, name, state, country from city order by id")
+  Cursor<City> findAll();
+
 }
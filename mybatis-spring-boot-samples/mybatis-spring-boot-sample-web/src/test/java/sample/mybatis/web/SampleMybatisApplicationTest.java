@@ -17,6 +17,7 @@ package sample.mybatis.web;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.resttestclient.TestRestTemplate;
 import org.springframework.boot.resttestclient.autoconfigure.AutoConfigureTestRestTemplate;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 
 /**
  * @author Kazuki Shimizu
@@ -43,4 +48,22 @@ class SampleMybatisApplicationTest {
         .containsEntry("state", "CA").containsEntry("country", "US");
   }
 
+  @Test
+  void testExportAsNdjson() {
+    String body = export("application/x-ndjson");
+    assertThat(body).startsWith("{").endsWith("}\n").contains("\"name\":\"San Francisco\"")
+        .contains("\"country\":\"US\"");
+  }
+
+  @Test
+  void testExportAsCsv() {
+    assertThat(export("text/csv")).isEqualTo("id,name,state,country\n1,San Francisco,CA,US\n");
+  }
+
+  private String export(String contentType) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setAccept(List.of(MediaType.parseMediaType(contentType)));
+    return this.restTemplate.exchange("/cities", HttpMethod.GET, new HttpEntity<>(headers), String.class).getBody();
+  }
+
 }
@@ -0,0 +1,84 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package sample.mybatis.web.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import sample.mybatis.web.domain.City;
+import sample.mybatis.web.mapper.CityMapper;
+
+/**
+ * Tests for {@link CursorStreamingResponseBody}.
+ */
+@MybatisTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CursorStreamingResponseBodyTest {
+
+  @Autowired
+  private CityMapper cityMapper;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void testNdjson() throws Exception {
+    CursorStreamingResponseBody<City> body = CursorStreamingResponseBody
+        .ndjson(transactionManager, cityMapper::findAll, city -> {
+          assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+          return "{\"id\":" + city.getId() + "}";
+        }).withChunkSize(1);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+    assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+  }
+
+  @Test
+  void testCsv() throws Exception {
+    CursorStreamingResponseBody<City> body = CursorStreamingResponseBody.csv(transactionManager, cityMapper::findAll,
+        List.of("id", "name"), city -> Arrays.asList(city.getId(), city.getName() + ", " + city.getState()));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("id,name\n1,\"San Francisco, CA\"\n");
+  }
+
+  @Test
+  void testCsvRecord() {
+    assertThat(CursorStreamingResponseBody.toCsvRecord(Arrays.asList("a\"b", null, "c\nd", 1)))
+        .isEqualTo("\"a\"\"b\",,\"c\nd\",1");
+  }
+
+  @Test
+  void testInvalidChunkSize() {
+    assertThatIllegalArgumentException().isThrownBy(() -> CursorStreamingResponseBody
+        .ndjson(transactionManager, cityMapper::findAll, City::getName).withChunkSize(0));
+  }
+
+}
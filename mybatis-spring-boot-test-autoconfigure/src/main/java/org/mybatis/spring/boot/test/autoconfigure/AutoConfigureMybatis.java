@@ -1,5 +1,5 @@
 /*
- *    Copyright 2015-2022 the original author or authors.
+ *    Copyright 2015-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,10 +23,16 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.TestExecutionListeners.MergeMode;
 
 /**
  * {@link ImportAutoConfiguration Auto-configuration imports} for typical Mybatis tests. Most tests should consider
  * using {@link MybatisTest @MybatisTest} rather than using this annotation directly.
+ * <p>
+ * This annotation also registers the {@link MybatisStatementRecorderTestExecutionListener} (merged with the default
+ * listeners), so statements can be asserted only in tests that use it.
+ * </p>
  *
  * @author wonwoo
  *
@@ -37,6 +43,8 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 @Documented
 @Inherited
 @ImportAutoConfiguration
+@TestExecutionListeners(listeners = MybatisStatementRecorderTestExecutionListener.class,
+    mergeMode = MergeMode.MERGE_WITH_DEFAULTS)
 public @interface AutoConfigureMybatis {
 
 }
@@ -0,0 +1,169 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.test.autoconfigure;
+
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * {@link Interceptor} that records statements sent to the database for assertions in tests.
+ * <p>
+ * Each execution of a statement (including nested selects and lazy loadings, excluding cache hits) is recorded as a
+ * {@link RecordedStatement}. Statements added to a JDBC batch by the {@code BATCH} executor are recorded as one entry
+ * per batch, and its duration is the time to add them to the batch.
+ * </p>
+ *
+ * @since 4.1.1
+ *
+ * @see MybatisStatementsAssert
+ */
+@Intercepts({
+    @Signature(type = StatementHandler.class, method = "query", args = { Statement.class, ResultHandler.class }),
+    @Signature(type = StatementHandler.class, method = "queryCursor", args = { Statement.class }),
+    @Signature(type = StatementHandler.class, method = "update", args = { Statement.class }),
+    @Signature(type = StatementHandler.class, method = "batch", args = { Statement.class }) })
+public class MybatisStatementRecorder implements Interceptor {
+
+  private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+
+  private final Map<Statement, RecordedStatement> batches = Collections.synchronizedMap(new WeakHashMap<>());
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      return invocation.proceed();
+    } finally {
+      record(invocation, System.nanoTime() - start);
+    }
+  }
+
+  private void record(Invocation invocation, long elapsed) {
+    StatementHandler statementHandler = (StatementHandler) invocation.getTarget();
+    if ("batch".equals(invocation.getMethod().getName())) {
+      Statement statement = (Statement) invocation.getArgs()[0];
+      RecordedStatement batch = batches.get(statement);
+      if (batch != null) {
+        batch.addBatch(elapsed);
+        return;
+      }
+      batch = newRecordedStatement(statementHandler, elapsed);
+      batches.put(statement, batch);
+      statements.add(batch);
+    } else {
+      statements.add(newRecordedStatement(statementHandler, elapsed));
+    }
+  }
+
+  private static RecordedStatement newRecordedStatement(StatementHandler statementHandler, long elapsed) {
+    Object target = statementHandler;
+    // Other plugins may wrap the handler
+    while (Proxy.isProxyClass(target.getClass()) && Proxy.getInvocationHandler(target) instanceof Plugin) {
+      target = SystemMetaObject.forObject(Proxy.getInvocationHandler(target)).getValue("target");
+    }
+    MappedStatement mappedStatement = (MappedStatement) SystemMetaObject.forObject(target)
+        .getValue("delegate.mappedStatement");
+    return new RecordedStatement(mappedStatement.getId(),
+        statementHandler.getBoundSql().getSql().replaceAll("\\s+", " ").trim(), elapsed);
+  }
+
+  /**
+   * Return recorded statements in the order of execution.
+   *
+   * @return recorded statements
+   */
+  public List<RecordedStatement> getStatements() {
+    return new ArrayList<>(statements);
+  }
+
+  /**
+   * Discard recorded statements.
+   */
+  public void reset() {
+    statements.clear();
+    batches.clear();
+  }
+
+  /**
+   * A statement sent to the database.
+   */
+  public static class RecordedStatement {
+
+    private final String id;
+
+    private final String sql;
+
+    private volatile int batchSize = 1;
+
+    private volatile long durationNanos;
+
+    RecordedStatement(String id, String sql, long durationNanos) {
+      this.id = id;
+      this.sql = sql;
+      this.durationNanos = durationNanos;
+    }
+
+    private synchronized void addBatch(long elapsed) {
+      batchSize++;
+      durationNanos += elapsed;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public String getSql() {
+      return sql;
+    }
+
+    /**
+     * Return the number of statements that executed in a JDBC batch.
+     *
+     * @return the batch size (1 when not batched)
+     */
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public Duration getDuration() {
+      return Duration.ofNanos(durationNanos);
+    }
+
+    @Override
+    public String toString() {
+      return id + " [" + sql + "] (batch size: " + batchSize + ", duration: " + getDuration().toMillis() + "ms)";
+    }
+
+  }
+
+}
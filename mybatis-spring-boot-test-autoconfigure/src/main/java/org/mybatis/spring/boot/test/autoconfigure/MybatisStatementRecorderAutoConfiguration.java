@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.test.autoconfigure;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration for the {@link MybatisStatementRecorder}, imported by
+ * {@link AutoConfigureMybatis @AutoConfigureMybatis}.
+ * <p>
+ * This configuration registers a {@link MybatisStatementRecorder} bean, and adds it to each {@link SqlSessionFactory}
+ * in the application context.
+ * </p>
+ *
+ * @since 4.1.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(SqlSessionFactory.class)
+public class MybatisStatementRecorderAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  MybatisStatementRecorder mybatisStatementRecorder() {
+    return new MybatisStatementRecorder();
+  }
+
+  @Bean
+  static StatementRecorderSqlSessionFactoryPostProcessor mybatisStatementRecorderSqlSessionFactoryPostProcessor(
+      ObjectProvider<MybatisStatementRecorder> recorder) {
+    return new StatementRecorderSqlSessionFactoryPostProcessor(recorder);
+  }
+
+  /**
+   * {@link BeanPostProcessor} that adds the {@link MybatisStatementRecorder} to each {@link SqlSessionFactory}.
+   */
+  static class StatementRecorderSqlSessionFactoryPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MybatisStatementRecorder> recorder;
+
+    StatementRecorderSqlSessionFactoryPostProcessor(ObjectProvider<MybatisStatementRecorder> recorder) {
+      this.recorder = recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof SqlSessionFactory) {
+        ((SqlSessionFactory) bean).getConfiguration().addInterceptor(this.recorder.getObject());
+      }
+      return bean;
+    }
+
+  }
+
+}
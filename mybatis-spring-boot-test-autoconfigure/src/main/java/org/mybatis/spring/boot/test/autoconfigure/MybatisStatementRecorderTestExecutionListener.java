@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.test.autoconfigure;
+
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+/**
+ * {@link org.springframework.test.context.TestExecutionListener} that binds the {@link MybatisStatementRecorder} in
+ * the application context to the current test, and discards statements recorded before the test method (e.g. by
+ * {@code @BeforeEach} methods).
+ *
+ * @since 4.1.1
+ */
+public class MybatisStatementRecorderTestExecutionListener extends AbstractTestExecutionListener {
+
+  private static final ThreadLocal<MybatisStatementRecorder> currentRecorder = new ThreadLocal<>();
+
+  @Override
+  public int getOrder() {
+    return Ordered.LOWEST_PRECEDENCE;
+  }
+
+  @Override
+  public void beforeTestExecution(TestContext testContext) {
+    if (!testContext.hasApplicationContext()) {
+      return;
+    }
+    MybatisStatementRecorder recorder = testContext.getApplicationContext()
+        .getBeanProvider(MybatisStatementRecorder.class).getIfAvailable();
+    if (recorder != null) {
+      recorder.reset();
+      currentRecorder.set(recorder);
+    }
+  }
+
+  @Override
+  public void afterTestExecution(TestContext testContext) {
+    currentRecorder.remove();
+  }
+
+  static MybatisStatementRecorder getCurrentRecorder() {
+    return currentRecorder.get();
+  }
+
+}
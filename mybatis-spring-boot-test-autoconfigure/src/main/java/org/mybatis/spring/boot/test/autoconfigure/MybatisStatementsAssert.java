@@ -0,0 +1,154 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.test.autoconfigure;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.AbstractAssert;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisStatementRecorder.RecordedStatement;
+
+/**
+ * AssertJ assertions for statements recorded by the {@link MybatisStatementRecorder}.
+ * <p>
+ * In a test using {@link MybatisTest @MybatisTest} (or {@link AutoConfigureMybatis @AutoConfigureMybatis}), statements
+ * executed by the test method are recorded, and they can be verified as follows:
+ * </p>
+ *
+ * <pre class="code">
+ * &#064;Test
+ * void findByState() {
+ *   cityMapper.findByState("CA");
+ *   assertThatStatements().hasCount(1);
+ * }
+ * </pre>
+ *
+ * @since 4.1.1
+ */
+public class MybatisStatementsAssert extends AbstractAssert<MybatisStatementsAssert, List<RecordedStatement>> {
+
+  MybatisStatementsAssert(List<RecordedStatement> statements) {
+    super(statements, MybatisStatementsAssert.class);
+  }
+
+  /**
+   * Create an assertion for statements that executed by the current test method.
+   *
+   * @return the assertion
+   *
+   * @throws IllegalStateException
+   *           if a {@link MybatisStatementRecorder} is not bound to the current test
+   */
+  public static MybatisStatementsAssert assertThatStatements() {
+    MybatisStatementRecorder recorder = MybatisStatementRecorderTestExecutionListener.getCurrentRecorder();
+    if (recorder == null) {
+      throw new IllegalStateException("A MybatisStatementRecorder is not bound to the current test."
+          + " Use the @MybatisTest or @AutoConfigureMybatis on the test class.");
+    }
+    return assertThatStatements(recorder);
+  }
+
+  /**
+   * Create an assertion for statements that recorded by the specified recorder.
+   *
+   * @param recorder
+   *          a statement recorder
+   *
+   * @return the assertion
+   */
+  public static MybatisStatementsAssert assertThatStatements(MybatisStatementRecorder recorder) {
+    return new MybatisStatementsAssert(recorder.getStatements());
+  }
+
+  /**
+   * Verify that the number of statements is equal to the expected.
+   *
+   * @param expected
+   *          the expected number of statements
+   *
+   * @return this assertion
+   */
+  public MybatisStatementsAssert hasCount(int expected) {
+    isNotNull();
+    if (actual.size() != expected) {
+      failWithMessage("Expected %d statement(s) but %d were executed:%n%s", expected, actual.size(), describe(actual));
+    }
+    return myself;
+  }
+
+  /**
+   * Verify that the number of statements is less than or equal to the maximum.
+   *
+   * @param max
+   *          the maximum number of statements
+   *
+   * @return this assertion
+   */
+  public MybatisStatementsAssert hasCountLessThanOrEqualTo(int max) {
+    isNotNull();
+    if (actual.size() > max) {
+      failWithMessage("Expected at most %d statement(s) but %d were executed:%n%s", max, actual.size(),
+          describe(actual));
+    }
+    return myself;
+  }
+
+  /**
+   * Verify that the number of executions of the specified statement is equal to the expected.
+   *
+   * @param statementId
+   *          an id of statement (a fully qualified id or an id without namespace)
+   * @param expected
+   *          the expected number of executions
+   *
+   * @return this assertion
+   */
+  public MybatisStatementsAssert hasCount(String statementId, int expected) {
+    isNotNull();
+    List<RecordedStatement> matched = actual.stream()
+        .filter(statement -> statement.getId().equals(statementId) || statement.getId().endsWith("." + statementId))
+        .collect(Collectors.toList());
+    if (matched.size() != expected) {
+      failWithMessage("Expected %d execution(s) of '%s' but %d were executed:%n%s", expected, statementId,
+          matched.size(), describe(actual));
+    }
+    return myself;
+  }
+
+  /**
+   * Verify that no statement takes longer than the specified duration.
+   *
+   * @param max
+   *          the maximum duration of a statement
+   *
+   * @return this assertion
+   */
+  public MybatisStatementsAssert hasNoStatementSlowerThan(Duration max) {
+    isNotNull();
+    List<RecordedStatement> slow = actual.stream().filter(statement -> statement.getDuration().compareTo(max) > 0)
+        .collect(Collectors.toList());
+    if (!slow.isEmpty()) {
+      failWithMessage("Expected no statement slower than %dms but found:%n%s", max.toMillis(), describe(slow));
+    }
+    return myself;
+  }
+
+  private static String describe(List<RecordedStatement> statements) {
+    return statements.stream().map(statement -> "  " + statement).collect(Collectors.joining(System.lineSeparator()));
+  }
+
+}
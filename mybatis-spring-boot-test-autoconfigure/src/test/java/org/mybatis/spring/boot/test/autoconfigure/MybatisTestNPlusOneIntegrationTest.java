@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.test.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.autoconfigure.MybatisNPlusOneDetector;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link MybatisTest} with the {@link MybatisNPlusOneDetector}.
+ *
+ * @since 4.1.1
+ */
+@MybatisTest(properties = { "mybatis.type-aliases-package=org.mybatis.spring.boot.test.autoconfigure",
+    "spring.sql.init.schema-locations=classpath:org/mybatis/spring/boot/test/autoconfigure/schema.sql",
+    "mybatis.n-plus-one.threshold=1" })
+class MybatisTestNPlusOneIntegrationTest {
+
+  @Autowired
+  private SqlSession sqlSession;
+
+  @Autowired
+  private MybatisNPlusOneDetector detector;
+
+  @Test
+  void testViolations() {
+    sqlSession.selectOne("findSample", 1L);
+    assertThat(detector.getViolations()).isEmpty();
+    sqlSession.selectOne("findSample", 2L);
+    assertThat(detector.getViolations())
+        .containsExactly(entry("org.mybatis.spring.boot.test.autoconfigure.SampleMapper.findSample", 2));
+  }
+
+  @Test
+  void testCountsAreScopedToTest() {
+    assertThat(detector.getStatementCounts()).isEmpty();
+  }
+
+}
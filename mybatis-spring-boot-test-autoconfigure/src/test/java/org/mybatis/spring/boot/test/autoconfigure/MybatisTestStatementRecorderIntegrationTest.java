@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2015-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.mybatis.spring.boot.test.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mybatis.spring.boot.test.autoconfigure.MybatisStatementsAssert.assertThatStatements;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestContextManager;
+
+/**
+ * Integration tests for {@link MybatisTest} with the {@link MybatisStatementRecorder}.
+ *
+ * @since 4.1.1
+ */
+@MybatisTest(properties = { "mybatis.type-aliases-package=org.mybatis.spring.boot.test.autoconfigure",
+    "spring.sql.init.schema-locations=classpath:org/mybatis/spring/boot/test/autoconfigure/schema.sql" })
+class MybatisTestStatementRecorderIntegrationTest {
+
+  @Autowired
+  private SqlSession sqlSession;
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private SampleMapper sampleMapper;
+
+  @Autowired
+  private MybatisStatementRecorder recorder;
+
+  @BeforeEach
+  void setUp() {
+    // Statements executed before the test method are not recorded
+    sqlSession.insert("saveSample", parameters(1, "wonwoo"));
+  }
+
+  @Test
+  void testHasCount() {
+    assertThat(sampleMapper.findByName("wonwoo").getId()).isEqualTo(1L);
+    assertThatStatements().hasCount(1).hasCount("findByName", 1)
+        .hasCount("org.mybatis.spring.boot.test.autoconfigure.SampleMapper.findSample", 0)
+        .hasCountLessThanOrEqualTo(1).hasNoStatementSlowerThan(Duration.ofMinutes(1));
+    assertThat(recorder.getStatements().get(0).getSql()).isEqualTo("select * from sample where name = ?");
+
+    assertThatThrownBy(() -> assertThatStatements().hasCount(2)).isInstanceOf(AssertionError.class)
+        .hasMessageContaining("Expected 2 statement(s) but 1 were executed")
+        .hasMessageContaining("SampleMapper.findByName [select * from sample where name = ?]");
+  }
+
+  @Test
+  void testBatch() {
+    try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+      for (int id = 2; id <= 4; id++) {
+        batchSession.insert("saveSample", parameters(id, "sample" + id));
+      }
+      batchSession.flushStatements();
+    }
+    assertThatStatements().hasCount(1);
+    assertThat(recorder.getStatements().get(0).getBatchSize()).isEqualTo(3);
+  }
+
+  @Test
+  void testListenerRegisteredOnlyForMybatisTest() {
+    assertThat(new TestContextManager(MybatisTestStatementRecorderIntegrationTest.class).getTestExecutionListeners())
+        .hasAtLeastOneElementOfType(MybatisStatementRecorderTestExecutionListener.class);
+    assertThat(new TestContextManager(PlainTest.class).getTestExecutionListeners())
+        .doesNotHaveAnyElementsOfTypes(MybatisStatementRecorderTestExecutionListener.class);
+  }
+
+  private static Map<String, Object> parameters(int id, String name) {
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("id", id);
+    parameters.put("name", name);
+    return parameters;
+  }
+
+  static class PlainTest {
+  }
+
+}